@@ -0,0 +1,63 @@
+package com.innowise.benchmark;
+
+import com.innowise.generator.OrderDataGenerator;
+import com.innowise.service.income.IncomeColumns;
+import com.innowise.service.income.IncomeKernel;
+import com.innowise.service.income.IncomeKernels;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the scalar and SIMD income kernels over pre-extracted columns.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"--add-modules", "jdk.incubator.vector", "-Xms4g", "-Xmx4g"})
+public class IncomeKernelBenchmark {
+
+    private static final long SEED = 20231001L;
+
+    @Param({"10000", "100000", "1000000"})
+    private int size;
+
+    @Param({"SCALAR", "VECTOR"})
+    private KernelType kernelType;
+
+    private IncomeColumns columns;
+    private IncomeKernel kernel;
+
+    public enum KernelType {
+        SCALAR, VECTOR
+    }
+
+    @Setup
+    public void setUp() {
+        columns = IncomeColumns.of(new OrderDataGenerator(SEED).generate(size));
+        kernel = kernelType == KernelType.VECTOR ? IncomeKernels.vector() : IncomeKernels.scalar();
+    }
+
+    @Benchmark
+    public double calculateTotalIncomeCompletedOrders() {
+        return kernel.calculateTotalIncomeCompletedOrders(columns);
+    }
+
+    @Benchmark
+    public double calculateAverageCheckDeliveredOrders() {
+        return kernel.calculateAverageCheckDeliveredOrders(columns);
+    }
+
+}
@@ -0,0 +1,98 @@
+package com.innowise.benchmark;
+
+import com.innowise.dto.Customer;
+import com.innowise.dto.Order;
+import com.innowise.generator.OrderDataGenerator;
+import com.innowise.service.OrderMetric;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks every {@link OrderMetric} method over synthetic datasets of several sizes,
+ * in sequential and parallel stream modes. Datasets are produced by {@link OrderDataGenerator}
+ * with a fixed seed, so runs are comparable across commits.
+ * <p>
+ * Larger sizes can be selected from the command line, for example {@code -p size=10000000};
+ * the heap of the forked JVM must then be raised with {@code -jvmArgsAppend -Xmx16g}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+public class OrderMetricBenchmark {
+
+    private static final long SEED = 20231001L;
+
+    @Param({"10000", "100000", "1000000"})
+    private int size;
+
+    @Param({"SEQUENTIAL", "PARALLEL"})
+    private ExecutionMode mode;
+
+    private List<Order> orders;
+
+    public enum ExecutionMode {
+        SEQUENTIAL, PARALLEL
+    }
+
+    @Setup
+    public void setUp() {
+        List<Order> generated = new OrderDataGenerator(SEED).generate(size);
+        orders = mode == ExecutionMode.PARALLEL ? new ParallelOrderList(generated) : generated;
+    }
+
+    @Benchmark
+    public List<String> getUniqueCities() {
+        return OrderMetric.getUniqueCities(orders);
+    }
+
+    @Benchmark
+    public double calculateTotalIncomeCompletedOrders() {
+        return OrderMetric.calculateTotalIncomeCompletedOrders(orders);
+    }
+
+    @Benchmark
+    public long calculateTotalIncomeCompletedOrdersCents() {
+        return OrderMetric.calculateTotalIncomeCompletedOrdersCents(orders);
+    }
+
+    @Benchmark
+    public String getMostPopularProduct() {
+        return OrderMetric.getMostPopularProduct(orders);
+    }
+
+    @Benchmark
+    public double calculateAverageCheckDeliveredOrders() {
+        return OrderMetric.calculateAverageCheckDeliveredOrders(orders);
+    }
+
+    @Benchmark
+    public long calculateAverageCheckDeliveredOrdersCents() {
+        return OrderMetric.calculateAverageCheckDeliveredOrdersCents(orders);
+    }
+
+    @Benchmark
+    public List<Customer> getCustomersWithMoreThanFiveOrders() {
+        return OrderMetric.getCustomersWithMoreThanFiveOrders(orders);
+    }
+
+    @Benchmark
+    public List<Customer> getCustomersWithMoreThanOrders() {
+        return OrderMetric.getCustomersWithMoreThanOrders(orders, 20);
+    }
+
+}
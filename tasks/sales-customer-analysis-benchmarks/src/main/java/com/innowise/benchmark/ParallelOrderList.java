@@ -0,0 +1,38 @@
+package com.innowise.benchmark;
+
+import com.innowise.dto.Order;
+
+import java.util.AbstractList;
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.stream.Stream;
+
+/**
+ * Read-only view of an order list whose {@link #stream()} is parallel.
+ * {@code OrderMetric} always calls {@code orders.stream()}, so passing this view
+ * measures the same public methods on the common fork/join pool.
+ */
+final class ParallelOrderList extends AbstractList<Order> implements RandomAccess {
+
+    private final List<Order> orders;
+
+    ParallelOrderList(List<Order> orders) {
+        this.orders = orders;
+    }
+
+    @Override
+    public Order get(int index) {
+        return orders.get(index);
+    }
+
+    @Override
+    public int size() {
+        return orders.size();
+    }
+
+    @Override
+    public Stream<Order> stream() {
+        return orders.parallelStream();
+    }
+
+}
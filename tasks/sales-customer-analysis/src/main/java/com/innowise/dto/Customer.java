@@ -10,6 +10,7 @@ public class Customer {
     private LocalDateTime registeredAt;
     private int age;
     private String city;
+    private long modificationStamp;
 
     public Customer(String customerId, String name, String email, LocalDateTime registeredAt, int age, String city) {
         this.customerId = customerId;
@@ -26,6 +27,7 @@ public class Customer {
 
     public void setCustomerId(String customerId) {
         this.customerId = customerId;
+        modificationStamp++;
     }
 
     public String getName() {
@@ -34,6 +36,7 @@ public class Customer {
 
     public void setName(String name) {
         this.name = name;
+        modificationStamp++;
     }
 
     public String getEmail() {
@@ -42,6 +45,7 @@ public class Customer {
 
     public void setEmail(String email) {
         this.email = email;
+        modificationStamp++;
     }
 
     public LocalDateTime getRegisteredAt() {
@@ -50,6 +54,7 @@ public class Customer {
 
     public void setRegisteredAt(LocalDateTime registeredAt) {
         this.registeredAt = registeredAt;
+        modificationStamp++;
     }
 
     public int getAge() {
@@ -58,6 +63,7 @@ public class Customer {
 
     public void setAge(int age) {
         this.age = age;
+        modificationStamp++;
     }
 
     public String getCity() {
@@ -66,6 +72,14 @@ public class Customer {
 
     public void setCity(String city) {
         this.city = city;
+        modificationStamp++;
+    }
+
+    /**
+     * @return Number of changes made through the setters of this customer; only ever increases
+     */
+    public long getModificationStamp() {
+        return modificationStamp;
     }
 
     @Override
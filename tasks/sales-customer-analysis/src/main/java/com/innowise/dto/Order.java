@@ -10,6 +10,7 @@ public class Order {
     private Customer customer;
     private List<OrderItem> items;
     private OrderStatus status;
+    private long modificationStamp;
 
     public Order(String orderId, LocalDateTime orderDate, Customer customer, List<OrderItem> items, OrderStatus status) {
         this.orderId = orderId;
@@ -25,6 +26,7 @@ public class Order {
 
     public void setOrderId(String orderId) {
         this.orderId = orderId;
+        modificationStamp++;
     }
 
     public LocalDateTime getOrderDate() {
@@ -33,6 +35,7 @@ public class Order {
 
     public void setOrderDate(LocalDateTime orderDate) {
         this.orderDate = orderDate;
+        modificationStamp++;
     }
 
     public Customer getCustomer() {
@@ -40,6 +43,8 @@ public class Order {
     }
 
     public void setCustomer(Customer customer) {
+        // Carry over the stamp of the replaced customer, so the stamp of the order never decreases.
+        modificationStamp += customerStamp() + 1;
         this.customer = customer;
     }
 
@@ -48,6 +53,8 @@ public class Order {
     }
 
     public void setItems(List<OrderItem> items) {
+        // Carry over the stamps of the replaced items, so the stamp of the order never decreases.
+        modificationStamp += itemsStamp() + 1;
         this.items = items;
     }
 
@@ -57,6 +64,32 @@ public class Order {
 
     public void setStatus(OrderStatus status) {
         this.status = status;
+        modificationStamp++;
+    }
+
+    /**
+     * Returns the number of changes made through the setters of this order, its customer and its items.
+     * The stamp increases on every such change, so a cache can compare it to detect them.
+     * Changes made to the item list in place are not counted.
+     *
+     * @return Modification stamp; only ever increases
+     */
+    public long getModificationStamp() {
+        return modificationStamp + customerStamp() + itemsStamp();
+    }
+
+    private long customerStamp() {
+        return customer == null ? 0 : customer.getModificationStamp();
+    }
+
+    private long itemsStamp() {
+        long stamp = 0;
+        if (items != null) {
+            for (OrderItem item : items) {
+                stamp += item.getModificationStamp();
+            }
+        }
+        return stamp;
     }
 
     @Override
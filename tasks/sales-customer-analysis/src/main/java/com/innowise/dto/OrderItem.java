@@ -1,5 +1,7 @@
 package com.innowise.dto;
 
+import com.innowise.util.Money;
+
 import java.util.Objects;
 
 public class OrderItem {
@@ -7,6 +9,7 @@ public class OrderItem {
     private int quantity;
     private double price;
     private Category category;
+    private long modificationStamp;
 
     public OrderItem(String productName, int quantity, double price, Category category) {
         this.productName = productName;
@@ -21,6 +24,7 @@ public class OrderItem {
 
     public void setProductName(String productName) {
         this.productName = productName;
+        modificationStamp++;
     }
 
     public int getQuantity() {
@@ -29,6 +33,7 @@ public class OrderItem {
 
     public void setQuantity(int quantity) {
         this.quantity = quantity;
+        modificationStamp++;
     }
 
     public double getPrice() {
@@ -37,6 +42,23 @@ public class OrderItem {
 
     public void setPrice(double price) {
         this.price = price;
+        modificationStamp++;
+    }
+
+    /**
+     * @return Unit price in cents, rounded half-even from {@link #getPrice()}
+     * @throws ArithmeticException if the price is not finite or too large to be held in cents
+     */
+    public long getPriceCents() {
+        return Money.toCents(price);
+    }
+
+    /**
+     * @return Price multiplied by quantity, in cents
+     * @throws ArithmeticException if the price cannot be held in cents or the total overflows
+     */
+    public long getTotalCents() {
+        return Money.lineTotal(getPriceCents(), quantity);
     }
 
     public Category getCategory() {
@@ -45,6 +67,14 @@ public class OrderItem {
 
     public void setCategory(Category category) {
         this.category = category;
+        modificationStamp++;
+    }
+
+    /**
+     * @return Number of changes made through the setters of this item; only ever increases
+     */
+    public long getModificationStamp() {
+        return modificationStamp;
     }
 
     @Override
@@ -0,0 +1,75 @@
+package com.innowise.dto.immutable;
+
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+/**
+ * Immutable variant of {@link com.innowise.dto.Customer} with a precomputed hash code.
+ */
+public final class ImmutableCustomer {
+    private final String customerId;
+    private final String name;
+    private final String email;
+    private final LocalDateTime registeredAt;
+    private final int age;
+    private final String city;
+    private final int hash;
+
+    public ImmutableCustomer(String customerId, String name, String email, LocalDateTime registeredAt, int age, String city) {
+        this.customerId = customerId;
+        this.name = name;
+        this.email = email;
+        this.registeredAt = registeredAt;
+        this.age = age;
+        this.city = city;
+        this.hash = Objects.hash(customerId, name, email, registeredAt, age, city);
+    }
+
+    public String customerId() {
+        return customerId;
+    }
+
+    public String name() {
+        return name;
+    }
+
+    public String email() {
+        return email;
+    }
+
+    public LocalDateTime registeredAt() {
+        return registeredAt;
+    }
+
+    public int age() {
+        return age;
+    }
+
+    public String city() {
+        return city;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof ImmutableCustomer customer) || hash != customer.hash) return false;
+        return age == customer.age && Objects.equals(customerId, customer.customerId) && Objects.equals(name, customer.name) && Objects.equals(email, customer.email) && Objects.equals(registeredAt, customer.registeredAt) && Objects.equals(city, customer.city);
+    }
+
+    @Override
+    public int hashCode() {
+        return hash;
+    }
+
+    @Override
+    public String toString() {
+        return "ImmutableCustomer{" +
+                "customerId='" + customerId + '\'' +
+                ", name='" + name + '\'' +
+                ", email='" + email + '\'' +
+                ", registeredAt=" + registeredAt +
+                ", age=" + age +
+                ", city='" + city + '\'' +
+                '}';
+    }
+}
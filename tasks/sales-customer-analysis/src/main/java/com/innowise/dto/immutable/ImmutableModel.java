@@ -0,0 +1,58 @@
+package com.innowise.dto.immutable;
+
+import com.innowise.dto.Customer;
+import com.innowise.dto.Order;
+import com.innowise.dto.OrderItem;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Converts the mutable {@code com.innowise.dto} model into its immutable variant.
+ * Cities, product names and customer ids are deduplicated through a shared string pool,
+ * and equal customers and items are collapsed into single instances,
+ * so a retained order history keeps one copy of every repeated value.
+ * Instances are thread-safe and may be shared by concurrent converters.
+ */
+public class ImmutableModel {
+
+    private final Interner<String> strings = new Interner<>();
+    private final Interner<ImmutableCustomer> customers = new Interner<>();
+    private final Interner<ImmutableOrderItem> items = new Interner<>();
+
+    public List<ImmutableOrder> toImmutable(List<Order> orders) {
+        List<ImmutableOrder> result = new ArrayList<>(orders.size());
+        for (Order order : orders) {
+            result.add(toImmutable(order));
+        }
+        return result;
+    }
+
+    public ImmutableOrder toImmutable(Order order) {
+        List<OrderItem> orderItems = order.getItems();
+        ImmutableOrderItem[] immutableItems = new ImmutableOrderItem[orderItems.size()];
+        for (int i = 0; i < immutableItems.length; i++) {
+            immutableItems[i] = toImmutable(orderItems.get(i));
+        }
+        return new ImmutableOrder(order.getOrderId(), order.getOrderDate(), toImmutable(order.getCustomer()),
+                List.of(immutableItems), order.getStatus());
+    }
+
+    public ImmutableCustomer toImmutable(Customer customer) {
+        return customers.intern(new ImmutableCustomer(strings.intern(customer.getCustomerId()), customer.getName(),
+                customer.getEmail(), customer.getRegisteredAt(), customer.getAge(), strings.intern(customer.getCity())));
+    }
+
+    public ImmutableOrderItem toImmutable(OrderItem item) {
+        return items.intern(new ImmutableOrderItem(strings.intern(item.getProductName()), item.getQuantity(),
+                item.getPrice(), item.getCategory()));
+    }
+
+    /**
+     * @return Number of distinct strings retained by the pool
+     */
+    public int getPooledStringCount() {
+        return strings.size();
+    }
+
+}
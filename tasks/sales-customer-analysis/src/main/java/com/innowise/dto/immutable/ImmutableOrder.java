@@ -0,0 +1,72 @@
+package com.innowise.dto.immutable;
+
+import com.innowise.dto.OrderStatus;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Immutable variant of {@link com.innowise.dto.Order} with a precomputed hash code.
+ * Items are stored in a compact unmodifiable list.
+ */
+public final class ImmutableOrder {
+    private final String orderId;
+    private final LocalDateTime orderDate;
+    private final ImmutableCustomer customer;
+    private final List<ImmutableOrderItem> items;
+    private final OrderStatus status;
+    private final int hash;
+
+    public ImmutableOrder(String orderId, LocalDateTime orderDate, ImmutableCustomer customer, List<ImmutableOrderItem> items, OrderStatus status) {
+        this.orderId = orderId;
+        this.orderDate = orderDate;
+        this.customer = customer;
+        this.items = List.copyOf(items);
+        this.status = status;
+        this.hash = Objects.hash(orderId, orderDate, customer, this.items, status);
+    }
+
+    public String orderId() {
+        return orderId;
+    }
+
+    public LocalDateTime orderDate() {
+        return orderDate;
+    }
+
+    public ImmutableCustomer customer() {
+        return customer;
+    }
+
+    public List<ImmutableOrderItem> items() {
+        return items;
+    }
+
+    public OrderStatus status() {
+        return status;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof ImmutableOrder order) || hash != order.hash) return false;
+        return Objects.equals(orderId, order.orderId) && Objects.equals(orderDate, order.orderDate) && Objects.equals(customer, order.customer) && Objects.equals(items, order.items) && status == order.status;
+    }
+
+    @Override
+    public int hashCode() {
+        return hash;
+    }
+
+    @Override
+    public String toString() {
+        return "ImmutableOrder{" +
+                "orderId='" + orderId + '\'' +
+                ", orderDate=" + orderDate +
+                ", customer=" + customer +
+                ", items=" + items +
+                ", status=" + status +
+                '}';
+    }
+}
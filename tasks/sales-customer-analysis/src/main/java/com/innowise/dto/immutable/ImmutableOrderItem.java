@@ -0,0 +1,89 @@
+package com.innowise.dto.immutable;
+
+import com.innowise.dto.Category;
+import com.innowise.util.Money;
+
+import java.util.Objects;
+
+/**
+ * Immutable variant of {@link com.innowise.dto.OrderItem} with a precomputed hash code and price in cents.
+ */
+public final class ImmutableOrderItem {
+    private static final long UNREPRESENTABLE = Long.MIN_VALUE;
+
+    private final String productName;
+    private final int quantity;
+    private final double price;
+    private final Category category;
+    /**
+     * Unit price in cents, or {@link #UNREPRESENTABLE} if the price cannot be held in cents.
+     */
+    private final long priceCents;
+    private final int hash;
+
+    public ImmutableOrderItem(String productName, int quantity, double price, Category category) {
+        this.productName = productName;
+        this.quantity = quantity;
+        this.price = price;
+        this.category = category;
+        this.priceCents = Money.isRepresentable(price) ? Money.toCents(price) : UNREPRESENTABLE;
+        this.hash = Objects.hash(productName, quantity, price, category);
+    }
+
+    public String productName() {
+        return productName;
+    }
+
+    public int quantity() {
+        return quantity;
+    }
+
+    public double price() {
+        return price;
+    }
+
+    /**
+     * @return Unit price in cents, rounded half-even from {@link #price()}
+     * @throws ArithmeticException if the price is not finite or too large to be held in cents
+     */
+    public long priceCents() {
+        if (priceCents == UNREPRESENTABLE) {
+            throw new ArithmeticException("Amount cannot be represented in cents: " + price);
+        }
+        return priceCents;
+    }
+
+    /**
+     * @return Price multiplied by quantity, in cents
+     * @throws ArithmeticException if the price cannot be held in cents or the total overflows
+     */
+    public long totalCents() {
+        return Money.lineTotal(priceCents(), quantity);
+    }
+
+    public Category category() {
+        return category;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof ImmutableOrderItem item) || hash != item.hash) return false;
+        return quantity == item.quantity && Double.compare(price, item.price) == 0 && Objects.equals(productName, item.productName) && category == item.category;
+    }
+
+    @Override
+    public int hashCode() {
+        return hash;
+    }
+
+    @Override
+    public String toString() {
+        return "ImmutableOrderItem{" +
+                "productName='" + productName + '\'' +
+                ", quantity=" + quantity +
+                ", price=" + price +
+                ", category=" + category +
+                '}';
+    }
+}
@@ -0,0 +1,38 @@
+package com.innowise.dto.immutable;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Thread-safe pool that deduplicates equal values, so that every distinct value
+ * is retained once no matter how many objects reference it.
+ * Unlike {@link String#intern()}, the pool is owned by the caller and is released together with it.
+ *
+ * @param <T> Type of pooled values; must be immutable with consistent {@code equals}/{@code hashCode}
+ */
+public final class Interner<T> {
+
+    private final Map<T, T> pool = new ConcurrentHashMap<>();
+
+    /**
+     * Returns the canonical instance equal to the given value, registering it if it is new.
+     *
+     * @param value Value to deduplicate; {@code null} is returned as is
+     * @return Canonical instance
+     */
+    public T intern(T value) {
+        if (value == null) {
+            return null;
+        }
+        T existing = pool.putIfAbsent(value, value);
+        return existing == null ? value : existing;
+    }
+
+    /**
+     * @return Number of distinct values in the pool
+     */
+    public int size() {
+        return pool.size();
+    }
+
+}
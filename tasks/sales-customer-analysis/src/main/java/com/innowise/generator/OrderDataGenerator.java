@@ -0,0 +1,203 @@
+package com.innowise.generator;
+
+import com.innowise.dto.Category;
+import com.innowise.dto.Customer;
+import com.innowise.dto.Order;
+import com.innowise.dto.OrderItem;
+import com.innowise.dto.OrderStatus;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.stream.Stream;
+
+/**
+ * Seeded generator of synthetic orders with realistic distributions, intended for
+ * benchmarks and large-scale tests. The same seed and parameters always produce the same orders.
+ * <ul>
+ *     <li>products are drawn from a Zipfian distribution, so a few products dominate sales;</li>
+ *     <li>customers are drawn from a flatter Zipfian distribution, so some customers order much more often;</li>
+ *     <li>statuses follow a fixed mix dominated by delivered orders;</li>
+ *     <li>order dates are uniform within the configured range.</li>
+ * </ul>
+ */
+public class OrderDataGenerator {
+
+    public static final int DEFAULT_CUSTOMER_COUNT = 100_000;
+    public static final int DEFAULT_PRODUCT_COUNT = 10_000;
+    public static final LocalDate DEFAULT_FROM = LocalDate.of(2023, 1, 1);
+    public static final LocalDate DEFAULT_TO = LocalDate.of(2024, 12, 31);
+
+    private static final double PRODUCT_SKEW = 1.1;
+    private static final double CUSTOMER_SKEW = 0.8;
+    private static final double CITY_SKEW = 1.0;
+    private static final int MAX_ITEMS_PER_ORDER = 5;
+    private static final int MAX_QUANTITY = 4;
+    private static final int MIN_AGE = 18;
+    private static final int MAX_AGE = 75;
+    private static final int MAX_PRICE_CENTS = 100_000;
+
+    private static final String[] CITIES = {
+            "Berlin", "Madrid", "Paris", "Warsaw", "Vilnius", "Riga", "Prague", "Vienna", "Rome", "Lisbon",
+            "Amsterdam", "Brussels", "Dublin", "Oslo", "Stockholm", "Helsinki", "Copenhagen", "Budapest",
+            "Athens", "Sofia"
+    };
+
+    private static final OrderStatus[] STATUSES = {
+            OrderStatus.NEW, OrderStatus.PROCESSING, OrderStatus.SHIPPED, OrderStatus.DELIVERED, OrderStatus.CANCELLED
+    };
+    private static final int[] STATUS_WEIGHTS = {15, 10, 15, 50, 10};
+
+    private final SplittableRandom random;
+    private final Customer[] customers;
+    private final String[] productNames;
+    private final Category[] productCategories;
+    private final double[] productPrices;
+    private final ZipfDistribution customerDistribution;
+    private final ZipfDistribution productDistribution;
+    private final LocalDateTime from;
+    private final long rangeMinutes;
+    private long orderSequence;
+
+    /**
+     * Constructs a generator with default customer and product counts and date range.
+     *
+     * @param seed Seed of the random sequence
+     */
+    public OrderDataGenerator(long seed) {
+        this(seed, DEFAULT_CUSTOMER_COUNT, DEFAULT_PRODUCT_COUNT, DEFAULT_FROM, DEFAULT_TO);
+    }
+
+    /**
+     * Constructs a generator.
+     *
+     * @param seed          Seed of the random sequence
+     * @param customerCount Number of distinct customers
+     * @param productCount  Number of distinct products
+     * @param from          First possible order date, inclusive
+     * @param to            Last possible order date, inclusive
+     * @throws IllegalArgumentException if a count is not positive or the date range is empty
+     */
+    public OrderDataGenerator(long seed, int customerCount, int productCount, LocalDate from, LocalDate to) {
+        if (customerCount <= 0 || productCount <= 0) {
+            throw new IllegalArgumentException("Customer and product counts must be positive");
+        }
+        if (to.isBefore(from)) {
+            throw new IllegalArgumentException("Date range is empty: " + from + " - " + to);
+        }
+        this.random = new SplittableRandom(seed);
+        this.from = from.atStartOfDay();
+        this.rangeMinutes = ChronoUnit.MINUTES.between(this.from, to.plusDays(1).atStartOfDay());
+        this.customerDistribution = new ZipfDistribution(customerCount, CUSTOMER_SKEW);
+        this.productDistribution = new ZipfDistribution(productCount, PRODUCT_SKEW);
+
+        ZipfDistribution cityDistribution = new ZipfDistribution(CITIES.length, CITY_SKEW);
+        this.customers = new Customer[customerCount];
+        for (int i = 0; i < customerCount; i++) {
+            customers[i] = new Customer(
+                    "CUST-" + (i + 1),
+                    "Customer " + (i + 1),
+                    "customer" + (i + 1) + "@mail.com",
+                    this.from.minusDays(random.nextInt(5 * 365)),
+                    random.nextInt(MIN_AGE, MAX_AGE + 1),
+                    CITIES[cityDistribution.sample(random)]);
+        }
+
+        Category[] categories = Category.values();
+        this.productNames = new String[productCount];
+        this.productCategories = new Category[productCount];
+        this.productPrices = new double[productCount];
+        for (int i = 0; i < productCount; i++) {
+            productNames[i] = "Product-" + (i + 1);
+            productCategories[i] = categories[random.nextInt(categories.length)];
+            productPrices[i] = random.nextInt(1, MAX_PRICE_CENTS + 1) / 100.0;
+        }
+    }
+
+    /**
+     * Generates the given number of orders.
+     *
+     * @param orderCount Number of orders
+     * @return Generated orders
+     */
+    public List<Order> generate(int orderCount) {
+        List<Order> orders = new ArrayList<>(orderCount);
+        for (int i = 0; i < orderCount; i++) {
+            orders.add(nextOrder());
+        }
+        return orders;
+    }
+
+    /**
+     * Returns a lazy stream of the given number of orders, so that datasets larger than
+     * the heap can be produced without materializing them. The stream must be consumed sequentially.
+     *
+     * @param orderCount Number of orders
+     * @return Stream of generated orders
+     */
+    public Stream<Order> stream(long orderCount) {
+        return Stream.generate(this::nextOrder).limit(orderCount);
+    }
+
+    /**
+     * Generates the next order of the sequence.
+     *
+     * @return Generated order
+     */
+    public Order nextOrder() {
+        int itemCount = random.nextInt(1, MAX_ITEMS_PER_ORDER + 1);
+        List<OrderItem> items = new ArrayList<>(itemCount);
+        for (int i = 0; i < itemCount; i++) {
+            int product = productDistribution.sample(random);
+            items.add(new OrderItem(productNames[product], random.nextInt(1, MAX_QUANTITY + 1),
+                    productPrices[product], productCategories[product]));
+        }
+        return new Order(
+                "ORDER-" + (++orderSequence),
+                from.plusMinutes(random.nextLong(rangeMinutes)),
+                customers[customerDistribution.sample(random)],
+                items,
+                nextStatus());
+    }
+
+    private OrderStatus nextStatus() {
+        int roll = random.nextInt(100);
+        for (int i = 0; i < STATUSES.length; i++) {
+            roll -= STATUS_WEIGHTS[i];
+            if (roll < 0) {
+                return STATUSES[i];
+            }
+        }
+        return STATUSES[STATUSES.length - 1];
+    }
+
+    /**
+     * Zipfian distribution over ranks {@code 0..n-1} sampled by binary search over the cumulative distribution.
+     */
+    private static final class ZipfDistribution {
+        private final double[] cumulative;
+
+        ZipfDistribution(int n, double exponent) {
+            cumulative = new double[n];
+            double sum = 0;
+            for (int rank = 0; rank < n; rank++) {
+                sum += 1.0 / Math.pow(rank + 1, exponent);
+                cumulative[rank] = sum;
+            }
+            for (int rank = 0; rank < n; rank++) {
+                cumulative[rank] /= sum;
+            }
+        }
+
+        int sample(SplittableRandom random) {
+            int index = Arrays.binarySearch(cumulative, random.nextDouble());
+            int rank = index >= 0 ? index : -index - 1;
+            return Math.min(rank, cumulative.length - 1);
+        }
+    }
+
+}
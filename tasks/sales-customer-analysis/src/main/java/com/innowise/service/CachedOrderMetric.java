@@ -0,0 +1,187 @@
+package com.innowise.service;
+
+import com.innowise.dto.Customer;
+import com.innowise.dto.Order;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Caching facade over {@link OrderMetric} for a collection of orders owned by this instance.
+ * Each metric is computed once and memoized until the collection is modified through this facade,
+ * an order, its customer or one of its items is changed through a setter, or {@link #invalidate()} is called.
+ * Results of the parameterized customer query are kept in an optional size-bounded LRU cache.
+ * <p>
+ * Setter changes are detected by summing the {@link Order#getModificationStamp() modification stamps}
+ * of the orders on every read, which is a plain pass over the orders without hashing or allocation.
+ * Changes made to an item list in place are not detected; call {@link #invalidate()} after making them.
+ */
+public class CachedOrderMetric {
+
+    private final List<Order> orders;
+    private final List<Order> ordersView;
+    private final Map<Long, List<Customer>> customersByThreshold;
+    private long collectionVersion;
+
+    private final Memo<List<String>> uniqueCities = new Memo<>();
+    private final Memo<Double> totalIncome = new Memo<>();
+    private final Memo<String> mostPopularProduct = new Memo<>();
+    private final Memo<Double> averageCheck = new Memo<>();
+    private long customersVersion = -1;
+    private long customersStamp = -1;
+
+    /**
+     * Constructs a facade without the parameterized query cache.
+     *
+     * @param orders Initial orders; the collection is copied
+     */
+    public CachedOrderMetric(Collection<Order> orders) {
+        this(orders, 0);
+    }
+
+    /**
+     * Constructs a facade with an LRU cache for parameterized queries.
+     *
+     * @param orders       Initial orders; the collection is copied
+     * @param lruCapacity  Maximum number of cached parameterized results; 0 disables the cache
+     * @throws IllegalArgumentException if the capacity is negative
+     */
+    public CachedOrderMetric(Collection<Order> orders, int lruCapacity) {
+        if (lruCapacity < 0) {
+            throw new IllegalArgumentException("LRU capacity must not be negative: " + lruCapacity);
+        }
+        this.orders = new ArrayList<>(orders);
+        this.ordersView = Collections.unmodifiableList(this.orders);
+        this.customersByThreshold = lruCapacity == 0 ? null : new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, List<Customer>> eldest) {
+                return size() > lruCapacity;
+            }
+        };
+    }
+
+    public synchronized void addOrder(Order order) {
+        orders.add(order);
+        collectionVersion++;
+    }
+
+    public synchronized void addOrders(Collection<Order> newOrders) {
+        orders.addAll(newOrders);
+        collectionVersion++;
+    }
+
+    public synchronized boolean removeOrder(Order order) {
+        boolean removed = orders.remove(order);
+        if (removed) {
+            collectionVersion++;
+        }
+        return removed;
+    }
+
+    public synchronized void clear() {
+        orders.clear();
+        collectionVersion++;
+    }
+
+    /**
+     * Discards all memoized results, so that changes made to item lists in place are picked up.
+     */
+    public synchronized void invalidate() {
+        collectionVersion++;
+    }
+
+    /**
+     * @return Unmodifiable view of the orders; modify them through this facade
+     */
+    public List<Order> getOrders() {
+        return ordersView;
+    }
+
+    /**
+     * @see OrderMetric#getUniqueCities(List)
+     */
+    public synchronized List<String> getUniqueCities() {
+        return uniqueCities.get(OrderMetric::getUniqueCities);
+    }
+
+    /**
+     * @see OrderMetric#calculateTotalIncomeCompletedOrders(List)
+     */
+    public synchronized double calculateTotalIncomeCompletedOrders() {
+        return totalIncome.get(OrderMetric::calculateTotalIncomeCompletedOrders);
+    }
+
+    /**
+     * @see OrderMetric#getMostPopularProduct(List)
+     */
+    public synchronized String getMostPopularProduct() {
+        return mostPopularProduct.get(OrderMetric::getMostPopularProduct);
+    }
+
+    /**
+     * @see OrderMetric#calculateAverageCheckDeliveredOrders(List)
+     */
+    public synchronized double calculateAverageCheckDeliveredOrders() {
+        return averageCheck.get(OrderMetric::calculateAverageCheckDeliveredOrders);
+    }
+
+    /**
+     * @see OrderMetric#getCustomersWithMoreThanFiveOrders(List)
+     */
+    public List<Customer> getCustomersWithMoreThanFiveOrders() {
+        return getCustomersWithMoreThanOrders(5);
+    }
+
+    /**
+     * Returns customers with more than the given number of orders, served from the LRU cache
+     * when it is enabled and the data has not changed.
+     *
+     * @see OrderMetric#getCustomersWithMoreThanOrders(List, long)
+     */
+    public synchronized List<Customer> getCustomersWithMoreThanOrders(long threshold) {
+        if (customersByThreshold == null) {
+            return OrderMetric.getCustomersWithMoreThanOrders(orders, threshold);
+        }
+        long stamp = ordersStamp();
+        if (customersVersion != collectionVersion || customersStamp != stamp) {
+            customersByThreshold.clear();
+            customersVersion = collectionVersion;
+            customersStamp = stamp;
+        }
+        return customersByThreshold.computeIfAbsent(threshold,
+                key -> OrderMetric.getCustomersWithMoreThanOrders(orders, key));
+    }
+
+    private long ordersStamp() {
+        long stamp = 0;
+        for (Order order : orders) {
+            stamp += order.getModificationStamp();
+        }
+        return stamp;
+    }
+
+    /**
+     * A memoized metric result together with the collection version and order stamp it was computed at.
+     */
+    private final class Memo<T> {
+        private long version = -1;
+        private long stamp = -1;
+        private T value;
+
+        T get(Function<List<Order>, T> metric) {
+            long current = ordersStamp();
+            if (version != collectionVersion || stamp != current) {
+                value = metric.apply(orders);
+                version = collectionVersion;
+                stamp = current;
+            }
+            return value;
+        }
+    }
+
+}
@@ -0,0 +1,257 @@
+package com.innowise.service;
+
+import com.innowise.dto.Customer;
+import com.innowise.dto.Order;
+import com.innowise.dto.OrderItem;
+import com.innowise.dto.OrderStatus;
+import com.innowise.util.Money;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Incrementally maintained index of customer activity keyed on {@code customerId}.
+ * Customers are mapped to dense ids through an open-addressing hash table, and order counts
+ * and spend (in cents) are stored in primitive arrays indexed by those ids, so adding an order
+ * allocates nothing once the customer is known.
+ * <p>
+ * Spend only includes delivered orders, in line with the income metrics of {@link OrderMetric}.
+ * The first {@link Customer} instance seen for an id represents that customer in query results;
+ * a {@code null} id is a key like any other, as it is for grouping in {@link OrderMetric}.
+ * This class is not thread-safe; callers must synchronize concurrent access externally.
+ */
+public class CustomerActivityIndex {
+
+    private static final int INITIAL_CAPACITY = 16;
+
+    /**
+     * Open-addressing table holding {@code denseId + 1} per slot; 0 marks an empty slot.
+     */
+    private int[] table = new int[INITIAL_CAPACITY * 2];
+    private Customer[] customers = new Customer[INITIAL_CAPACITY];
+    private int[] orderCounts = new int[INITIAL_CAPACITY];
+    private long[] spendCents = new long[INITIAL_CAPACITY];
+    private int size;
+
+    /**
+     * Builds an index over the given orders.
+     *
+     * @param orders List of orders to index
+     * @return Index containing all given orders
+     */
+    public static CustomerActivityIndex of(List<Order> orders) {
+        CustomerActivityIndex index = new CustomerActivityIndex();
+        for (Order order : orders) {
+            index.add(order);
+        }
+        return index;
+    }
+
+    /**
+     * Registers a new order for its customer.
+     *
+     * @param order Order to add
+     */
+    public void add(Order order) {
+        int id = idOf(order.getCustomer());
+        orderCounts[id]++;
+        if (order.getStatus() == OrderStatus.DELIVERED) {
+            long total = spendCents[id];
+            for (OrderItem item : order.getItems()) {
+                total = Money.add(total, item.getTotalCents());
+            }
+            spendCents[id] = total;
+        }
+    }
+
+    /**
+     * @return Number of distinct customers in the index
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns the number of orders placed by a customer.
+     *
+     * @param customerId Customer identifier
+     * @return Order count, or 0 if the customer is unknown
+     */
+    public int getOrderCount(String customerId) {
+        int id = find(customerId);
+        return id < 0 ? 0 : orderCounts[id];
+    }
+
+    /**
+     * Returns the total spend of a customer across delivered orders.
+     *
+     * @param customerId Customer identifier
+     * @return Total spend, or 0.0 if the customer is unknown
+     */
+    public double getSpend(String customerId) {
+        return Money.toAmount(getSpendCents(customerId));
+    }
+
+    /**
+     * Returns the exact total spend of a customer across delivered orders.
+     *
+     * @param customerId Customer identifier
+     * @return Total spend in cents, or 0 if the customer is unknown
+     */
+    public long getSpendCents(String customerId) {
+        int id = find(customerId);
+        return id < 0 ? 0 : spendCents[id];
+    }
+
+    /**
+     * Returns customers who have more than the given number of orders.
+     *
+     * @param threshold Number of orders a customer must exceed
+     * @return Unmodifiable list of customers in the order they were first seen
+     */
+    public List<Customer> getCustomersWithMoreThan(long threshold) {
+        List<Customer> result = new ArrayList<>();
+        for (int id = 0; id < size; id++) {
+            if (orderCounts[id] > threshold) {
+                result.add(customers[id]);
+            }
+        }
+        return Collections.unmodifiableList(result);
+    }
+
+    /**
+     * Returns the most active customers by order count.
+     * Customers with equal counts are ordered by when they were first seen.
+     *
+     * @param limit Maximum number of customers to return
+     * @return Unmodifiable list of up to {@code limit} customers, most active first
+     */
+    public List<Customer> getTopCustomers(int limit) {
+        int heapSize = Math.min(limit, size);
+        if (heapSize <= 0) {
+            return List.of();
+        }
+        int[] heap = new int[heapSize];
+        for (int id = 0; id < heapSize; id++) {
+            heap[id] = id;
+            siftUp(heap, id);
+        }
+        for (int id = heapSize; id < size; id++) {
+            if (isLessActive(heap[0], id)) {
+                heap[0] = id;
+                siftDown(heap, heapSize);
+            }
+        }
+
+        Customer[] result = new Customer[heapSize];
+        for (int i = heapSize - 1; i >= 0; i--) {
+            result[i] = customers[heap[0]];
+            heap[0] = heap[i];
+            siftDown(heap, i);
+        }
+        return Collections.unmodifiableList(Arrays.asList(result));
+    }
+
+    private int idOf(Customer customer) {
+        int slot = probe(customer.getCustomerId());
+        return table[slot] != 0 ? table[slot] - 1 : insert(customer, slot);
+    }
+
+    private int find(String customerId) {
+        return table[probe(customerId)] - 1;
+    }
+
+    /**
+     * Returns the slot holding the given customer id, or the empty slot where it would be inserted.
+     */
+    private int probe(String customerId) {
+        int mask = table.length - 1;
+        int slot = spread(Objects.hashCode(customerId)) & mask;
+        while (table[slot] != 0 && !Objects.equals(customers[table[slot] - 1].getCustomerId(), customerId)) {
+            slot = (slot + 1) & mask;
+        }
+        return slot;
+    }
+
+    private int insert(Customer customer, int slot) {
+        if (size == customers.length) {
+            int capacity = size * 2;
+            customers = Arrays.copyOf(customers, capacity);
+            orderCounts = Arrays.copyOf(orderCounts, capacity);
+            spendCents = Arrays.copyOf(spendCents, capacity);
+        }
+        int id = size++;
+        customers[id] = customer;
+        table[slot] = id + 1;
+        if (size * 2 > table.length) {
+            rehash(table.length * 2);
+        }
+        return id;
+    }
+
+    private void rehash(int capacity) {
+        int[] newTable = new int[capacity];
+        int mask = capacity - 1;
+        for (int id = 0; id < size; id++) {
+            int slot = spread(Objects.hashCode(customers[id].getCustomerId())) & mask;
+            while (newTable[slot] != 0) {
+                slot = (slot + 1) & mask;
+            }
+            newTable[slot] = id + 1;
+        }
+        table = newTable;
+    }
+
+    /**
+     * Returns whether customer {@code a} ranks below customer {@code b}: fewer orders,
+     * or the same number of orders but seen later.
+     */
+    private boolean isLessActive(int a, int b) {
+        return orderCounts[a] < orderCounts[b] || (orderCounts[a] == orderCounts[b] && a > b);
+    }
+
+    private void siftUp(int[] heap, int index) {
+        while (index > 0) {
+            int parent = (index - 1) >>> 1;
+            if (!isLessActive(heap[index], heap[parent])) {
+                break;
+            }
+            swap(heap, index, parent);
+            index = parent;
+        }
+    }
+
+    private void siftDown(int[] heap, int heapSize) {
+        int index = 0;
+        while (true) {
+            int smallest = index;
+            int left = 2 * index + 1;
+            int right = left + 1;
+            if (left < heapSize && isLessActive(heap[left], heap[smallest])) {
+                smallest = left;
+            }
+            if (right < heapSize && isLessActive(heap[right], heap[smallest])) {
+                smallest = right;
+            }
+            if (smallest == index) {
+                return;
+            }
+            swap(heap, index, smallest);
+            index = smallest;
+        }
+    }
+
+    private static void swap(int[] array, int i, int j) {
+        int tmp = array[i];
+        array[i] = array[j];
+        array[j] = tmp;
+    }
+
+    private static int spread(int hash) {
+        return hash ^ (hash >>> 16);
+    }
+
+}
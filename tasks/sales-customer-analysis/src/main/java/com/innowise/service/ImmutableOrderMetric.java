@@ -0,0 +1,152 @@
+package com.innowise.service;
+
+import com.innowise.dto.OrderStatus;
+import com.innowise.dto.immutable.ImmutableCustomer;
+import com.innowise.dto.immutable.ImmutableOrder;
+import com.innowise.dto.immutable.ImmutableOrderItem;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Counterpart of {@link OrderMetric} for the immutable order model, sharing its metric logic.
+ * Customers are grouped by their {@link ImmutableCustomer} instances, whose hash codes are precomputed
+ * and which are usually interned, so a lookup costs a cached hash and a reference comparison.
+ */
+public final class ImmutableOrderMetric {
+
+    private static final Support SUPPORT = new Support();
+
+    private ImmutableOrderMetric() {
+    }
+
+    /**
+     * @see OrderMetric#getUniqueCities(List)
+     */
+    public static List<String> getUniqueCities(List<ImmutableOrder> orders) {
+        return SUPPORT.getUniqueCities(orders);
+    }
+
+    /**
+     * @see OrderMetric#calculateTotalIncomeCompletedOrders(List)
+     */
+    public static double calculateTotalIncomeCompletedOrders(List<ImmutableOrder> orders) {
+        return SUPPORT.calculateTotalIncomeCompletedOrders(orders);
+    }
+
+    /**
+     * @see OrderMetric#calculateTotalIncomeCompletedOrdersCents(List)
+     */
+    public static long calculateTotalIncomeCompletedOrdersCents(List<ImmutableOrder> orders) {
+        return SUPPORT.calculateTotalIncomeCompletedOrdersCents(orders);
+    }
+
+    /**
+     * @see OrderMetric#getMostPopularProduct(List)
+     */
+    public static String getMostPopularProduct(List<ImmutableOrder> orders) {
+        return SUPPORT.getMostPopularProduct(orders);
+    }
+
+    /**
+     * @see OrderMetric#calculateAverageCheckDeliveredOrders(List)
+     */
+    public static double calculateAverageCheckDeliveredOrders(List<ImmutableOrder> orders) {
+        return SUPPORT.calculateAverageCheckDeliveredOrders(orders);
+    }
+
+    /**
+     * @see OrderMetric#calculateAverageCheckDeliveredOrdersCents(List)
+     */
+    public static long calculateAverageCheckDeliveredOrdersCents(List<ImmutableOrder> orders) {
+        return SUPPORT.calculateAverageCheckDeliveredOrdersCents(orders);
+    }
+
+    /**
+     * @see OrderMetric#getCustomersWithMoreThanFiveOrders(List)
+     */
+    public static List<ImmutableCustomer> getCustomersWithMoreThanFiveOrders(List<ImmutableOrder> orders) {
+        return getCustomersWithMoreThanOrders(orders, 5);
+    }
+
+    /**
+     * Customers are identified by {@code customerId} and returned in the order they were first seen,
+     * each represented by its first instance, as in {@link OrderMetric}. Orders are counted per customer
+     * instance, and only the distinct customers are then merged by id.
+     *
+     * @see OrderMetric#getCustomersWithMoreThanOrders(List, long)
+     */
+    public static List<ImmutableCustomer> getCustomersWithMoreThanOrders(List<ImmutableOrder> orders, long threshold) {
+        Map<ImmutableCustomer, long[]> countsByCustomer = new LinkedHashMap<>();
+        for (ImmutableOrder order : orders) {
+            countsByCustomer.computeIfAbsent(order.customer(), customer -> new long[1])[0]++;
+        }
+        Map<String, CustomerCount> countsById = new LinkedHashMap<>();
+        countsByCustomer.forEach((customer, count) ->
+                countsById.computeIfAbsent(customer.customerId(), id -> new CustomerCount(customer)).orders += count[0]);
+        return countsById.values()
+                .stream()
+                .filter(count -> count.orders > threshold)
+                .map(count -> count.customer)
+                .toList();
+    }
+
+    /**
+     * The first instance of a customer and the number of orders seen for its id.
+     */
+    private static final class CustomerCount {
+        private final ImmutableCustomer customer;
+        private long orders;
+
+        private CustomerCount(ImmutableCustomer customer) {
+            this.customer = customer;
+        }
+    }
+
+    /**
+     * Accessors of the immutable order model.
+     */
+    private static final class Support extends OrderMetricSupport<ImmutableOrder, ImmutableCustomer, ImmutableOrderItem> {
+        @Override
+        OrderStatus status(ImmutableOrder order) {
+            return order.status();
+        }
+
+        @Override
+        ImmutableCustomer customer(ImmutableOrder order) {
+            return order.customer();
+        }
+
+        @Override
+        List<ImmutableOrderItem> items(ImmutableOrder order) {
+            return order.items();
+        }
+
+        @Override
+        String city(ImmutableCustomer customer) {
+            return customer.city();
+        }
+
+        @Override
+        String productName(ImmutableOrderItem item) {
+            return item.productName();
+        }
+
+        @Override
+        int quantity(ImmutableOrderItem item) {
+            return item.quantity();
+        }
+
+        @Override
+        double price(ImmutableOrderItem item) {
+            return item.price();
+        }
+
+        @Override
+        long totalCents(ImmutableOrderItem item) {
+            return item.totalCents();
+        }
+    }
+
+}
@@ -0,0 +1,118 @@
+package com.innowise.service;
+
+import java.util.Iterator;
+import java.util.Objects;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Publisher pulling items from a fresh iterator per subscriber, only as far as the subscriber has requested.
+ * Items are delivered on the given executor by at most one drain task at a time per subscription.
+ * The iterator is never advanced without outstanding demand, since a filtering iterator may scan far ahead
+ * in {@code hasNext()}. Completion is therefore signalled once the subscriber asks for an item past the last one.
+ */
+final class IteratorPublisher<T> implements Flow.Publisher<T> {
+
+    private final Supplier<Iterator<T>> source;
+    private final Executor executor;
+
+    IteratorPublisher(Supplier<Iterator<T>> source, Executor executor) {
+        this.source = source;
+        this.executor = executor;
+    }
+
+    @Override
+    public void subscribe(Flow.Subscriber<? super T> subscriber) {
+        Objects.requireNonNull(subscriber);
+        IteratorSubscription<T> subscription = new IteratorSubscription<>(subscriber, source, executor);
+        subscriber.onSubscribe(subscription);
+    }
+
+    private static final class IteratorSubscription<T> implements Flow.Subscription {
+        private final Flow.Subscriber<? super T> subscriber;
+        private final Supplier<Iterator<T>> source;
+        private final Executor executor;
+        private final AtomicLong demand = new AtomicLong();
+        private final AtomicInteger pendingDrains = new AtomicInteger();
+        private Iterator<T> iterator;
+        private volatile boolean done;
+        private volatile Throwable invalidRequest;
+
+        IteratorSubscription(Flow.Subscriber<? super T> subscriber, Supplier<Iterator<T>> source, Executor executor) {
+            this.subscriber = subscriber;
+            this.source = source;
+            this.executor = executor;
+        }
+
+        @Override
+        public void request(long n) {
+            if (n <= 0) {
+                invalidRequest = new IllegalArgumentException("Requested " + n + " items, must be positive");
+            } else {
+                demand.getAndAccumulate(n, (current, added) -> {
+                    long sum = current + added;
+                    return sum < 0 ? Long.MAX_VALUE : sum;
+                });
+            }
+            scheduleDrain();
+        }
+
+        @Override
+        public void cancel() {
+            done = true;
+        }
+
+        private void scheduleDrain() {
+            if (pendingDrains.getAndIncrement() == 0) {
+                executor.execute(this::drain);
+            }
+        }
+
+        /**
+         * Emits items while there is demand. Requests arriving during a drain are picked up
+         * by the same task instead of starting a concurrent one.
+         */
+        private void drain() {
+            int missed = 1;
+            do {
+                try {
+                    emitRequested();
+                } catch (Throwable e) {
+                    if (!done) {
+                        done = true;
+                        subscriber.onError(e);
+                    }
+                }
+                missed = pendingDrains.addAndGet(-missed);
+            } while (missed != 0);
+        }
+
+        private void emitRequested() {
+            if (done) {
+                return;
+            }
+            if (invalidRequest != null) {
+                done = true;
+                subscriber.onError(invalidRequest);
+                return;
+            }
+            if (iterator == null) {
+                iterator = source.get();
+            }
+            while (!done && demand.get() > 0) {
+                if (!iterator.hasNext()) {
+                    done = true;
+                    subscriber.onComplete();
+                    return;
+                }
+                T item = iterator.next();
+                demand.decrementAndGet();
+                subscriber.onNext(item);
+            }
+        }
+    }
+
+}
@@ -0,0 +1,165 @@
+package com.innowise.service;
+
+import com.innowise.dto.Customer;
+import com.innowise.dto.Order;
+import com.innowise.dto.OrderItem;
+import com.innowise.dto.OrderStatus;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+
+/**
+ * Lazy, short-circuiting variants of the threshold queries of {@link OrderMetric}.
+ * Orders are scanned one by one with running counts, and a result is emitted at the moment its
+ * count crosses the threshold, so the first results arrive without a full group-by and
+ * the scan stops as soon as the caller has what it needs.
+ * <p>
+ * Results are emitted in the order their thresholds are crossed, which may differ from
+ * the first-seen order of {@link OrderMetric#getCustomersWithMoreThanOrders(List, long)}.
+ */
+public final class LazyOrderMetric {
+
+    private LazyOrderMetric() {
+    }
+
+    /**
+     * Returns customers who have more than the given number of orders, each as soon as its order count
+     * crosses the threshold. Customers are identified by {@code customerId}.
+     *
+     * @param orders    Orders to scan; iterated lazily as the result is consumed
+     * @param threshold Number of orders a customer must exceed
+     * @return Lazy iterator of customers
+     */
+    public static Iterator<Customer> customersWithMoreThanOrders(Iterable<Order> orders, long threshold) {
+        Map<String, long[]> counts = new HashMap<>();
+        long crossing = Math.max(threshold, 0) + 1;
+        return new CrossingIterator<>(orders.iterator(), (order, emit) -> {
+            Customer customer = order.getCustomer();
+            long count = ++counts.computeIfAbsent(customer.getCustomerId(), id -> new long[1])[0];
+            if (count == crossing) {
+                emit.accept(customer);
+            }
+        });
+    }
+
+    /**
+     * Publishes customers who have more than the given number of orders. Each subscriber gets its own scan,
+     * which runs on the executor and advances only while the subscriber has outstanding demand.
+     *
+     * @param orders    Orders to scan
+     * @param threshold Number of orders a customer must exceed
+     * @param executor  Executor delivering the items
+     * @return Publisher of customers
+     * @see #customersWithMoreThanOrders(Iterable, long)
+     */
+    public static Flow.Publisher<Customer> publishCustomersWithMoreThanOrders(Iterable<Order> orders, long threshold,
+                                                                              Executor executor) {
+        return new IteratorPublisher<>(() -> customersWithMoreThanOrders(orders, threshold), executor);
+    }
+
+    /**
+     * Returns the first customers to cross the given number of orders, stopping the scan once enough are found.
+     *
+     * @param orders    Orders to scan
+     * @param threshold Number of orders a customer must exceed
+     * @param limit     Maximum number of customers to return
+     * @return Up to {@code limit} customers, in the order they crossed the threshold
+     */
+    public static List<Customer> getFirstCustomersWithMoreThanOrders(Iterable<Order> orders, long threshold, int limit) {
+        List<Customer> result = new ArrayList<>();
+        Iterator<Customer> customers = customersWithMoreThanOrders(orders, threshold);
+        while (result.size() < limit && customers.hasNext()) {
+            result.add(customers.next());
+        }
+        return result;
+    }
+
+    /**
+     * Returns whether any customer has more than the given number of orders, stopping at the first one.
+     *
+     * @param orders    Orders to scan
+     * @param threshold Number of orders a customer must exceed
+     * @return {@code true} if such a customer exists
+     */
+    public static boolean anyCustomerWithMoreThanOrders(Iterable<Order> orders, long threshold) {
+        return customersWithMoreThanOrders(orders, threshold).hasNext();
+    }
+
+    /**
+     * Returns names of products with more than the given quantity sold in delivered orders,
+     * each as soon as its running quantity crosses the threshold.
+     *
+     * @param orders    Orders to scan; iterated lazily as the result is consumed
+     * @param threshold Quantity a product must exceed
+     * @return Lazy iterator of product names
+     */
+    public static Iterator<String> productsSoldMoreThan(Iterable<Order> orders, long threshold) {
+        Map<String, long[]> quantities = new HashMap<>();
+        return new CrossingIterator<>(orders.iterator(), (order, emit) -> {
+            if (order.getStatus() != OrderStatus.DELIVERED) {
+                return;
+            }
+            for (OrderItem item : order.getItems()) {
+                // Quantity sold so far and whether the product has been emitted.
+                long[] sold = quantities.computeIfAbsent(item.getProductName(), name -> new long[2]);
+                sold[0] += item.getQuantity();
+                if (sold[1] == 0 && sold[0] > threshold) {
+                    sold[1] = 1;
+                    emit.accept(item.getProductName());
+                }
+            }
+        });
+    }
+
+    /**
+     * Returns whether any product has more than the given quantity sold in delivered orders,
+     * stopping at the first one.
+     *
+     * @param orders    Orders to scan
+     * @param threshold Quantity a product must exceed
+     * @return {@code true} if such a product exists
+     */
+    public static boolean anyProductSoldMoreThan(Iterable<Order> orders, long threshold) {
+        return productsSoldMoreThan(orders, threshold).hasNext();
+    }
+
+    /**
+     * Iterator that feeds orders to a step function until the step emits at least one result.
+     */
+    private static final class CrossingIterator<T> implements Iterator<T> {
+        private final Iterator<Order> orders;
+        private final BiConsumer<Order, Consumer<T>> step;
+        private final ArrayDeque<T> pending = new ArrayDeque<>();
+
+        CrossingIterator(Iterator<Order> orders, BiConsumer<Order, Consumer<T>> step) {
+            this.orders = orders;
+            this.step = step;
+        }
+
+        @Override
+        public boolean hasNext() {
+            while (pending.isEmpty() && orders.hasNext()) {
+                step.accept(orders.next(), pending::add);
+            }
+            return !pending.isEmpty();
+        }
+
+        @Override
+        public T next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            return pending.poll();
+        }
+    }
+
+}
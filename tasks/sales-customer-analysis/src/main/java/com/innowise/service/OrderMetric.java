@@ -6,9 +6,6 @@ import com.innowise.dto.OrderItem;
 import com.innowise.dto.OrderStatus;
 
 import java.util.List;
-import java.util.Map;
-import java.util.stream.Collectors;
-import java.util.stream.Stream;
 
 /**
  * Utility class for calculating metrics and extracting information from a list of orders.
@@ -16,6 +13,8 @@ import java.util.stream.Stream;
  */
 public final class OrderMetric {
 
+    private static final Support SUPPORT = new Support();
+
     private OrderMetric() {
     }
 
@@ -26,10 +25,7 @@ public final class OrderMetric {
      * @return List of unique city names
      */
     public static List<String> getUniqueCities(List<Order> orders) {
-        return orders.stream()
-                .map(order -> order.getCustomer().getCity())
-                .distinct()
-                .toList();
+        return SUPPORT.getUniqueCities(orders);
     }
 
     /**
@@ -39,10 +35,20 @@ public final class OrderMetric {
      * @return Total income as a double
      */
     public static double calculateTotalIncomeCompletedOrders(List<Order> orders) {
-        return getDeliveredOrders(orders)
-                .flatMap(order -> order.getItems().stream())
-                .mapToDouble(item -> item.getPrice() * item.getQuantity())
-                .sum();
+        return SUPPORT.calculateTotalIncomeCompletedOrders(orders);
+    }
+
+    /**
+     * Calculates the exact total income of all delivered orders in cents.
+     * Line totals are accumulated as scaled longs, so the result does not depend on
+     * the order of summation and never loses precision.
+     *
+     * @param orders List of orders to analyze
+     * @return Total income in cents
+     * @throws ArithmeticException if the total overflows
+     */
+    public static long calculateTotalIncomeCompletedOrdersCents(List<Order> orders) {
+        return SUPPORT.calculateTotalIncomeCompletedOrdersCents(orders);
     }
 
     /**
@@ -53,14 +59,7 @@ public final class OrderMetric {
      * @throws RuntimeException if there are no delivered orders
      */
     public static String getMostPopularProduct(List<Order> orders) {
-        return getDeliveredOrders(orders)
-                .flatMap(order -> order.getItems().stream())
-                .collect(Collectors.toMap(OrderItem::getProductName, OrderItem::getQuantity, Integer::sum))
-                .entrySet()
-                .stream()
-                .max(Map.Entry.comparingByValue())
-                .orElseThrow(() -> new RuntimeException("No order found"))
-                .getKey();
+        return SUPPORT.getMostPopularProduct(orders);
     }
 
     /**
@@ -71,12 +70,19 @@ public final class OrderMetric {
      * @return Average check as a double; returns 0.0 if there are no delivered orders
      */
     public static double calculateAverageCheckDeliveredOrders(List<Order> orders) {
-        return getDeliveredOrders(orders)
-                .mapToDouble(order -> order.getItems().stream()
-                        .mapToDouble(item -> item.getPrice() * item.getQuantity())
-                        .sum())
-                .average()
-                .orElse(0.0);
+        return SUPPORT.calculateAverageCheckDeliveredOrders(orders);
+    }
+
+    /**
+     * Calculates the exact average check for all delivered orders in cents,
+     * rounded half-even to whole cents.
+     *
+     * @param orders List of orders to analyze
+     * @return Average check in cents; returns 0 if there are no delivered orders
+     * @throws ArithmeticException if the total overflows
+     */
+    public static long calculateAverageCheckDeliveredOrdersCents(List<Order> orders) {
+        return SUPPORT.calculateAverageCheckDeliveredOrdersCents(orders);
     }
 
     /**
@@ -86,18 +92,64 @@ public final class OrderMetric {
      * @return List of customers with more than five orders
      */
     public static List<Customer> getCustomersWithMoreThanFiveOrders(List<Order> orders) {
-        return orders.stream()
-                .collect(Collectors.groupingBy(Order::getCustomer, Collectors.counting()))
-                .entrySet()
-                .stream()
-                .filter(entry -> entry.getValue() > 5)
-                .map(Map.Entry::getKey)
-                .toList();
+        return getCustomersWithMoreThanOrders(orders, 5);
     }
 
-    private static Stream<Order> getDeliveredOrders(List<Order> orders) {
-        return orders.stream()
-                .filter(order -> order.getStatus().equals(OrderStatus.DELIVERED));
+    /**
+     * Returns a list of customers who have more than the given number of orders in total.
+     * Customers are identified by {@code customerId}.
+     *
+     * @param orders    List of orders to analyze
+     * @param threshold Number of orders a customer must exceed
+     * @return List of customers with more than {@code threshold} orders
+     */
+    public static List<Customer> getCustomersWithMoreThanOrders(List<Order> orders, long threshold) {
+        return CustomerActivityIndex.of(orders).getCustomersWithMoreThan(threshold);
+    }
+
+    /**
+     * Accessors of the mutable order model.
+     */
+    private static final class Support extends OrderMetricSupport<Order, Customer, OrderItem> {
+        @Override
+        OrderStatus status(Order order) {
+            return order.getStatus();
+        }
+
+        @Override
+        Customer customer(Order order) {
+            return order.getCustomer();
+        }
+
+        @Override
+        List<OrderItem> items(Order order) {
+            return order.getItems();
+        }
+
+        @Override
+        String city(Customer customer) {
+            return customer.getCity();
+        }
+
+        @Override
+        String productName(OrderItem item) {
+            return item.getProductName();
+        }
+
+        @Override
+        int quantity(OrderItem item) {
+            return item.getQuantity();
+        }
+
+        @Override
+        double price(OrderItem item) {
+            return item.getPrice();
+        }
+
+        @Override
+        long totalCents(OrderItem item) {
+            return item.getTotalCents();
+        }
     }
 
 }
\ No newline at end of file
@@ -0,0 +1,106 @@
+package com.innowise.service;
+
+import com.innowise.dto.OrderStatus;
+import com.innowise.util.Money;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Order metrics shared by the mutable and the immutable order model.
+ * Each model supplies the accessors of its order, customer and item types.
+ *
+ * @param <O> Order type
+ * @param <C> Customer type
+ * @param <I> Order item type
+ */
+abstract class OrderMetricSupport<O, C, I> {
+
+    abstract OrderStatus status(O order);
+
+    abstract C customer(O order);
+
+    abstract List<I> items(O order);
+
+    abstract String city(C customer);
+
+    abstract String productName(I item);
+
+    abstract int quantity(I item);
+
+    abstract double price(I item);
+
+    abstract long totalCents(I item);
+
+    List<String> getUniqueCities(List<O> orders) {
+        return orders.stream()
+                .map(order -> city(customer(order)))
+                .distinct()
+                .toList();
+    }
+
+    double calculateTotalIncomeCompletedOrders(List<O> orders) {
+        return getDeliveredOrders(orders)
+                .flatMap(order -> items(order).stream())
+                .mapToDouble(item -> price(item) * quantity(item))
+                .sum();
+    }
+
+    long calculateTotalIncomeCompletedOrdersCents(List<O> orders) {
+        return getDeliveredOrders(orders)
+                .flatMap(order -> items(order).stream())
+                .mapToLong(this::totalCents)
+                .reduce(0L, Money::add);
+    }
+
+    String getMostPopularProduct(List<O> orders) {
+        return getDeliveredOrders(orders)
+                .flatMap(order -> items(order).stream())
+                .collect(Collectors.toMap(this::productName, this::quantity, Integer::sum))
+                .entrySet()
+                .stream()
+                .max(Map.Entry.comparingByValue())
+                .orElseThrow(() -> new RuntimeException("No order found"))
+                .getKey();
+    }
+
+    double calculateAverageCheckDeliveredOrders(List<O> orders) {
+        return getDeliveredOrders(orders)
+                .mapToDouble(order -> items(order).stream()
+                        .mapToDouble(item -> price(item) * quantity(item))
+                        .sum())
+                .average()
+                .orElse(0.0);
+    }
+
+    long calculateAverageCheckDeliveredOrdersCents(List<O> orders) {
+        long[] totalAndCount = getDeliveredOrders(orders)
+                .mapToLong(this::calculateCheckCents)
+                .collect(() -> new long[2],
+                        (acc, check) -> {
+                            acc[0] = Money.add(acc[0], check);
+                            acc[1]++;
+                        },
+                        (left, right) -> {
+                            left[0] = Money.add(left[0], right[0]);
+                            left[1] += right[1];
+                        });
+        return totalAndCount[1] == 0 ? 0 : Money.average(totalAndCount[0], totalAndCount[1]);
+    }
+
+    private long calculateCheckCents(O order) {
+        long check = 0;
+        for (I item : items(order)) {
+            check = Money.add(check, totalCents(item));
+        }
+        return check;
+    }
+
+    private Stream<O> getDeliveredOrders(List<O> orders) {
+        return orders.stream()
+                .filter(order -> status(order) == OrderStatus.DELIVERED);
+    }
+
+}
@@ -0,0 +1,57 @@
+package com.innowise.service.basket;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Result of a market basket analysis.
+ */
+public class BasketReport {
+
+    private final long transactionCount;
+    private final Map<String, Long> productSupport;
+    private final List<ProductPair> pairs;
+
+    BasketReport(long transactionCount, Map<String, Long> productSupport, List<ProductPair> pairs) {
+        this.transactionCount = transactionCount;
+        this.productSupport = Map.copyOf(productSupport);
+        this.pairs = List.copyOf(pairs);
+    }
+
+    /**
+     * @return Number of delivered orders analyzed
+     */
+    public long getTransactionCount() {
+        return transactionCount;
+    }
+
+    /**
+     * @return Number of delivered orders per product, for products that reached the minimum support
+     */
+    public Map<String, Long> getFrequentProducts() {
+        return productSupport;
+    }
+
+    /**
+     * @return Frequent pairs, most frequent first
+     */
+    public List<ProductPair> getPairs() {
+        return pairs;
+    }
+
+    /**
+     * Returns the products most often bought together with the given one.
+     *
+     * @param product Product name
+     * @param limit   Maximum number of pairs to return
+     * @return Pairs whose first product is the given one, most frequent first
+     */
+    public List<ProductPair> getBoughtTogetherWith(String product, int limit) {
+        return pairs.stream()
+                .filter(pair -> pair.getFirst().equals(product) || pair.getSecond().equals(product))
+                .map(pair -> pair.getFirst().equals(product) ? pair : pair.reversed())
+                .limit(limit)
+                .toList();
+    }
+
+}
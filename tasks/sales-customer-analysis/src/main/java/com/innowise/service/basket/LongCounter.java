@@ -0,0 +1,95 @@
+package com.innowise.service.basket;
+
+import java.util.Arrays;
+
+/**
+ * Open-addressing hash map from non-negative {@code long} keys to {@code long} counts,
+ * with no boxing and two parallel arrays as storage.
+ */
+final class LongCounter {
+
+    private static final long EMPTY = -1;
+    private static final int INITIAL_CAPACITY = 64;
+
+    private long[] keys = newKeys(INITIAL_CAPACITY);
+    private long[] counts = new long[INITIAL_CAPACITY];
+    private int size;
+
+    void add(long key, long delta) {
+        int slot = probe(keys, key);
+        if (keys[slot] == EMPTY) {
+            keys[slot] = key;
+            if (++size * 2 > keys.length) {
+                counts[slot] = delta;
+                rehash(keys.length * 2);
+                return;
+            }
+        }
+        counts[slot] += delta;
+    }
+
+    long get(long key) {
+        int slot = probe(keys, key);
+        return keys[slot] == EMPTY ? 0 : counts[slot];
+    }
+
+    int size() {
+        return size;
+    }
+
+    void merge(LongCounter other) {
+        for (int slot = 0; slot < other.keys.length; slot++) {
+            if (other.keys[slot] != EMPTY) {
+                add(other.keys[slot], other.counts[slot]);
+            }
+        }
+    }
+
+    void forEach(Entry consumer) {
+        for (int slot = 0; slot < keys.length; slot++) {
+            if (keys[slot] != EMPTY) {
+                consumer.accept(keys[slot], counts[slot]);
+            }
+        }
+    }
+
+    private void rehash(int capacity) {
+        long[] oldKeys = keys;
+        long[] oldCounts = counts;
+        keys = newKeys(capacity);
+        counts = new long[capacity];
+        for (int slot = 0; slot < oldKeys.length; slot++) {
+            if (oldKeys[slot] != EMPTY) {
+                int newSlot = probe(keys, oldKeys[slot]);
+                keys[newSlot] = oldKeys[slot];
+                counts[newSlot] = oldCounts[slot];
+            }
+        }
+    }
+
+    private static int probe(long[] keys, long key) {
+        int mask = keys.length - 1;
+        int slot = mix(key) & mask;
+        while (keys[slot] != EMPTY && keys[slot] != key) {
+            slot = (slot + 1) & mask;
+        }
+        return slot;
+    }
+
+    private static int mix(long key) {
+        long h = key * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32));
+    }
+
+    private static long[] newKeys(int capacity) {
+        long[] keys = new long[capacity];
+        Arrays.fill(keys, EMPTY);
+        return keys;
+    }
+
+    @FunctionalInterface
+    interface Entry {
+        void accept(long key, long count);
+    }
+
+}
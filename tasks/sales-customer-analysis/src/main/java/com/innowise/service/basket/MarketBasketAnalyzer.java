@@ -0,0 +1,183 @@
+package com.innowise.service.basket;
+
+import com.innowise.dto.Order;
+import com.innowise.dto.OrderItem;
+import com.innowise.dto.OrderStatus;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.BinaryOperator;
+import java.util.function.Function;
+import java.util.stream.IntStream;
+
+/**
+ * Frequently-bought-together analysis over the items of delivered orders.
+ * <ol>
+ *     <li>The orders are split into partitions, and the number of orders containing each product
+ *     is counted per partition in parallel and merged.</li>
+ *     <li>Products below the minimum support are dropped, since no pair containing them can reach it.
+ *     The remaining products are dictionary-encoded as dense ids in descending order of support.</li>
+ *     <li>Each partition counts pairs of frequent products per order in a primitive hash map
+ *     keyed by {@code (firstId << 32) | secondId}; the partition maps are merged
+ *     and pairs below the minimum support are dropped.</li>
+ * </ol>
+ * Memory is bounded by the number of pairs of frequent products that actually occur together,
+ * rather than by all products squared or by the number of orders.
+ */
+public final class MarketBasketAnalyzer {
+
+    private static final int MIN_ORDERS_PER_PARTITION = 1024;
+
+    private MarketBasketAnalyzer() {
+    }
+
+    /**
+     * Finds pairs of products bought together in at least {@code minSupport} delivered orders.
+     *
+     * @param orders     List of orders to analyze
+     * @param minSupport Minimum number of delivered orders a product or pair must appear in
+     * @return Basket report
+     * @throws IllegalArgumentException if the minimum support is not positive
+     */
+    public static BasketReport analyze(List<Order> orders, long minSupport) {
+        if (minSupport <= 0) {
+            throw new IllegalArgumentException("Minimum support must be positive: " + minSupport);
+        }
+        int partitions = Math.max(1, Math.min(ForkJoinPool.getCommonPoolParallelism() * 4,
+                orders.size() / MIN_ORDERS_PER_PARTITION));
+
+        ProductCounts productCounts = overPartitions(orders, partitions, ProductCounts::of, ProductCounts::merge);
+        Map<String, long[]> support = productCounts.counts;
+        long transactions = productCounts.transactions;
+
+        String[] products = support.entrySet().stream()
+                .filter(entry -> entry.getValue()[0] >= minSupport)
+                .sorted(Comparator.<Map.Entry<String, long[]>>comparingLong(entry -> -entry.getValue()[0])
+                        .thenComparing(Map.Entry::getKey))
+                .map(Map.Entry::getKey)
+                .toArray(String[]::new);
+        Map<String, Integer> ids = new HashMap<>();
+        long[] productSupport = new long[products.length];
+        for (int id = 0; id < products.length; id++) {
+            ids.put(products[id], id);
+            productSupport[id] = support.get(products[id])[0];
+        }
+
+        LongCounter pairCounts = overPartitions(orders, partitions,
+                partition -> countPairs(partition, ids), (left, right) -> {
+                    left.merge(right);
+                    return left;
+                });
+
+        List<ProductPair> pairs = new ArrayList<>();
+        pairCounts.forEach((key, count) -> {
+            if (count >= minSupport) {
+                int first = (int) (key >>> 32);
+                int second = (int) key;
+                pairs.add(new ProductPair(products[first], products[second], count,
+                        productSupport[first], productSupport[second], transactions));
+            }
+        });
+        pairs.sort(Comparator.comparingLong(ProductPair::getOrderCount).reversed()
+                .thenComparing(ProductPair::getFirst)
+                .thenComparing(ProductPair::getSecond));
+
+        Map<String, Long> frequentProducts = new HashMap<>();
+        for (int id = 0; id < products.length; id++) {
+            frequentProducts.put(products[id], productSupport[id]);
+        }
+        return new BasketReport(transactions, frequentProducts, pairs);
+    }
+
+    private static <T> T overPartitions(List<Order> orders, int partitions,
+                                        Function<List<Order>, T> task, BinaryOperator<T> merge) {
+        return IntStream.range(0, partitions)
+                .parallel()
+                .mapToObj(p -> task.apply(orders.subList(
+                        (int) ((long) orders.size() * p / partitions),
+                        (int) ((long) orders.size() * (p + 1) / partitions))))
+                .reduce(merge)
+                .orElseThrow();
+    }
+
+    /**
+     * Number of delivered orders per product and in total, for one or more partitions.
+     */
+    private static final class ProductCounts {
+        final Map<String, long[]> counts = new HashMap<>();
+        long transactions;
+
+        static ProductCounts of(List<Order> partition) {
+            ProductCounts result = new ProductCounts();
+            List<String> seen = new ArrayList<>();
+            for (Order order : partition) {
+                if (order.getStatus() != OrderStatus.DELIVERED) {
+                    continue;
+                }
+                result.transactions++;
+                seen.clear();
+                for (OrderItem item : order.getItems()) {
+                    String product = item.getProductName();
+                    if (!seen.contains(product)) {
+                        seen.add(product);
+                        result.counts.computeIfAbsent(product, name -> new long[1])[0]++;
+                    }
+                }
+            }
+            return result;
+        }
+
+        ProductCounts merge(ProductCounts other) {
+            transactions += other.transactions;
+            other.counts.forEach((product, count) -> counts.merge(product, count, (a, b) -> {
+                a[0] += b[0];
+                return a;
+            }));
+            return this;
+        }
+    }
+
+    private static LongCounter countPairs(List<Order> partition, Map<String, Integer> ids) {
+        LongCounter counts = new LongCounter();
+        int[] basket = new int[16];
+        for (Order order : partition) {
+            if (order.getStatus() != OrderStatus.DELIVERED) {
+                continue;
+            }
+            int size = 0;
+            for (OrderItem item : order.getItems()) {
+                Integer id = ids.get(item.getProductName());
+                if (id != null) {
+                    if (size == basket.length) {
+                        basket = Arrays.copyOf(basket, size * 2);
+                    }
+                    basket[size++] = id;
+                }
+            }
+            size = sortUnique(basket, size);
+            for (int i = 0; i < size; i++) {
+                for (int j = i + 1; j < size; j++) {
+                    counts.add(((long) basket[i] << 32) | basket[j], 1);
+                }
+            }
+        }
+        return counts;
+    }
+
+    private static int sortUnique(int[] values, int size) {
+        Arrays.sort(values, 0, size);
+        int unique = 0;
+        for (int i = 0; i < size; i++) {
+            if (unique == 0 || values[unique - 1] != values[i]) {
+                values[unique++] = values[i];
+            }
+        }
+        return unique;
+    }
+
+}
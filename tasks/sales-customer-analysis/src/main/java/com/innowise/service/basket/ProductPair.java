@@ -0,0 +1,93 @@
+package com.innowise.service.basket;
+
+import java.util.Objects;
+
+/**
+ * Two products bought together in the same delivered order, with association measures.
+ */
+public final class ProductPair {
+    private final String first;
+    private final String second;
+    private final long orderCount;
+    private final long firstOrderCount;
+    private final long secondOrderCount;
+    private final long transactionCount;
+
+    ProductPair(String first, String second, long orderCount,
+                long firstOrderCount, long secondOrderCount, long transactionCount) {
+        this.first = first;
+        this.second = second;
+        this.orderCount = orderCount;
+        this.firstOrderCount = firstOrderCount;
+        this.secondOrderCount = secondOrderCount;
+        this.transactionCount = transactionCount;
+    }
+
+    public String getFirst() {
+        return first;
+    }
+
+    public String getSecond() {
+        return second;
+    }
+
+    /**
+     * @return Number of delivered orders containing both products
+     */
+    public long getOrderCount() {
+        return orderCount;
+    }
+
+    /**
+     * @return Share of delivered orders containing both products
+     */
+    public double getSupport() {
+        return (double) orderCount / transactionCount;
+    }
+
+    /**
+     * @return Probability that an order containing the first product also contains the second
+     */
+    public double getConfidence() {
+        return (double) orderCount / firstOrderCount;
+    }
+
+    /**
+     * @return Probability that an order containing the second product also contains the first
+     */
+    public double getReverseConfidence() {
+        return (double) orderCount / secondOrderCount;
+    }
+
+    /**
+     * @return How much more often the products are bought together than if they were independent
+     */
+    public double getLift() {
+        return (double) orderCount * transactionCount / ((double) firstOrderCount * secondOrderCount);
+    }
+
+    ProductPair reversed() {
+        return new ProductPair(second, first, orderCount, secondOrderCount, firstOrderCount, transactionCount);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (o == null || getClass() != o.getClass()) return false;
+        ProductPair that = (ProductPair) o;
+        return orderCount == that.orderCount && Objects.equals(first, that.first) && Objects.equals(second, that.second);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(first, second, orderCount);
+    }
+
+    @Override
+    public String toString() {
+        return "ProductPair{" +
+                "first='" + first + '\'' +
+                ", second='" + second + '\'' +
+                ", orderCount=" + orderCount +
+                '}';
+    }
+}
@@ -0,0 +1,213 @@
+package com.innowise.service.cardinality;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+/**
+ * HyperLogLog sketch for estimating the number of distinct values in a stream.
+ * Memory usage is fixed at {@code 2^precision} bytes regardless of how many values are added.
+ * Sketches with the same precision can be merged, which makes them suitable for combining
+ * partitions or time buckets that were counted independently.
+ */
+public final class HyperLogLog {
+
+    public static final int MIN_PRECISION = 4;
+    public static final int MAX_PRECISION = 16;
+
+    private static final byte FORMAT_VERSION = 1;
+    private static final int HEADER_SIZE = 2;
+    private static final double[] INVERSE_POWERS_OF_TWO = new double[Long.SIZE + 2];
+
+    static {
+        for (int i = 0; i < INVERSE_POWERS_OF_TWO.length; i++) {
+            INVERSE_POWERS_OF_TWO[i] = Math.scalb(1.0, -i);
+        }
+    }
+
+    private final int precision;
+    private final byte[] registers;
+
+    /**
+     * Running sum of {@code 2^-register} over all registers, kept up to date on every
+     * register change so that {@link #estimate()} does not have to scan the registers.
+     */
+    private double harmonicSum;
+    private int zeroRegisters;
+
+    /**
+     * Constructs an empty sketch.
+     *
+     * @param precision Number of index bits, between {@value #MIN_PRECISION} and {@value #MAX_PRECISION}.
+     *                  Standard error is about {@code 1.04 / sqrt(2^precision)}.
+     * @throws IllegalArgumentException if the precision is out of range
+     */
+    public HyperLogLog(int precision) {
+        if (precision < MIN_PRECISION || precision > MAX_PRECISION) {
+            throw new IllegalArgumentException("Precision must be between " + MIN_PRECISION
+                    + " and " + MAX_PRECISION + ": " + precision);
+        }
+        this.precision = precision;
+        this.registers = new byte[1 << precision];
+        this.harmonicSum = registers.length;
+        this.zeroRegisters = registers.length;
+    }
+
+    /**
+     * Adds a string value to the sketch. {@code null} values are ignored.
+     *
+     * @param value Value to add
+     */
+    public void add(String value) {
+        if (value != null) {
+            addHash(hash(value));
+        }
+    }
+
+    /**
+     * Adds a pre-computed, well-distributed 64-bit hash to the sketch.
+     *
+     * @param hash Hash of the value to add
+     */
+    public void addHash(long hash) {
+        int index = (int) (hash >>> (Long.SIZE - precision));
+        long remaining = (hash << precision) | (1L << (precision - 1));
+        int rank = Long.numberOfLeadingZeros(remaining) + 1;
+        updateRegister(index, rank);
+    }
+
+    /**
+     * Merges another sketch into this one. After the merge this sketch estimates
+     * the cardinality of the union of both inputs.
+     *
+     * @param other Sketch to merge; it is not modified
+     * @throws IllegalArgumentException if the sketches have different precisions
+     */
+    public void merge(HyperLogLog other) {
+        if (other.precision != precision) {
+            throw new IllegalArgumentException("Cannot merge sketches with precision "
+                    + precision + " and " + other.precision);
+        }
+        for (int i = 0; i < registers.length; i++) {
+            updateRegister(i, other.registers[i]);
+        }
+    }
+
+    /**
+     * Returns the estimated number of distinct values added so far. Runs in constant time.
+     *
+     * @return Estimated cardinality
+     */
+    public long estimate() {
+        int m = registers.length;
+        double estimate = alpha(m) * m * m / harmonicSum;
+        if (estimate <= 2.5 * m && zeroRegisters > 0) {
+            estimate = m * Math.log((double) m / zeroRegisters);
+        }
+        return Math.round(estimate);
+    }
+
+    public int getPrecision() {
+        return precision;
+    }
+
+    /**
+     * Serializes the sketch into a compact byte array.
+     *
+     * @return Serialized sketch
+     */
+    public byte[] toBytes() {
+        ByteBuffer buffer = ByteBuffer.allocate(HEADER_SIZE + registers.length);
+        buffer.put(FORMAT_VERSION);
+        buffer.put((byte) precision);
+        buffer.put(registers);
+        return buffer.array();
+    }
+
+    /**
+     * Restores a sketch previously produced by {@link #toBytes()}.
+     *
+     * @param bytes Serialized sketch
+     * @return Restored sketch
+     * @throws IllegalArgumentException if the data is not a valid serialized sketch,
+     *                                  including a register outside {@code 0..64 - precision + 1}
+     */
+    public static HyperLogLog fromBytes(byte[] bytes) {
+        if (bytes.length < HEADER_SIZE || bytes[0] != FORMAT_VERSION) {
+            throw new IllegalArgumentException("Unsupported HyperLogLog format");
+        }
+        HyperLogLog sketch = new HyperLogLog(bytes[1]);
+        if (bytes.length != HEADER_SIZE + sketch.registers.length) {
+            throw new IllegalArgumentException("Invalid HyperLogLog length: " + bytes.length);
+        }
+        int maxRank = Long.SIZE - sketch.precision + 1;
+        for (int i = 0; i < sketch.registers.length; i++) {
+            int rank = bytes[HEADER_SIZE + i];
+            if (rank < 0 || rank > maxRank) {
+                throw new IllegalArgumentException("Invalid HyperLogLog register " + i + ": " + rank);
+            }
+            sketch.updateRegister(i, rank);
+        }
+        return sketch;
+    }
+
+    /**
+     * Hashes a string into 64 bits using FNV-1a followed by the MurmurHash3 finalizer,
+     * so that both the index bits and the rank bits are well distributed.
+     *
+     * @param value Value to hash
+     * @return 64-bit hash
+     */
+    static long hash(String value) {
+        long h = 0xcbf29ce484222325L;
+        for (int i = 0; i < value.length(); i++) {
+            h ^= value.charAt(i);
+            h *= 0x100000001b3L;
+        }
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h;
+    }
+
+    private void updateRegister(int index, int rank) {
+        int current = registers[index];
+        if (rank > current) {
+            if (current == 0) {
+                zeroRegisters--;
+            }
+            harmonicSum += INVERSE_POWERS_OF_TWO[rank] - INVERSE_POWERS_OF_TWO[current];
+            registers[index] = (byte) rank;
+        }
+    }
+
+    private static double alpha(int m) {
+        return switch (m) {
+            case 16 -> 0.673;
+            case 32 -> 0.697;
+            case 64 -> 0.709;
+            default -> 0.7213 / (1 + 1.079 / m);
+        };
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (o == null || getClass() != o.getClass()) return false;
+        HyperLogLog that = (HyperLogLog) o;
+        return precision == that.precision && Arrays.equals(registers, that.registers);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * precision + Arrays.hashCode(registers);
+    }
+
+    @Override
+    public String toString() {
+        return "HyperLogLog{" +
+                "precision=" + precision +
+                ", estimate=" + estimate() +
+                '}';
+    }
+}
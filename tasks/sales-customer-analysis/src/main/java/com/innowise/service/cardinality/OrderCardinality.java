@@ -0,0 +1,151 @@
+package com.innowise.service.cardinality;
+
+import com.innowise.dto.Order;
+import com.innowise.dto.OrderItem;
+import com.innowise.dto.OrderStatus;
+
+import java.nio.ByteBuffer;
+import java.util.List;
+
+/**
+ * Approximate distinct counts over orders, backed by {@link HyperLogLog} sketches.
+ * Tracks the number of unique cities, active customers (customers who placed at least one order)
+ * and products sold (products present in delivered orders).
+ * Instances can be built per partition or time bucket and merged afterward.
+ */
+public final class OrderCardinality {
+
+    public static final int DEFAULT_PRECISION = 14;
+
+    private final HyperLogLog cities;
+    private final HyperLogLog customers;
+    private final HyperLogLog products;
+
+    /**
+     * Constructs empty sketches with {@link #DEFAULT_PRECISION}.
+     */
+    public OrderCardinality() {
+        this(DEFAULT_PRECISION);
+    }
+
+    /**
+     * Constructs empty sketches with the given precision.
+     *
+     * @param precision Precision of each underlying sketch
+     */
+    public OrderCardinality(int precision) {
+        this(new HyperLogLog(precision), new HyperLogLog(precision), new HyperLogLog(precision));
+    }
+
+    private OrderCardinality(HyperLogLog cities, HyperLogLog customers, HyperLogLog products) {
+        this.cities = cities;
+        this.customers = customers;
+        this.products = products;
+    }
+
+    /**
+     * Builds sketches for the given orders.
+     *
+     * @param orders List of orders to analyze
+     * @return Sketches covering all given orders
+     */
+    public static OrderCardinality of(List<Order> orders) {
+        OrderCardinality cardinality = new OrderCardinality();
+        orders.forEach(cardinality::add);
+        return cardinality;
+    }
+
+    /**
+     * Adds a single order to the sketches.
+     *
+     * @param order Order to add
+     */
+    public void add(Order order) {
+        cities.add(order.getCustomer().getCity());
+        customers.add(order.getCustomer().getCustomerId());
+        if (order.getStatus() == OrderStatus.DELIVERED) {
+            for (OrderItem item : order.getItems()) {
+                products.add(item.getProductName());
+            }
+        }
+    }
+
+    /**
+     * Merges sketches built over another set of orders into this one.
+     *
+     * @param other Sketches to merge; they are not modified
+     * @throws IllegalArgumentException if the precisions differ
+     */
+    public void merge(OrderCardinality other) {
+        cities.merge(other.cities);
+        customers.merge(other.customers);
+        products.merge(other.products);
+    }
+
+    /**
+     * @return Estimated number of unique customer cities
+     */
+    public long estimateUniqueCities() {
+        return cities.estimate();
+    }
+
+    /**
+     * @return Estimated number of distinct customers who placed orders
+     */
+    public long estimateActiveCustomers() {
+        return customers.estimate();
+    }
+
+    /**
+     * @return Estimated number of distinct products in delivered orders
+     */
+    public long estimateProductsSold() {
+        return products.estimate();
+    }
+
+    /**
+     * Serializes all three sketches into a single byte array.
+     *
+     * @return Serialized sketches
+     */
+    public byte[] toBytes() {
+        byte[] citiesBytes = cities.toBytes();
+        byte[] customersBytes = customers.toBytes();
+        byte[] productsBytes = products.toBytes();
+
+        ByteBuffer buffer = ByteBuffer.allocate(3 * Integer.BYTES
+                + citiesBytes.length + customersBytes.length + productsBytes.length);
+        putSketch(buffer, citiesBytes);
+        putSketch(buffer, customersBytes);
+        putSketch(buffer, productsBytes);
+        return buffer.array();
+    }
+
+    /**
+     * Restores sketches previously produced by {@link #toBytes()}.
+     *
+     * @param bytes Serialized sketches
+     * @return Restored sketches
+     * @throws IllegalArgumentException if the data is not valid
+     */
+    public static OrderCardinality fromBytes(byte[] bytes) {
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        try {
+            return new OrderCardinality(getSketch(buffer), getSketch(buffer), getSketch(buffer));
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("Invalid serialized order cardinality", e);
+        }
+    }
+
+    private static void putSketch(ByteBuffer buffer, byte[] sketch) {
+        buffer.putInt(sketch.length);
+        buffer.put(sketch);
+    }
+
+    private static HyperLogLog getSketch(ByteBuffer buffer) {
+        byte[] sketch = new byte[buffer.getInt()];
+        buffer.get(sketch);
+        return HyperLogLog.fromBytes(sketch);
+    }
+
+}
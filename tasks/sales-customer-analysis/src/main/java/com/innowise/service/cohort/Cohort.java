@@ -0,0 +1,68 @@
+package com.innowise.service.cohort;
+
+import java.time.YearMonth;
+import java.util.Objects;
+
+/**
+ * Customers who registered in the same month and belong to the same age band.
+ */
+public final class Cohort {
+    private final int row;
+    private final YearMonth registrationMonth;
+    private final int ageBandStart;
+    private final int size;
+
+    Cohort(int row, YearMonth registrationMonth, int ageBandStart, int size) {
+        this.row = row;
+        this.registrationMonth = registrationMonth;
+        this.ageBandStart = ageBandStart;
+        this.size = size;
+    }
+
+    int row() {
+        return row;
+    }
+
+    public YearMonth getRegistrationMonth() {
+        return registrationMonth;
+    }
+
+    /**
+     * @return Lowest age of the band, for example 20 for {@code 20-29}
+     */
+    public int getAgeBandStart() {
+        return ageBandStart;
+    }
+
+    public String getAgeBand() {
+        return ageBandStart + "-" + (ageBandStart + CohortEngine.AGE_BAND_WIDTH - 1);
+    }
+
+    /**
+     * @return Number of customers in the cohort who placed at least one order
+     */
+    public int getSize() {
+        return size;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (o == null || getClass() != o.getClass()) return false;
+        Cohort cohort = (Cohort) o;
+        return ageBandStart == cohort.ageBandStart && Objects.equals(registrationMonth, cohort.registrationMonth);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(registrationMonth, ageBandStart);
+    }
+
+    @Override
+    public String toString() {
+        return "Cohort{" +
+                "registrationMonth=" + registrationMonth +
+                ", ageBand=" + getAgeBand() +
+                ", size=" + size +
+                '}';
+    }
+}
@@ -0,0 +1,178 @@
+package com.innowise.service.cohort;
+
+import com.innowise.dto.Customer;
+import com.innowise.dto.Order;
+import com.innowise.dto.OrderItem;
+import com.innowise.dto.OrderStatus;
+import com.innowise.util.Money;
+
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Cohort and retention analysis over {@link Customer#getRegisteredAt()} and {@link Customer#getAge()}.
+ * <p>
+ * Customers are bucketed by registration month and ten-year age band. Orders are folded in a single
+ * parallel pass into per-customer activity: a bit set of the months since registration in which the
+ * customer ordered, and the delivered revenue per such month. Partial results of the parallel pass are
+ * merged by OR-ing bit sets and adding revenue. The cohort row of a customer is then computed
+ * arithmetically from its registration month and band, so the matrices are filled without sorting
+ * or nested loops over customers and orders.
+ * <p>
+ * Any order counts as activity; only delivered orders count as revenue, in line with {@code OrderMetric}.
+ * Orders placed before the customer's registration month are ignored. Customers are identified by {@code customerId}.
+ */
+public final class CohortEngine {
+
+    public static final int AGE_BAND_WIDTH = 10;
+
+    private CohortEngine() {
+    }
+
+    /**
+     * Computes retention and revenue per cohort.
+     *
+     * @param orders List of orders to analyze
+     * @return Cohort report
+     */
+    public static CohortReport analyze(List<Order> orders) {
+        Partial partial = orders.parallelStream().collect(Partial::new, Partial::add, Partial::merge);
+        return partial.toReport();
+    }
+
+    static int ageBandOf(int age) {
+        return Math.max(age, 0) / AGE_BAND_WIDTH;
+    }
+
+    private static int monthIndex(LocalDateTime dateTime) {
+        return dateTime.getYear() * 12 + dateTime.getMonthValue() - 1;
+    }
+
+    /**
+     * Activity of one customer, indexed by months since registration.
+     */
+    private static final class CustomerActivity {
+        final Customer customer;
+        final int cohortMonth;
+        final BitSet activeMonths = new BitSet();
+        long[] revenueCents = new long[0];
+
+        CustomerActivity(Customer customer) {
+            this.customer = customer;
+            this.cohortMonth = monthIndex(customer.getRegisteredAt());
+        }
+
+        void add(Order order) {
+            int month = monthIndex(order.getOrderDate()) - cohortMonth;
+            if (month < 0) {
+                return;
+            }
+            activeMonths.set(month);
+            if (order.getStatus() == OrderStatus.DELIVERED) {
+                long total = 0;
+                for (OrderItem item : order.getItems()) {
+                    total = Money.add(total, item.getTotalCents());
+                }
+                addRevenue(month, total);
+            }
+        }
+
+        void merge(CustomerActivity other) {
+            activeMonths.or(other.activeMonths);
+            for (int month = 0; month < other.revenueCents.length; month++) {
+                if (other.revenueCents[month] != 0) {
+                    addRevenue(month, other.revenueCents[month]);
+                }
+            }
+        }
+
+        private void addRevenue(int month, long cents) {
+            if (month >= revenueCents.length) {
+                revenueCents = Arrays.copyOf(revenueCents, Math.max(month + 1, revenueCents.length * 2));
+            }
+            revenueCents[month] = Money.add(revenueCents[month], cents);
+        }
+    }
+
+    /**
+     * Per-customer activity accumulated by one thread of the parallel pass.
+     */
+    private static final class Partial {
+        final Map<String, CustomerActivity> customers = new HashMap<>();
+
+        void add(Order order) {
+            Customer customer = order.getCustomer();
+            customers.computeIfAbsent(customer.getCustomerId(), id -> new CustomerActivity(customer)).add(order);
+        }
+
+        void merge(Partial other) {
+            other.customers.forEach((id, activity) -> {
+                CustomerActivity existing = customers.putIfAbsent(id, activity);
+                if (existing != null) {
+                    existing.merge(activity);
+                }
+            });
+        }
+
+        CohortReport toReport() {
+            if (customers.isEmpty()) {
+                return new CohortReport(List.of(), new int[0][0], new long[0][0]);
+            }
+            int minMonth = Integer.MAX_VALUE;
+            int maxMonth = Integer.MIN_VALUE;
+            int maxBand = 0;
+            int monthCount = 0;
+            for (CustomerActivity activity : customers.values()) {
+                minMonth = Math.min(minMonth, activity.cohortMonth);
+                maxMonth = Math.max(maxMonth, activity.cohortMonth);
+                maxBand = Math.max(maxBand, ageBandOf(activity.customer.getAge()));
+                monthCount = Math.max(monthCount, activity.activeMonths.length());
+            }
+
+            int bands = maxBand + 1;
+            int rows = Math.multiplyExact(maxMonth - minMonth + 1, bands);
+            int[] sizes = new int[rows];
+            int[][] active = new int[rows][];
+            long[][] revenue = new long[rows][];
+            for (CustomerActivity activity : customers.values()) {
+                int row = (activity.cohortMonth - minMonth) * bands + ageBandOf(activity.customer.getAge());
+                if (sizes[row]++ == 0) {
+                    active[row] = new int[monthCount];
+                    revenue[row] = new long[monthCount];
+                }
+                BitSet months = activity.activeMonths;
+                for (int month = months.nextSetBit(0); month >= 0; month = months.nextSetBit(month + 1)) {
+                    active[row][month]++;
+                }
+                for (int month = 0; month < Math.min(activity.revenueCents.length, monthCount); month++) {
+                    revenue[row][month] = Money.add(revenue[row][month], activity.revenueCents[month]);
+                }
+            }
+
+            List<Cohort> cohorts = new ArrayList<>();
+            List<int[]> activeRows = new ArrayList<>();
+            List<long[]> revenueRows = new ArrayList<>();
+            for (int row = 0; row < rows; row++) {
+                if (sizes[row] > 0) {
+                    int month = minMonth + row / bands;
+                    cohorts.add(new Cohort(cohorts.size(),
+                            YearMonth.of(month / 12, month % 12 + 1),
+                            row % bands * AGE_BAND_WIDTH,
+                            sizes[row]));
+                    activeRows.add(active[row]);
+                    revenueRows.add(revenue[row]);
+                }
+            }
+            return new CohortReport(List.copyOf(cohorts),
+                    activeRows.toArray(new int[0][]),
+                    revenueRows.toArray(new long[0][]));
+        }
+    }
+
+}
@@ -0,0 +1,119 @@
+package com.innowise.service.cohort;
+
+import com.innowise.util.Money;
+
+import java.time.YearMonth;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Retention and revenue matrices of a cohort analysis. Row {@code i} of both matrices
+ * belongs to {@code getCohorts().get(i)}; column {@code m} is the {@code m}-th month after
+ * registration, where month 0 is the registration month itself.
+ */
+public class CohortReport {
+
+    private final List<Cohort> cohorts;
+    private final int[][] activeCustomers;
+    private final long[][] revenueCents;
+
+    CohortReport(List<Cohort> cohorts, int[][] activeCustomers, long[][] revenueCents) {
+        this.cohorts = cohorts;
+        this.activeCustomers = activeCustomers;
+        this.revenueCents = revenueCents;
+    }
+
+    /**
+     * @return Non-empty cohorts ordered by registration month, then by age band
+     */
+    public List<Cohort> getCohorts() {
+        return cohorts;
+    }
+
+    /**
+     * Looks up a cohort.
+     *
+     * @param registrationMonth Registration month
+     * @param age               Any age within the band
+     * @return Cohort, or {@code null} if no customer of that cohort placed an order
+     */
+    public Cohort getCohort(YearMonth registrationMonth, int age) {
+        int ageBandStart = CohortEngine.ageBandOf(age) * CohortEngine.AGE_BAND_WIDTH;
+        for (Cohort cohort : cohorts) {
+            if (cohort.getRegistrationMonth().equals(registrationMonth) && cohort.getAgeBandStart() == ageBandStart) {
+                return cohort;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * @return Number of month columns, from the registration month to the latest order
+     */
+    public int getMonthCount() {
+        return activeCustomers.length == 0 ? 0 : activeCustomers[0].length;
+    }
+
+    /**
+     * Returns how many customers of a cohort placed an order in the given month after registration.
+     *
+     * @param cohort Cohort of this report
+     * @param month  Months since registration
+     * @return Number of active customers
+     */
+    public int getActiveCustomers(Cohort cohort, int month) {
+        return month < getMonthCount() ? activeCustomers[cohort.row()][month] : 0;
+    }
+
+    /**
+     * Returns the share of a cohort that placed an order in the given month after registration.
+     *
+     * @param cohort Cohort of this report
+     * @param month  Months since registration
+     * @return Retention rate between 0.0 and 1.0
+     */
+    public double getRetentionRate(Cohort cohort, int month) {
+        return (double) getActiveCustomers(cohort, month) / cohort.getSize();
+    }
+
+    /**
+     * Returns the income of delivered orders a cohort placed in the given month after registration.
+     *
+     * @param cohort Cohort of this report
+     * @param month  Months since registration
+     * @return Revenue in cents
+     */
+    public long getRevenueCents(Cohort cohort, int month) {
+        return month < getMonthCount() ? revenueCents[cohort.row()][month] : 0;
+    }
+
+    /**
+     * @see #getRevenueCents(Cohort, int)
+     */
+    public double getRevenue(Cohort cohort, int month) {
+        return Money.toAmount(getRevenueCents(cohort, month));
+    }
+
+    /**
+     * @return Copy of the active customer matrix
+     */
+    public int[][] getRetentionMatrix() {
+        int[][] copy = new int[activeCustomers.length][];
+        for (int i = 0; i < copy.length; i++) {
+            copy[i] = Arrays.copyOf(activeCustomers[i], activeCustomers[i].length);
+        }
+        return copy;
+    }
+
+    /**
+     * @return Copy of the revenue matrix, in cents
+     */
+    public long[][] getRevenueMatrix() {
+        long[][] copy = new long[revenueCents.length][];
+        for (int i = 0; i < copy.length; i++) {
+            copy[i] = Arrays.copyOf(revenueCents[i], revenueCents[i].length);
+        }
+        return copy;
+    }
+
+}
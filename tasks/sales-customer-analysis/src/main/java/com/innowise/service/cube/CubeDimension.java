@@ -0,0 +1,8 @@
+package com.innowise.service.cube;
+
+/**
+ * Dimensions of the {@link OrderCube}.
+ */
+public enum CubeDimension {
+    STATUS, CATEGORY, CITY, MONTH
+}
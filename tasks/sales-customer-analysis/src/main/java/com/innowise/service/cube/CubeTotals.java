@@ -0,0 +1,50 @@
+package com.innowise.service.cube;
+
+import com.innowise.util.Money;
+
+import java.util.Objects;
+
+/**
+ * Income and quantity aggregated over a set of cube cells.
+ */
+public final class CubeTotals {
+    private final long incomeCents;
+    private final long quantity;
+
+    CubeTotals(long incomeCents, long quantity) {
+        this.incomeCents = incomeCents;
+        this.quantity = quantity;
+    }
+
+    public long getIncomeCents() {
+        return incomeCents;
+    }
+
+    public double getIncome() {
+        return Money.toAmount(incomeCents);
+    }
+
+    public long getQuantity() {
+        return quantity;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (o == null || getClass() != o.getClass()) return false;
+        CubeTotals that = (CubeTotals) o;
+        return incomeCents == that.incomeCents && quantity == that.quantity;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(incomeCents, quantity);
+    }
+
+    @Override
+    public String toString() {
+        return "CubeTotals{" +
+                "income=" + getIncome() +
+                ", quantity=" + quantity +
+                '}';
+    }
+}
@@ -0,0 +1,252 @@
+package com.innowise.service.cube;
+
+import com.innowise.dto.Category;
+import com.innowise.dto.OrderStatus;
+import com.innowise.util.Money;
+
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Immutable query over an {@link OrderCube}: a slice fixing members of some dimensions
+ * and a list of dimensions to group by. {@link #drillDown(CubeDimension)} adds a grouping dimension,
+ * {@link #rollUp(CubeDimension)} aggregates one away.
+ * <pre>{@code
+ * Map<List<Object>, CubeTotals> deliveredByCityAndMonth = cube.view()
+ *         .whereStatus(OrderStatus.DELIVERED)
+ *         .drillDown(CubeDimension.CITY)
+ *         .drillDown(CubeDimension.MONTH)
+ *         .groups();
+ * }</pre>
+ * A view reads the cube when it is evaluated, so it reflects orders added after it was created.
+ */
+public final class CubeView {
+
+    private final OrderCube cube;
+    private final EnumSet<OrderStatus> statuses;
+    private final EnumSet<Category> categories;
+    private final Set<String> cities;
+    private final Set<YearMonth> months;
+    private final List<CubeDimension> groupBy;
+
+    CubeView(OrderCube cube) {
+        this(cube, null, null, null, null, List.of());
+    }
+
+    private CubeView(OrderCube cube, EnumSet<OrderStatus> statuses, EnumSet<Category> categories,
+                     Set<String> cities, Set<YearMonth> months, List<CubeDimension> groupBy) {
+        this.cube = cube;
+        this.statuses = statuses;
+        this.categories = categories;
+        this.cities = cities;
+        this.months = months;
+        this.groupBy = groupBy;
+    }
+
+    public CubeView whereStatus(OrderStatus first, OrderStatus... rest) {
+        return new CubeView(cube, EnumSet.of(first, rest), categories, cities, months, groupBy);
+    }
+
+    public CubeView whereCategory(Category first, Category... rest) {
+        return new CubeView(cube, statuses, EnumSet.of(first, rest), cities, months, groupBy);
+    }
+
+    public CubeView whereCity(String... cityNames) {
+        return new CubeView(cube, statuses, categories, new HashSet<>(Arrays.asList(cityNames)), months, groupBy);
+    }
+
+    public CubeView whereMonth(YearMonth... yearMonths) {
+        return new CubeView(cube, statuses, categories, cities, new HashSet<>(Arrays.asList(yearMonths)), groupBy);
+    }
+
+    /**
+     * Returns a view that additionally groups by the given dimension.
+     *
+     * @param dimension Dimension to break the totals down by
+     * @return New view
+     * @throws IllegalArgumentException if the view already groups by that dimension
+     */
+    public CubeView drillDown(CubeDimension dimension) {
+        if (groupBy.contains(dimension)) {
+            throw new IllegalArgumentException("Already grouped by " + dimension);
+        }
+        List<CubeDimension> dimensions = new ArrayList<>(groupBy);
+        dimensions.add(dimension);
+        return new CubeView(cube, statuses, categories, cities, months, List.copyOf(dimensions));
+    }
+
+    /**
+     * Returns a view that no longer groups by the given dimension, aggregating its members together.
+     *
+     * @param dimension Dimension to aggregate away
+     * @return New view
+     * @throws IllegalArgumentException if the view does not group by that dimension
+     */
+    public CubeView rollUp(CubeDimension dimension) {
+        if (!groupBy.contains(dimension)) {
+            throw new IllegalArgumentException("Not grouped by " + dimension);
+        }
+        List<CubeDimension> dimensions = new ArrayList<>(groupBy);
+        dimensions.remove(dimension);
+        return new CubeView(cube, statuses, categories, cities, months, List.copyOf(dimensions));
+    }
+
+    /**
+     * @return Dimensions this view groups by, outermost first
+     */
+    public List<CubeDimension> getGroupBy() {
+        return groupBy;
+    }
+
+    /**
+     * Sums all cells of the slice, ignoring the grouping.
+     *
+     * @return Totals of the slice
+     */
+    public CubeTotals totals() {
+        long[] sums = new long[2];
+        scan((cell, group) -> {
+            sums[0] = Money.add(sums[0], cube.incomeCents(cell));
+            sums[1] += cube.quantity(cell);
+        }, null);
+        return new CubeTotals(sums[0], sums[1]);
+    }
+
+    /**
+     * Sums the cells of the slice per combination of the grouping dimensions.
+     * Members are {@link OrderStatus}, {@link Category}, city name or {@link YearMonth}.
+     * Combinations without any order line are omitted.
+     *
+     * @return Totals keyed by the members of the grouping dimensions, in the order of {@link #getGroupBy()}
+     */
+    public Map<List<Object>, CubeTotals> groups() {
+        int[] radix = new int[groupBy.size()];
+        int groupCount = 1;
+        for (int i = radix.length - 1; i >= 0; i--) {
+            radix[i] = groupCount;
+            groupCount = Math.multiplyExact(groupCount, cardinality(groupBy.get(i)));
+        }
+        long[] income = new long[groupCount];
+        long[] quantity = new long[groupCount];
+        boolean[] present = new boolean[groupCount];
+        scan((cell, coordinates) -> {
+            int group = 0;
+            for (int i = 0; i < radix.length; i++) {
+                group += coordinates[groupBy.get(i).ordinal()] * radix[i];
+            }
+            income[group] = Money.add(income[group], cube.incomeCents(cell));
+            quantity[group] += cube.quantity(cell);
+            present[group] |= cube.quantity(cell) != 0 || cube.incomeCents(cell) != 0;
+        }, new int[CubeDimension.values().length]);
+
+        Map<List<Object>, CubeTotals> result = new LinkedHashMap<>();
+        for (int group = 0; group < groupCount; group++) {
+            if (present[group]) {
+                Object[] key = new Object[radix.length];
+                for (int i = 0; i < radix.length; i++) {
+                    key[i] = member(groupBy.get(i), group / radix[i] % cardinality(groupBy.get(i)));
+                }
+                result.put(List.of(key), new CubeTotals(income[group], quantity[group]));
+            }
+        }
+        return Collections.unmodifiableMap(result);
+    }
+
+    /**
+     * Visits every cell of the slice. When {@code coordinates} is given it is filled with the
+     * member ids of the visited cell, indexed by {@link CubeDimension#ordinal()}.
+     */
+    private void scan(CellVisitor visitor, int[] coordinates) {
+        boolean[] statusMask = enumMask(statuses, OrderCube.STATUSES);
+        boolean[] categoryMask = enumMask(categories, OrderCube.CATEGORIES);
+        boolean[] cityMask = memberMask(cities, cube.cities());
+        boolean[] monthMask = memberMask(months, cube.months());
+        for (int city = 0; city < cityMask.length; city++) {
+            if (!cityMask[city]) {
+                continue;
+            }
+            for (int month = 0; month < monthMask.length; month++) {
+                if (!monthMask[month]) {
+                    continue;
+                }
+                int block = cube.blockOffset(city, month);
+                for (int status = 0; status < OrderCube.STATUSES; status++) {
+                    if (!statusMask[status]) {
+                        continue;
+                    }
+                    for (int category = 0; category < OrderCube.CATEGORIES; category++) {
+                        if (!categoryMask[category]) {
+                            continue;
+                        }
+                        if (coordinates != null) {
+                            coordinates[CubeDimension.STATUS.ordinal()] = status;
+                            coordinates[CubeDimension.CATEGORY.ordinal()] = category;
+                            coordinates[CubeDimension.CITY.ordinal()] = city;
+                            coordinates[CubeDimension.MONTH.ordinal()] = month;
+                        }
+                        visitor.visit(block + status * OrderCube.CATEGORIES + category, coordinates);
+                    }
+                }
+            }
+        }
+    }
+
+    private int cardinality(CubeDimension dimension) {
+        return switch (dimension) {
+            case STATUS -> OrderCube.STATUSES;
+            case CATEGORY -> OrderCube.CATEGORIES;
+            case CITY -> cube.cities().size();
+            case MONTH -> cube.months().size();
+        };
+    }
+
+    private Object member(CubeDimension dimension, int id) {
+        return switch (dimension) {
+            case STATUS -> OrderStatus.values()[id];
+            case CATEGORY -> Category.values()[id];
+            case CITY -> cube.cities().get(id);
+            case MONTH -> cube.months().get(id);
+        };
+    }
+
+    private static <E extends Enum<E>> boolean[] enumMask(EnumSet<E> allowed, int size) {
+        boolean[] mask = new boolean[size];
+        if (allowed == null) {
+            Arrays.fill(mask, true);
+        } else {
+            for (E value : allowed) {
+                mask[value.ordinal()] = true;
+            }
+        }
+        return mask;
+    }
+
+    private static <T> boolean[] memberMask(Set<T> allowed, MemberDictionary<T> dictionary) {
+        boolean[] mask = new boolean[dictionary.size()];
+        if (allowed == null) {
+            Arrays.fill(mask, true);
+        } else {
+            for (T member : allowed) {
+                int id = dictionary.find(member);
+                if (id >= 0) {
+                    mask[id] = true;
+                }
+            }
+        }
+        return mask;
+    }
+
+    @FunctionalInterface
+    private interface CellVisitor {
+        void visit(int cell, int[] coordinates);
+    }
+
+}
@@ -0,0 +1,38 @@
+package com.innowise.service.cube;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Append-only dictionary encoding the members of an open-ended dimension as dense integer ids.
+ */
+final class MemberDictionary<T> {
+
+    private final Map<T, Integer> ids = new HashMap<>();
+    private final List<T> members = new ArrayList<>();
+
+    int idOf(T member) {
+        Integer id = ids.get(member);
+        if (id == null) {
+            id = members.size();
+            ids.put(member, id);
+            members.add(member);
+        }
+        return id;
+    }
+
+    int find(T member) {
+        return ids.getOrDefault(member, -1);
+    }
+
+    T get(int id) {
+        return members.get(id);
+    }
+
+    int size() {
+        return members.size();
+    }
+
+}
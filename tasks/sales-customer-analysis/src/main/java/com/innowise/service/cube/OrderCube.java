@@ -0,0 +1,170 @@
+package com.innowise.service.cube;
+
+import com.innowise.dto.Category;
+import com.innowise.dto.Order;
+import com.innowise.dto.OrderItem;
+import com.innowise.dto.OrderStatus;
+import com.innowise.util.Money;
+
+import java.time.YearMonth;
+import java.util.List;
+
+/**
+ * Dense pre-aggregated cube of order line income and quantity over
+ * status &times; category &times; city &times; month.
+ * <p>
+ * Every cell is a slot in two primitive arrays, addressed by the status and category ordinals
+ * and by dictionary ids of the city and the month:
+ * {@code ((cityId * monthCapacity + monthId) * STATUSES + status) * CATEGORIES + category}.
+ * The arrays grow by doubling the city or month capacity when a new member does not fit,
+ * so adding an order never allocates once its city and month are known.
+ * <p>
+ * Income is kept in cents for every status; slice on {@link OrderStatus#DELIVERED}
+ * to get the income reported by {@code OrderMetric}. Queries go through {@link #view()}
+ * and cost a scan over the cells, independent of how many orders were added.
+ * This class is not thread-safe; callers must synchronize concurrent access externally.
+ */
+public class OrderCube {
+
+    static final int STATUSES = OrderStatus.values().length;
+    static final int CATEGORIES = Category.values().length;
+    static final int CELLS_PER_BLOCK = STATUSES * CATEGORIES;
+
+    private static final int INITIAL_CITY_CAPACITY = 8;
+    private static final int INITIAL_MONTH_CAPACITY = 16;
+
+    private final MemberDictionary<String> cities = new MemberDictionary<>();
+    private final MemberDictionary<YearMonth> months = new MemberDictionary<>();
+    private int cityCapacity = INITIAL_CITY_CAPACITY;
+    private int monthCapacity = INITIAL_MONTH_CAPACITY;
+    private long[] incomeCents = new long[INITIAL_CITY_CAPACITY * INITIAL_MONTH_CAPACITY * CELLS_PER_BLOCK];
+    private long[] quantities = new long[incomeCents.length];
+    private int orderCount;
+
+    /**
+     * Builds a cube over the given orders in a single pass.
+     *
+     * @param orders List of orders to aggregate
+     * @return Cube containing all given orders
+     */
+    public static OrderCube of(List<Order> orders) {
+        OrderCube cube = new OrderCube();
+        for (Order order : orders) {
+            cube.add(order);
+        }
+        return cube;
+    }
+
+    /**
+     * Adds the lines of an order to their cells.
+     *
+     * @param order Order to add
+     */
+    public void add(Order order) {
+        apply(order, 1);
+        orderCount++;
+    }
+
+    /**
+     * Subtracts the lines of a previously added order from their cells.
+     * The order must be in the same state as when it was added.
+     *
+     * @param order Order to remove
+     */
+    public void remove(Order order) {
+        apply(order, -1);
+        orderCount--;
+    }
+
+    /**
+     * Changes the status of an order and moves its lines to the cells of the new status.
+     *
+     * @param order     Previously added order
+     * @param newStatus Status to set
+     */
+    public void changeStatus(Order order, OrderStatus newStatus) {
+        remove(order);
+        order.setStatus(newStatus);
+        add(order);
+    }
+
+    /**
+     * @return Number of orders currently aggregated in the cube
+     */
+    public int getOrderCount() {
+        return orderCount;
+    }
+
+    /**
+     * Starts a query over the whole cube with no grouping.
+     *
+     * @return View over all cells
+     */
+    public CubeView view() {
+        return new CubeView(this);
+    }
+
+    private void apply(Order order, int sign) {
+        int block = blockOf(cities.idOf(order.getCustomer().getCity()),
+                months.idOf(YearMonth.from(order.getOrderDate())));
+        int status = order.getStatus().ordinal();
+        for (OrderItem item : order.getItems()) {
+            int cell = block + status * CATEGORIES + item.getCategory().ordinal();
+            incomeCents[cell] = Money.add(incomeCents[cell], sign * item.getTotalCents());
+            quantities[cell] += (long) sign * item.getQuantity();
+        }
+    }
+
+    /**
+     * Returns the offset of the first cell of a city and month, growing the arrays if either id does not fit.
+     */
+    private int blockOf(int cityId, int monthId) {
+        if (cityId >= cityCapacity || monthId >= monthCapacity) {
+            grow(cityId >= cityCapacity ? cityCapacity * 2 : cityCapacity,
+                    monthId >= monthCapacity ? monthCapacity * 2 : monthCapacity);
+        }
+        return offset(cityId, monthId, monthCapacity);
+    }
+
+    private void grow(int newCityCapacity, int newMonthCapacity) {
+        long[] newIncome = new long[Math.multiplyExact(newCityCapacity * newMonthCapacity, CELLS_PER_BLOCK)];
+        long[] newQuantities = new long[newIncome.length];
+        for (int city = 0; city < cities.size() && city < cityCapacity; city++) {
+            for (int month = 0; month < months.size() && month < monthCapacity; month++) {
+                int from = offset(city, month, monthCapacity);
+                int to = offset(city, month, newMonthCapacity);
+                System.arraycopy(incomeCents, from, newIncome, to, CELLS_PER_BLOCK);
+                System.arraycopy(quantities, from, newQuantities, to, CELLS_PER_BLOCK);
+            }
+        }
+        incomeCents = newIncome;
+        quantities = newQuantities;
+        cityCapacity = newCityCapacity;
+        monthCapacity = newMonthCapacity;
+    }
+
+    private static int offset(int cityId, int monthId, int monthCapacity) {
+        return (cityId * monthCapacity + monthId) * CELLS_PER_BLOCK;
+    }
+
+    MemberDictionary<String> cities() {
+        return cities;
+    }
+
+    MemberDictionary<YearMonth> months() {
+        return months;
+    }
+
+    int blockOffset(int cityId, int monthId) {
+        return offset(cityId, monthId, monthCapacity);
+    }
+
+    long incomeCents(int cell) {
+        return incomeCents[cell];
+    }
+
+    long quantity(int cell) {
+        return quantities[cell];
+    }
+
+}
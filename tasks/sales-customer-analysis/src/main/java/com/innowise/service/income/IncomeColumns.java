@@ -0,0 +1,86 @@
+package com.innowise.service.income;
+
+import com.innowise.dto.Order;
+import com.innowise.dto.OrderItem;
+import com.innowise.dto.OrderStatus;
+
+import java.util.List;
+
+/**
+ * Primitive column layout of order lines for income kernels:
+ * unit prices, quantities and a per-line flag telling whether the line belongs to a delivered order.
+ * Columns are extracted once and can be scanned by any {@link IncomeKernel} repeatedly.
+ */
+public final class IncomeColumns {
+
+    private final double[] prices;
+    private final double[] quantities;
+    private final boolean[] delivered;
+    private final int deliveredOrders;
+
+    private IncomeColumns(double[] prices, double[] quantities, boolean[] delivered, int deliveredOrders) {
+        this.prices = prices;
+        this.quantities = quantities;
+        this.delivered = delivered;
+        this.deliveredOrders = deliveredOrders;
+    }
+
+    /**
+     * Extracts the columns from the given orders.
+     *
+     * @param orders List of orders to analyze
+     * @return Column layout of all order lines
+     */
+    public static IncomeColumns of(List<Order> orders) {
+        int lines = 0;
+        for (Order order : orders) {
+            lines += order.getItems().size();
+        }
+
+        double[] prices = new double[lines];
+        double[] quantities = new double[lines];
+        boolean[] delivered = new boolean[lines];
+        int deliveredOrders = 0;
+        int line = 0;
+        for (Order order : orders) {
+            boolean isDelivered = order.getStatus() == OrderStatus.DELIVERED;
+            if (isDelivered) {
+                deliveredOrders++;
+            }
+            for (OrderItem item : order.getItems()) {
+                prices[line] = item.getPrice();
+                quantities[line] = item.getQuantity();
+                delivered[line] = isDelivered;
+                line++;
+            }
+        }
+        return new IncomeColumns(prices, quantities, delivered, deliveredOrders);
+    }
+
+    /**
+     * @return Number of order lines
+     */
+    public int size() {
+        return prices.length;
+    }
+
+    /**
+     * @return Number of delivered orders
+     */
+    public int getDeliveredOrders() {
+        return deliveredOrders;
+    }
+
+    double[] prices() {
+        return prices;
+    }
+
+    double[] quantities() {
+        return quantities;
+    }
+
+    boolean[] delivered() {
+        return delivered;
+    }
+
+}
@@ -0,0 +1,29 @@
+package com.innowise.service.income;
+
+/**
+ * Kernel computing income aggregates over {@link IncomeColumns}.
+ * Results match {@code OrderMetric.calculateTotalIncomeCompletedOrders} and
+ * {@code OrderMetric.calculateAverageCheckDeliveredOrders} up to floating-point summation order.
+ */
+public interface IncomeKernel {
+
+    /**
+     * Sums {@code price * quantity} over the lines of delivered orders.
+     *
+     * @param columns Order lines
+     * @return Total income of delivered orders
+     */
+    double calculateTotalIncomeCompletedOrders(IncomeColumns columns);
+
+    /**
+     * Calculates the average total check of delivered orders.
+     *
+     * @param columns Order lines
+     * @return Average check; 0.0 if there are no delivered orders
+     */
+    default double calculateAverageCheckDeliveredOrders(IncomeColumns columns) {
+        int deliveredOrders = columns.getDeliveredOrders();
+        return deliveredOrders == 0 ? 0.0 : calculateTotalIncomeCompletedOrders(columns) / deliveredOrders;
+    }
+
+}
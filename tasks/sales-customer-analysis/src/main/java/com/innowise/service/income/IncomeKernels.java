@@ -0,0 +1,57 @@
+package com.innowise.service.income;
+
+/**
+ * Factory of {@link IncomeKernel} implementations.
+ */
+public final class IncomeKernels {
+
+    private static final String VECTOR_MODULE = "jdk.incubator.vector";
+    private static final String VECTOR_KERNEL = "com.innowise.service.income.VectorIncomeKernel";
+
+    private IncomeKernels() {
+    }
+
+    /**
+     * Returns the SIMD kernel when the Vector API module is present in the running JVM,
+     * otherwise the scalar kernel.
+     *
+     * @return Fastest available kernel
+     */
+    public static IncomeKernel best() {
+        return isVectorAvailable() ? vector() : scalar();
+    }
+
+    /**
+     * @return Portable scalar kernel
+     */
+    public static IncomeKernel scalar() {
+        return new ScalarIncomeKernel();
+    }
+
+    /**
+     * Returns the SIMD kernel. The class is loaded reflectively, so this factory
+     * can be used on JVMs started without the Vector API module.
+     *
+     * @return SIMD kernel
+     * @throws UnsupportedOperationException if the Vector API module is not available
+     */
+    public static IncomeKernel vector() {
+        if (!isVectorAvailable()) {
+            throw new UnsupportedOperationException("Module " + VECTOR_MODULE + " is not available; "
+                    + "start the JVM with --add-modules " + VECTOR_MODULE);
+        }
+        try {
+            return (IncomeKernel) Class.forName(VECTOR_KERNEL).getDeclaredConstructor().newInstance();
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("Cannot create the vector income kernel", e);
+        }
+    }
+
+    /**
+     * @return Whether the Vector API module is present in the running JVM
+     */
+    public static boolean isVectorAvailable() {
+        return ModuleLayer.boot().findModule(VECTOR_MODULE).isPresent();
+    }
+
+}
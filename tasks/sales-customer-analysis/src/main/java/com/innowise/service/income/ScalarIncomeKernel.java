@@ -0,0 +1,22 @@
+package com.innowise.service.income;
+
+/**
+ * Portable kernel processing one line at a time. Used when the Vector API is unavailable.
+ */
+final class ScalarIncomeKernel implements IncomeKernel {
+
+    @Override
+    public double calculateTotalIncomeCompletedOrders(IncomeColumns columns) {
+        double[] prices = columns.prices();
+        double[] quantities = columns.quantities();
+        boolean[] delivered = columns.delivered();
+        double sum = 0;
+        for (int i = 0; i < prices.length; i++) {
+            if (delivered[i]) {
+                sum += prices[i] * quantities[i];
+            }
+        }
+        return sum;
+    }
+
+}
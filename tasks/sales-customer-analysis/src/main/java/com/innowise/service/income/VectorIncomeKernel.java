@@ -0,0 +1,55 @@
+package com.innowise.service.income;
+
+import jdk.incubator.vector.DoubleVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * SIMD kernel built on the incubating Vector API. Each step loads a full vector of prices with
+ * the delivered flags as a mask, so lines of other orders contribute zero, and folds
+ * {@code price * quantity} into the accumulator with a fused multiply-add.
+ * Two independent accumulators hide the latency of the FMA chain.
+ * Requires {@code --add-modules jdk.incubator.vector}; obtain it through {@link IncomeKernels}.
+ */
+final class VectorIncomeKernel implements IncomeKernel {
+
+    private static final VectorSpecies<Double> SPECIES = DoubleVector.SPECIES_PREFERRED;
+
+    @Override
+    public double calculateTotalIncomeCompletedOrders(IncomeColumns columns) {
+        double[] prices = columns.prices();
+        double[] quantities = columns.quantities();
+        boolean[] delivered = columns.delivered();
+        int length = prices.length;
+        int step = SPECIES.length();
+
+        DoubleVector first = DoubleVector.zero(SPECIES);
+        DoubleVector second = DoubleVector.zero(SPECIES);
+        int i = 0;
+        for (int bound = SPECIES.loopBound(length) - step; i < bound; i += 2 * step) {
+            first = fma(prices, quantities, delivered, i, first);
+            second = fma(prices, quantities, delivered, i + step, second);
+        }
+        for (int bound = SPECIES.loopBound(length); i < bound; i += step) {
+            first = fma(prices, quantities, delivered, i, first);
+        }
+        double sum = first.add(second).reduceLanes(VectorOperators.ADD);
+
+        for (; i < length; i++) {
+            if (delivered[i]) {
+                sum += prices[i] * quantities[i];
+            }
+        }
+        return sum;
+    }
+
+    private static DoubleVector fma(double[] prices, double[] quantities, boolean[] delivered, int offset,
+                                    DoubleVector accumulator) {
+        VectorMask<Double> mask = VectorMask.fromArray(SPECIES, delivered, offset);
+        DoubleVector price = DoubleVector.fromArray(SPECIES, prices, offset, mask);
+        DoubleVector quantity = DoubleVector.fromArray(SPECIES, quantities, offset);
+        return price.fma(quantity, accumulator);
+    }
+
+}
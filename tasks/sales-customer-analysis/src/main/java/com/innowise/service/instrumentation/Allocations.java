@@ -0,0 +1,39 @@
+package com.innowise.service.instrumentation;
+
+import java.lang.management.ManagementFactory;
+
+/**
+ * Per-thread allocation counter backed by {@link com.sun.management.ThreadMXBean}.
+ * Only allocations of the calling thread are seen, so work handed to other threads
+ * (for example parallel streams) is not included.
+ */
+final class Allocations {
+
+    private static final com.sun.management.ThreadMXBean THREADS = initThreads();
+
+    private Allocations() {
+    }
+
+    static boolean isSupported() {
+        return THREADS != null;
+    }
+
+    /**
+     * @return Bytes allocated so far by the calling thread, or -1 if not supported
+     */
+    static long currentThreadAllocatedBytes() {
+        return THREADS == null ? -1 : THREADS.getCurrentThreadAllocatedBytes();
+    }
+
+    private static com.sun.management.ThreadMXBean initThreads() {
+        if (ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean threads
+                && threads.isThreadAllocatedMemorySupported()) {
+            if (!threads.isThreadAllocatedMemoryEnabled()) {
+                threads.setThreadAllocatedMemoryEnabled(true);
+            }
+            return threads;
+        }
+        return null;
+    }
+
+}
@@ -0,0 +1,114 @@
+package com.innowise.service.instrumentation;
+
+import com.innowise.dto.Customer;
+import com.innowise.dto.Order;
+import com.innowise.dto.OrderStatus;
+import com.innowise.service.OrderMetric;
+
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * {@link OrderMetric} wrapper that measures sampled calls into {@link OrderMetricStats}
+ * and emits a {@code com.innowise.OrderMetric} JFR event for each of them.
+ * <pre>{@code
+ * OrderMetricStats stats = new OrderMetricStats(100);
+ * stats.register();
+ * InstrumentedOrderMetric metric = new InstrumentedOrderMetric(stats);
+ * double income = metric.calculateTotalIncomeCompletedOrders(orders);
+ * }</pre>
+ * Items scanned are the items of delivered orders, which the item-reading metrics aggregate;
+ * they are counted with an extra pass over the orders, only on sampled calls.
+ */
+public class InstrumentedOrderMetric {
+
+    private final OrderMetricStats stats;
+
+    public InstrumentedOrderMetric(OrderMetricStats stats) {
+        this.stats = stats;
+    }
+
+    public OrderMetricStats getStats() {
+        return stats;
+    }
+
+    /**
+     * @see OrderMetric#getUniqueCities(List)
+     */
+    public List<String> getUniqueCities(List<Order> orders) {
+        return measure(MetricType.UNIQUE_CITIES, orders, () -> OrderMetric.getUniqueCities(orders));
+    }
+
+    /**
+     * @see OrderMetric#calculateTotalIncomeCompletedOrders(List)
+     */
+    public double calculateTotalIncomeCompletedOrders(List<Order> orders) {
+        return measure(MetricType.TOTAL_INCOME, orders, () -> OrderMetric.calculateTotalIncomeCompletedOrders(orders));
+    }
+
+    /**
+     * @see OrderMetric#getMostPopularProduct(List)
+     */
+    public String getMostPopularProduct(List<Order> orders) {
+        return measure(MetricType.MOST_POPULAR_PRODUCT, orders, () -> OrderMetric.getMostPopularProduct(orders));
+    }
+
+    /**
+     * @see OrderMetric#calculateAverageCheckDeliveredOrders(List)
+     */
+    public double calculateAverageCheckDeliveredOrders(List<Order> orders) {
+        return measure(MetricType.AVERAGE_CHECK, orders, () -> OrderMetric.calculateAverageCheckDeliveredOrders(orders));
+    }
+
+    /**
+     * @see OrderMetric#getCustomersWithMoreThanFiveOrders(List)
+     */
+    public List<Customer> getCustomersWithMoreThanFiveOrders(List<Order> orders) {
+        return getCustomersWithMoreThanOrders(orders, 5);
+    }
+
+    /**
+     * @see OrderMetric#getCustomersWithMoreThanOrders(List, long)
+     */
+    public List<Customer> getCustomersWithMoreThanOrders(List<Order> orders, long threshold) {
+        return measure(MetricType.CUSTOMERS_WITH_MORE_THAN_ORDERS, orders,
+                () -> OrderMetric.getCustomersWithMoreThanOrders(orders, threshold));
+    }
+
+    private <T> T measure(MetricType type, List<Order> orders, Supplier<T> computation) {
+        if (!stats.shouldSample()) {
+            return computation.get();
+        }
+        OrderMetricEvent event = new OrderMetricEvent();
+        event.begin();
+        long allocatedBefore = Allocations.currentThreadAllocatedBytes();
+        long start = System.nanoTime();
+
+        T result = computation.get();
+
+        long nanos = System.nanoTime() - start;
+        long allocated = allocatedBefore < 0 ? -1 : Allocations.currentThreadAllocatedBytes() - allocatedBefore;
+        event.end();
+        long items = type.readsItems() ? countItems(orders) : 0;
+        stats.record(type, nanos, orders.size(), items, allocated);
+        if (event.shouldCommit()) {
+            event.metric = type.name();
+            event.ordersScanned = orders.size();
+            event.itemsScanned = items;
+            event.allocatedBytes = allocated;
+            event.commit();
+        }
+        return result;
+    }
+
+    private static long countItems(List<Order> orders) {
+        long items = 0;
+        for (Order order : orders) {
+            if (order.getStatus() == OrderStatus.DELIVERED) {
+                items += order.getItems().size();
+            }
+        }
+        return items;
+    }
+
+}
@@ -0,0 +1,76 @@
+package com.innowise.service.instrumentation;
+
+import java.beans.ConstructorProperties;
+
+/**
+ * Point-in-time statistics of one metric. Exposed over JMX as composite data.
+ */
+public class MetricSnapshot {
+    private final String metric;
+    private final long calls;
+    private final long totalNanos;
+    private final long maxNanos;
+    private final long ordersScanned;
+    private final long itemsScanned;
+    private final long allocatedBytes;
+
+    @ConstructorProperties({"metric", "calls", "totalNanos", "maxNanos", "ordersScanned", "itemsScanned", "allocatedBytes"})
+    public MetricSnapshot(String metric, long calls, long totalNanos, long maxNanos,
+                          long ordersScanned, long itemsScanned, long allocatedBytes) {
+        this.metric = metric;
+        this.calls = calls;
+        this.totalNanos = totalNanos;
+        this.maxNanos = maxNanos;
+        this.ordersScanned = ordersScanned;
+        this.itemsScanned = itemsScanned;
+        this.allocatedBytes = allocatedBytes;
+    }
+
+    public String getMetric() {
+        return metric;
+    }
+
+    /**
+     * @return Number of recorded calls; with sampling, only sampled calls are counted
+     */
+    public long getCalls() {
+        return calls;
+    }
+
+    public long getTotalNanos() {
+        return totalNanos;
+    }
+
+    public long getMaxNanos() {
+        return maxNanos;
+    }
+
+    public long getOrdersScanned() {
+        return ordersScanned;
+    }
+
+    public long getItemsScanned() {
+        return itemsScanned;
+    }
+
+    /**
+     * @return Bytes allocated by the calling thread during recorded calls,
+     * or -1 if the JVM does not support allocation measurement
+     */
+    public long getAllocatedBytes() {
+        return allocatedBytes;
+    }
+
+    @Override
+    public String toString() {
+        return "MetricSnapshot{" +
+                "metric='" + metric + '\'' +
+                ", calls=" + calls +
+                ", totalNanos=" + totalNanos +
+                ", maxNanos=" + maxNanos +
+                ", ordersScanned=" + ordersScanned +
+                ", itemsScanned=" + itemsScanned +
+                ", allocatedBytes=" + allocatedBytes +
+                '}';
+    }
+}
@@ -0,0 +1,25 @@
+package com.innowise.service.instrumentation;
+
+/**
+ * {@code OrderMetric} computations tracked by {@link OrderMetricStats}.
+ */
+public enum MetricType {
+    UNIQUE_CITIES(false),
+    TOTAL_INCOME(true),
+    MOST_POPULAR_PRODUCT(true),
+    AVERAGE_CHECK(true),
+    CUSTOMERS_WITH_MORE_THAN_ORDERS(false);
+
+    private final boolean readsItems;
+
+    MetricType(boolean readsItems) {
+        this.readsItems = readsItems;
+    }
+
+    /**
+     * @return Whether the computation reads order items, not only orders
+     */
+    public boolean readsItems() {
+        return readsItems;
+    }
+}
@@ -0,0 +1,33 @@
+package com.innowise.service.instrumentation;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * JFR event emitted for every recorded {@code OrderMetric} computation.
+ */
+@Name(OrderMetricEvent.NAME)
+@Label("Order Metric")
+@Category({"Sales", "Metrics"})
+@Description("Computation of an order metric")
+class OrderMetricEvent extends Event {
+
+    static final String NAME = "com.innowise.OrderMetric";
+
+    @Label("Metric")
+    String metric;
+
+    @Label("Orders Scanned")
+    long ordersScanned;
+
+    @Label("Items Scanned")
+    long itemsScanned;
+
+    @Label("Allocated")
+    @DataAmount
+    long allocatedBytes;
+}
@@ -0,0 +1,184 @@
+package com.innowise.service.instrumentation;
+
+import javax.management.InstanceAlreadyExistsException;
+import javax.management.InstanceNotFoundException;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.MalformedObjectNameException;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Thread-safe per-metric statistics: call count, total and maximum duration,
+ * orders and items scanned and bytes allocated. Published over JMX with {@link #register()}.
+ * <p>
+ * With a sampling rate of {@code n}, only every {@code n}-th call is measured and the others
+ * run uninstrumented, which bounds the overhead on hot paths.
+ */
+public class OrderMetricStats implements OrderMetricStatsMXBean {
+
+    public static final String OBJECT_NAME = "com.innowise:type=OrderMetricStats";
+
+    private final Map<MetricType, Counters> counters = new EnumMap<>(MetricType.class);
+    private final AtomicLong callSequence = new AtomicLong();
+    private volatile int samplingRate;
+
+    /**
+     * Constructs statistics that record every call.
+     */
+    public OrderMetricStats() {
+        this(1);
+    }
+
+    /**
+     * Constructs statistics that record one call in {@code samplingRate}.
+     *
+     * @param samplingRate Sampling rate
+     * @throws IllegalArgumentException if the rate is not positive
+     */
+    public OrderMetricStats(int samplingRate) {
+        this.samplingRate = requirePositive(samplingRate);
+        for (MetricType type : MetricType.values()) {
+            counters.put(type, new Counters());
+        }
+    }
+
+    /**
+     * Returns whether the next call should be measured.
+     *
+     * @return {@code true} for one call in {@link #getSamplingRate()}
+     */
+    public boolean shouldSample() {
+        int rate = samplingRate;
+        return rate == 1 || callSequence.getAndIncrement() % rate == 0;
+    }
+
+    /**
+     * Records one measured call.
+     *
+     * @param type           Computed metric
+     * @param nanos          Duration of the call
+     * @param ordersScanned  Number of orders read
+     * @param itemsScanned   Number of order items read
+     * @param allocatedBytes Bytes allocated by the calling thread, or -1 if unknown
+     */
+    public void record(MetricType type, long nanos, long ordersScanned, long itemsScanned, long allocatedBytes) {
+        Counters c = counters.get(type);
+        c.calls.increment();
+        c.totalNanos.add(nanos);
+        c.maxNanos.accumulate(nanos);
+        c.ordersScanned.add(ordersScanned);
+        c.itemsScanned.add(itemsScanned);
+        if (allocatedBytes >= 0) {
+            c.allocatedBytes.add(allocatedBytes);
+        }
+    }
+
+    /**
+     * Returns the statistics of one metric.
+     *
+     * @param type Metric
+     * @return Current statistics
+     */
+    public MetricSnapshot getSnapshot(MetricType type) {
+        Counters c = counters.get(type);
+        return new MetricSnapshot(type.name(), c.calls.sum(), c.totalNanos.sum(), c.maxNanos.get(),
+                c.ordersScanned.sum(), c.itemsScanned.sum(),
+                Allocations.isSupported() ? c.allocatedBytes.sum() : -1);
+    }
+
+    @Override
+    public List<MetricSnapshot> getMetrics() {
+        List<MetricSnapshot> snapshots = new ArrayList<>();
+        for (MetricType type : MetricType.values()) {
+            snapshots.add(getSnapshot(type));
+        }
+        return snapshots;
+    }
+
+    @Override
+    public int getSamplingRate() {
+        return samplingRate;
+    }
+
+    @Override
+    public void setSamplingRate(int samplingRate) {
+        this.samplingRate = requirePositive(samplingRate);
+    }
+
+    private static int requirePositive(int samplingRate) {
+        if (samplingRate <= 0) {
+            throw new IllegalArgumentException("Sampling rate must be positive: " + samplingRate);
+        }
+        return samplingRate;
+    }
+
+    @Override
+    public void reset() {
+        for (Counters c : counters.values()) {
+            c.calls.reset();
+            c.totalNanos.reset();
+            c.maxNanos.reset();
+            c.ordersScanned.reset();
+            c.itemsScanned.reset();
+            c.allocatedBytes.reset();
+        }
+    }
+
+    /**
+     * Registers these statistics on the platform MBean server under {@link #OBJECT_NAME}.
+     *
+     * @return Name of the registered MBean
+     * @throws IllegalStateException if statistics are already registered under that name
+     */
+    public ObjectName register() {
+        ObjectName name = objectName();
+        try {
+            ManagementFactory.getPlatformMBeanServer().registerMBean(this, name);
+        } catch (InstanceAlreadyExistsException e) {
+            throw new IllegalStateException("Order metric statistics are already registered", e);
+        } catch (JMException e) {
+            throw new IllegalStateException("Cannot register " + name, e);
+        }
+        return name;
+    }
+
+    /**
+     * Removes the MBean registered by {@link #register()}, if any.
+     */
+    public void unregister() {
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        try {
+            server.unregisterMBean(objectName());
+        } catch (InstanceNotFoundException e) {
+            // not registered
+        } catch (JMException e) {
+            throw new IllegalStateException("Cannot unregister " + OBJECT_NAME, e);
+        }
+    }
+
+    private static ObjectName objectName() {
+        try {
+            return new ObjectName(OBJECT_NAME);
+        } catch (MalformedObjectNameException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static final class Counters {
+        final LongAdder calls = new LongAdder();
+        final LongAdder totalNanos = new LongAdder();
+        final LongAccumulator maxNanos = new LongAccumulator(Math::max, 0);
+        final LongAdder ordersScanned = new LongAdder();
+        final LongAdder itemsScanned = new LongAdder();
+        final LongAdder allocatedBytes = new LongAdder();
+    }
+
+}
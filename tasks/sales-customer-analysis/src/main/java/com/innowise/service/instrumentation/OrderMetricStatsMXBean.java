@@ -0,0 +1,32 @@
+package com.innowise.service.instrumentation;
+
+import java.util.List;
+
+/**
+ * JMX management interface of {@link OrderMetricStats}.
+ */
+public interface OrderMetricStatsMXBean {
+
+    /**
+     * @return Statistics of every metric, in {@link MetricType} order
+     */
+    List<MetricSnapshot> getMetrics();
+
+    /**
+     * @return Every how many calls one is recorded
+     */
+    int getSamplingRate();
+
+    /**
+     * Sets the sampling rate: 1 records every call, {@code n} records one call in {@code n}.
+     *
+     * @param samplingRate Sampling rate
+     * @throws IllegalArgumentException if the rate is not positive
+     */
+    void setSamplingRate(int samplingRate);
+
+    /**
+     * Clears all statistics.
+     */
+    void reset();
+}
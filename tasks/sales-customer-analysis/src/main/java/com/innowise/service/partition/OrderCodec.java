@@ -0,0 +1,93 @@
+package com.innowise.service.partition;
+
+import com.innowise.dto.Category;
+import com.innowise.dto.Customer;
+import com.innowise.dto.Order;
+import com.innowise.dto.OrderItem;
+import com.innowise.dto.OrderStatus;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Compact binary encoding of orders and customers used to ship data between
+ * the coordinator and worker processes.
+ */
+final class OrderCodec {
+
+    private static final Category[] CATEGORIES = Category.values();
+    private static final OrderStatus[] STATUSES = OrderStatus.values();
+
+    private OrderCodec() {
+    }
+
+    static void writeOrder(DataOutput out, Order order) throws IOException {
+        writeString(out, order.getOrderId());
+        writeDateTime(out, order.getOrderDate());
+        writeCustomer(out, order.getCustomer());
+        out.writeByte(order.getStatus().ordinal());
+        List<OrderItem> items = order.getItems();
+        out.writeInt(items.size());
+        for (OrderItem item : items) {
+            writeString(out, item.getProductName());
+            out.writeInt(item.getQuantity());
+            out.writeDouble(item.getPrice());
+            out.writeByte(item.getCategory().ordinal());
+        }
+    }
+
+    static Order readOrder(DataInput in) throws IOException {
+        String orderId = readString(in);
+        LocalDateTime orderDate = readDateTime(in);
+        Customer customer = readCustomer(in);
+        OrderStatus status = STATUSES[in.readByte()];
+        int itemCount = in.readInt();
+        List<OrderItem> items = new ArrayList<>(itemCount);
+        for (int i = 0; i < itemCount; i++) {
+            items.add(new OrderItem(readString(in), in.readInt(), in.readDouble(), CATEGORIES[in.readByte()]));
+        }
+        return new Order(orderId, orderDate, customer, items, status);
+    }
+
+    static void writeCustomer(DataOutput out, Customer customer) throws IOException {
+        writeString(out, customer.getCustomerId());
+        writeString(out, customer.getName());
+        writeString(out, customer.getEmail());
+        writeDateTime(out, customer.getRegisteredAt());
+        out.writeInt(customer.getAge());
+        writeString(out, customer.getCity());
+    }
+
+    static Customer readCustomer(DataInput in) throws IOException {
+        return new Customer(readString(in), readString(in), readString(in), readDateTime(in), in.readInt(), readString(in));
+    }
+
+    static void writeString(DataOutput out, String value) throws IOException {
+        out.writeBoolean(value != null);
+        if (value != null) {
+            out.writeUTF(value);
+        }
+    }
+
+    static String readString(DataInput in) throws IOException {
+        return in.readBoolean() ? in.readUTF() : null;
+    }
+
+    private static void writeDateTime(DataOutput out, LocalDateTime dateTime) throws IOException {
+        out.writeBoolean(dateTime != null);
+        if (dateTime != null) {
+            out.writeLong(dateTime.toEpochSecond(ZoneOffset.UTC));
+            out.writeInt(dateTime.getNano());
+        }
+    }
+
+    private static LocalDateTime readDateTime(DataInput in) throws IOException {
+        return in.readBoolean() ? LocalDateTime.ofEpochSecond(in.readLong(), in.readInt(), ZoneOffset.UTC) : null;
+    }
+
+}
@@ -0,0 +1,192 @@
+package com.innowise.service.partition;
+
+import com.innowise.dto.Customer;
+import com.innowise.dto.Order;
+import com.innowise.dto.OrderItem;
+import com.innowise.dto.OrderStatus;
+import com.innowise.util.Money;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Mergeable partial aggregate of all {@code OrderMetric} computations over a subset of orders.
+ * Workers build one partial per shard, serialize it, and the coordinator merges the partials
+ * into a result equivalent to running the metrics over all orders at once.
+ * Money is accumulated in cents, so merged totals do not depend on how orders were sharded.
+ */
+public class OrderPartial {
+
+    private final Set<String> cities = new LinkedHashSet<>();
+    private final Map<String, Long> productQuantities = new HashMap<>();
+    private final Map<String, CustomerCount> customerCounts = new LinkedHashMap<>();
+    private long incomeCents;
+    private long deliveredOrders;
+
+    /**
+     * Adds a single order to the aggregate.
+     *
+     * @param order Order to add
+     */
+    public void add(Order order) {
+        Customer customer = order.getCustomer();
+        cities.add(customer.getCity());
+        customerCounts.computeIfAbsent(customer.getCustomerId(), id -> new CustomerCount(customer)).count++;
+        if (order.getStatus() == OrderStatus.DELIVERED) {
+            deliveredOrders++;
+            for (OrderItem item : order.getItems()) {
+                incomeCents = Money.add(incomeCents, item.getTotalCents());
+                productQuantities.merge(item.getProductName(), (long) item.getQuantity(), Long::sum);
+            }
+        }
+    }
+
+    /**
+     * Merges another partial into this one.
+     *
+     * @param other Partial to merge; it is not modified
+     */
+    public void merge(OrderPartial other) {
+        cities.addAll(other.cities);
+        other.productQuantities.forEach((product, quantity) -> productQuantities.merge(product, quantity, Long::sum));
+        other.customerCounts.forEach((id, count) ->
+                customerCounts.computeIfAbsent(id, key -> new CustomerCount(count.customer)).count += count.count);
+        incomeCents = Money.add(incomeCents, other.incomeCents);
+        deliveredOrders += other.deliveredOrders;
+    }
+
+    /**
+     * @see com.innowise.service.OrderMetric#getUniqueCities(List)
+     */
+    public List<String> getUniqueCities() {
+        return List.copyOf(cities);
+    }
+
+    /**
+     * @see com.innowise.service.OrderMetric#calculateTotalIncomeCompletedOrdersCents(List)
+     */
+    public long getTotalIncomeCents() {
+        return incomeCents;
+    }
+
+    /**
+     * @see com.innowise.service.OrderMetric#calculateTotalIncomeCompletedOrders(List)
+     */
+    public double getTotalIncome() {
+        return Money.toAmount(incomeCents);
+    }
+
+    /**
+     * @see com.innowise.service.OrderMetric#getMostPopularProduct(List)
+     * @throws RuntimeException if there are no delivered orders
+     */
+    public String getMostPopularProduct() {
+        return productQuantities.entrySet()
+                .stream()
+                .max(Map.Entry.comparingByValue())
+                .orElseThrow(() -> new RuntimeException("No order found"))
+                .getKey();
+    }
+
+    /**
+     * @see com.innowise.service.OrderMetric#calculateAverageCheckDeliveredOrdersCents(List)
+     */
+    public long getAverageCheckCents() {
+        return deliveredOrders == 0 ? 0 : Money.average(incomeCents, deliveredOrders);
+    }
+
+    /**
+     * @see com.innowise.service.OrderMetric#calculateAverageCheckDeliveredOrders(List)
+     */
+    public double getAverageCheck() {
+        return deliveredOrders == 0 ? 0.0 : (double) incomeCents / deliveredOrders / Money.CENTS_PER_UNIT;
+    }
+
+    /**
+     * @see com.innowise.service.OrderMetric#getCustomersWithMoreThanOrders(List, long)
+     */
+    public List<Customer> getCustomersWithMoreThanOrders(long threshold) {
+        List<Customer> result = new ArrayList<>();
+        for (CustomerCount count : customerCounts.values()) {
+            if (count.count > threshold) {
+                result.add(count.customer);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Serializes the partial.
+     *
+     * @param out Destination
+     * @throws IOException if writing fails
+     */
+    public void writeTo(DataOutput out) throws IOException {
+        out.writeLong(incomeCents);
+        out.writeLong(deliveredOrders);
+        out.writeInt(cities.size());
+        for (String city : cities) {
+            OrderCodec.writeString(out, city);
+        }
+        out.writeInt(productQuantities.size());
+        for (Map.Entry<String, Long> entry : productQuantities.entrySet()) {
+            OrderCodec.writeString(out, entry.getKey());
+            out.writeLong(entry.getValue());
+        }
+        out.writeInt(customerCounts.size());
+        for (CustomerCount count : customerCounts.values()) {
+            OrderCodec.writeCustomer(out, count.customer);
+            out.writeLong(count.count);
+        }
+    }
+
+    /**
+     * Restores a partial written by {@link #writeTo(DataOutput)}.
+     *
+     * @param in Source
+     * @return Restored partial
+     * @throws IOException if reading fails
+     */
+    public static OrderPartial readFrom(DataInput in) throws IOException {
+        OrderPartial partial = new OrderPartial();
+        partial.incomeCents = in.readLong();
+        partial.deliveredOrders = in.readLong();
+        int cityCount = in.readInt();
+        for (int i = 0; i < cityCount; i++) {
+            partial.cities.add(OrderCodec.readString(in));
+        }
+        int productCount = in.readInt();
+        for (int i = 0; i < productCount; i++) {
+            partial.productQuantities.put(OrderCodec.readString(in), in.readLong());
+        }
+        int customerCount = in.readInt();
+        for (int i = 0; i < customerCount; i++) {
+            Customer customer = OrderCodec.readCustomer(in);
+            partial.customerCounts.put(customer.getCustomerId(), new CustomerCount(customer, in.readLong()));
+        }
+        return partial;
+    }
+
+    private static final class CustomerCount {
+        private final Customer customer;
+        private long count;
+
+        CustomerCount(Customer customer) {
+            this(customer, 0);
+        }
+
+        CustomerCount(Customer customer, long count) {
+            this.customer = customer;
+            this.count = count;
+        }
+    }
+
+}
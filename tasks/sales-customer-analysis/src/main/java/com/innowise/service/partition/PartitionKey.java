@@ -0,0 +1,37 @@
+package com.innowise.service.partition;
+
+import com.innowise.dto.Order;
+
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+/**
+ * Strategy for assigning orders to partitions.
+ */
+public enum PartitionKey {
+
+    /**
+     * All orders of a customer go to the same partition, so per-customer counts
+     * are complete within each worker. Orders of customers without an id go to partition 0.
+     */
+    CUSTOMER {
+        @Override
+        int partitionOf(Order order, int partitions) {
+            return Math.floorMod(Objects.hashCode(order.getCustomer().getCustomerId()), partitions);
+        }
+    },
+
+    /**
+     * All orders of a calendar month go to the same partition.
+     */
+    MONTH {
+        @Override
+        int partitionOf(Order order, int partitions) {
+            LocalDateTime date = order.getOrderDate();
+            return Math.floorMod(date.getYear() * 12 + date.getMonthValue(), partitions);
+        }
+    };
+
+    abstract int partitionOf(Order order, int partitions);
+
+}
@@ -0,0 +1,31 @@
+package com.innowise.service.partition;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+
+/**
+ * Entry point of a worker process. Reads a stream of orders from standard input,
+ * aggregates them into an {@link OrderPartial} and writes the serialized partial to standard output.
+ * Each order is preceded by {@code true}; the stream is terminated by {@code false}.
+ */
+public final class PartitionWorker {
+
+    private PartitionWorker() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        DataInputStream in = new DataInputStream(new BufferedInputStream(System.in));
+        OrderPartial partial = new OrderPartial();
+        while (in.readBoolean()) {
+            partial.add(OrderCodec.readOrder(in));
+        }
+
+        DataOutputStream out = new DataOutputStream(new BufferedOutputStream(System.out));
+        partial.writeTo(out);
+        out.flush();
+    }
+
+}
@@ -0,0 +1,136 @@
+package com.innowise.service.partition;
+
+import com.innowise.dto.Order;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * Coordinator of a partitioned map-reduce execution of the order metrics.
+ * Orders are sharded by a {@link PartitionKey} across worker JVMs started as local processes;
+ * each worker aggregates its shard into an {@link OrderPartial}, and the coordinator merges them.
+ * Orders are streamed to the workers one by one, so neither the coordinator nor any worker
+ * has to hold the whole order history in its heap.
+ */
+public class PartitionedOrderMetric {
+
+    private final int workers;
+    private final PartitionKey partitionKey;
+    private final List<String> jvmOptions;
+
+    /**
+     * Constructs a coordinator with default worker JVM options.
+     *
+     * @param workers      Number of worker processes
+     * @param partitionKey Strategy for sharding orders
+     */
+    public PartitionedOrderMetric(int workers, PartitionKey partitionKey) {
+        this(workers, partitionKey, List.of());
+    }
+
+    /**
+     * Constructs a coordinator.
+     *
+     * @param workers      Number of worker processes
+     * @param partitionKey Strategy for sharding orders
+     * @param jvmOptions   Extra options for every worker JVM, for example {@code -Xmx2g}
+     * @throws IllegalArgumentException if the number of workers is not positive
+     */
+    public PartitionedOrderMetric(int workers, PartitionKey partitionKey, List<String> jvmOptions) {
+        if (workers <= 0) {
+            throw new IllegalArgumentException("Number of workers must be positive: " + workers);
+        }
+        this.workers = workers;
+        this.partitionKey = partitionKey;
+        this.jvmOptions = List.copyOf(jvmOptions);
+    }
+
+    /**
+     * Aggregates all given orders across the worker processes.
+     *
+     * @param orders Orders to aggregate, consumed once
+     * @return Merged aggregate of all orders
+     * @throws UncheckedIOException  if communication with a worker fails
+     * @throws IllegalStateException if a worker exits abnormally
+     */
+    public OrderPartial execute(Iterator<Order> orders) {
+        List<Process> processes = new ArrayList<>(workers);
+        try {
+            for (int i = 0; i < workers; i++) {
+                processes.add(startWorker());
+            }
+            distribute(orders, processes);
+            return collect(processes);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Partitioned execution failed", e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for workers", e);
+        } finally {
+            processes.forEach(Process::destroy);
+        }
+    }
+
+    /**
+     * Aggregates all given orders across the worker processes.
+     *
+     * @see #execute(Iterator)
+     */
+    public OrderPartial execute(Iterable<Order> orders) {
+        return execute(orders.iterator());
+    }
+
+    private Process startWorker() throws IOException {
+        List<String> command = new ArrayList<>();
+        command.add(Path.of(System.getProperty("java.home"), "bin", "java").toString());
+        command.addAll(jvmOptions);
+        command.add("-cp");
+        command.add(System.getProperty("java.class.path"));
+        command.add(PartitionWorker.class.getName());
+        return new ProcessBuilder(command)
+                .redirectError(ProcessBuilder.Redirect.INHERIT)
+                .start();
+    }
+
+    private void distribute(Iterator<Order> orders, List<Process> processes) throws IOException {
+        List<DataOutputStream> outputs = new ArrayList<>(processes.size());
+        for (Process process : processes) {
+            outputs.add(new DataOutputStream(new BufferedOutputStream(process.getOutputStream())));
+        }
+        while (orders.hasNext()) {
+            Order order = orders.next();
+            DataOutputStream out = outputs.get(partitionKey.partitionOf(order, workers));
+            out.writeBoolean(true);
+            OrderCodec.writeOrder(out, order);
+        }
+        for (DataOutputStream out : outputs) {
+            out.writeBoolean(false);
+            out.close();
+        }
+    }
+
+    private OrderPartial collect(List<Process> processes) throws IOException, InterruptedException {
+        OrderPartial result = new OrderPartial();
+        for (int i = 0; i < processes.size(); i++) {
+            Process process = processes.get(i);
+            try (DataInputStream in = new DataInputStream(new BufferedInputStream(process.getInputStream()))) {
+                OrderPartial partial = OrderPartial.readFrom(in);
+                int exitCode = process.waitFor();
+                if (exitCode != 0) {
+                    throw new IllegalStateException("Worker " + i + " failed with exit code " + exitCode);
+                }
+                result.merge(partial);
+            }
+        }
+        return result;
+    }
+
+}
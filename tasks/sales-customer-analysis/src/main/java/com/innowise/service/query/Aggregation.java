@@ -0,0 +1,29 @@
+package com.innowise.service.query;
+
+/**
+ * Aggregate function applied to a {@link Measure} within each group.
+ */
+public enum Aggregation {
+
+    SUM,
+    AVG,
+    MIN,
+    MAX,
+
+    /**
+     * Number of matching order lines; the measure is ignored.
+     */
+    COUNT,
+
+    /**
+     * Number of distinct orders with at least one matching line; the measure is ignored.
+     */
+    ORDER_COUNT,
+
+    /**
+     * Sum of the measure divided by the number of distinct orders in the group,
+     * for example the average check when applied to {@link Measure#REVENUE}.
+     */
+    AVG_PER_ORDER
+
+}
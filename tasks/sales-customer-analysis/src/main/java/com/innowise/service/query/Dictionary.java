@@ -0,0 +1,34 @@
+package com.innowise.service.query;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Append-only dictionary encoding strings as dense integer ids.
+ */
+final class Dictionary {
+
+    private final Map<String, Integer> ids = new HashMap<>();
+    private final List<String> values = new ArrayList<>();
+
+    int idOf(String value) {
+        Integer id = ids.get(value);
+        if (id == null) {
+            id = values.size();
+            ids.put(value, id);
+            values.add(value);
+        }
+        return id;
+    }
+
+    String get(int id) {
+        return values.get(id);
+    }
+
+    int size() {
+        return values.size();
+    }
+
+}
@@ -0,0 +1,64 @@
+package com.innowise.service.query;
+
+import com.innowise.dto.Category;
+import com.innowise.dto.OrderStatus;
+
+import java.time.YearMonth;
+
+/**
+ * Attribute of an order line that query results can be grouped by.
+ */
+public enum Dimension {
+
+    STATUS,
+    CATEGORY,
+    CITY,
+    PRODUCT,
+    CUSTOMER,
+
+    /**
+     * Calendar month of the order date; orders dated before year 0 cannot be grouped by it.
+     */
+    MONTH,
+
+    /**
+     * Customer age in ten-year bands, for example {@code 20-29}; negative ages fall into {@code 0-9}.
+     */
+    AGE_GROUP;
+
+    private static final OrderStatus[] STATUSES = OrderStatus.values();
+    private static final Category[] CATEGORIES = Category.values();
+
+    static final int AGE_GROUP_WIDTH = 10;
+
+    /**
+     * Converts a group id of this dimension back to a readable label.
+     */
+    String label(int id, OrderBatch batch) {
+        return switch (this) {
+            case STATUS -> STATUSES[id].name();
+            case CATEGORY -> CATEGORIES[id].name();
+            case CITY -> batch.cities.get(id);
+            case PRODUCT -> batch.products.get(id);
+            case CUSTOMER -> batch.customers.get(id);
+            case MONTH -> YearMonth.of(id / 12, id % 12 + 1).toString();
+            case AGE_GROUP -> id * AGE_GROUP_WIDTH + "-" + (id * AGE_GROUP_WIDTH + AGE_GROUP_WIDTH - 1);
+        };
+    }
+
+    /**
+     * Returns the column of the batch holding group ids of this dimension.
+     */
+    int[] column(OrderBatch batch) {
+        return switch (this) {
+            case STATUS -> batch.status;
+            case CATEGORY -> batch.category;
+            case CITY -> batch.city;
+            case PRODUCT -> batch.product;
+            case CUSTOMER -> batch.customer;
+            case MONTH -> batch.month;
+            case AGE_GROUP -> batch.ageGroup;
+        };
+    }
+
+}
@@ -0,0 +1,23 @@
+package com.innowise.service.query;
+
+/**
+ * Numeric value of an order line that queries aggregate.
+ */
+public enum Measure {
+
+    /**
+     * Price multiplied by quantity.
+     */
+    REVENUE,
+
+    /**
+     * Number of units.
+     */
+    QUANTITY,
+
+    /**
+     * Unit price.
+     */
+    PRICE
+
+}
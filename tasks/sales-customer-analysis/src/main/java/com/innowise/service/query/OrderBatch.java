@@ -0,0 +1,82 @@
+package com.innowise.service.query;
+
+import com.innowise.dto.Customer;
+import com.innowise.dto.Order;
+import com.innowise.dto.OrderItem;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+/**
+ * Columnar batch of order lines. Every row is one {@link OrderItem} together with
+ * the attributes of its order and customer; strings are dictionary-encoded.
+ * The batch is refilled in place, while the dictionaries live for the whole query.
+ */
+final class OrderBatch {
+
+    static final int CAPACITY = 1024;
+
+    final Dictionary cities = new Dictionary();
+    final Dictionary products = new Dictionary();
+    final Dictionary customers = new Dictionary();
+
+    final int[] order = new int[CAPACITY];
+    final int[] status = new int[CAPACITY];
+    final int[] category = new int[CAPACITY];
+    final int[] city = new int[CAPACITY];
+    final int[] product = new int[CAPACITY];
+    final int[] customer = new int[CAPACITY];
+    final int[] month = new int[CAPACITY];
+    final int[] ageGroup = new int[CAPACITY];
+    final long[] orderDate = new long[CAPACITY];
+    final int[] quantity = new int[CAPACITY];
+    final double[] price = new double[CAPACITY];
+    int size;
+
+    private int currentOrder;
+    private int currentStatus;
+    private int currentCity;
+    private int currentCustomer;
+    private int currentMonth;
+    private int currentAgeGroup;
+    private long currentOrderDate;
+
+    /**
+     * Encodes the order-level attributes shared by the following {@link #addItem(OrderItem)} calls.
+     */
+    void beginOrder(Order order, int orderIndex) {
+        Customer orderCustomer = order.getCustomer();
+        LocalDateTime date = order.getOrderDate();
+        currentOrder = orderIndex;
+        currentStatus = order.getStatus().ordinal();
+        currentCity = cities.idOf(orderCustomer.getCity());
+        currentCustomer = customers.idOf(orderCustomer.getCustomerId());
+        currentMonth = date.getYear() * 12 + date.getMonthValue() - 1;
+        currentAgeGroup = Math.max(orderCustomer.getAge(), 0) / Dimension.AGE_GROUP_WIDTH;
+        currentOrderDate = date.toEpochSecond(ZoneOffset.UTC);
+    }
+
+    void addItem(OrderItem item) {
+        int row = size++;
+        order[row] = currentOrder;
+        status[row] = currentStatus;
+        category[row] = item.getCategory().ordinal();
+        city[row] = currentCity;
+        product[row] = products.idOf(item.getProductName());
+        customer[row] = currentCustomer;
+        month[row] = currentMonth;
+        ageGroup[row] = currentAgeGroup;
+        orderDate[row] = currentOrderDate;
+        quantity[row] = item.getQuantity();
+        price[row] = item.getPrice();
+    }
+
+    boolean isFull() {
+        return size == CAPACITY;
+    }
+
+    void clear() {
+        size = 0;
+    }
+
+}
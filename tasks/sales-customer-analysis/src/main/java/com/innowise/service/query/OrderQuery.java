@@ -0,0 +1,165 @@
+package com.innowise.service.query;
+
+import com.innowise.dto.Category;
+import com.innowise.dto.Order;
+import com.innowise.dto.OrderStatus;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Declarative query over order lines: filters, an optional grouping dimension,
+ * an aggregate of a measure and an optional top-K limit.
+ * <pre>{@code
+ * QueryResult incomeByCategory = OrderQuery.aggregate(Aggregation.SUM, Measure.REVENUE)
+ *         .whereStatus(OrderStatus.DELIVERED)
+ *         .groupBy(Dimension.CATEGORY)
+ *         .execute(orders);
+ * }</pre>
+ * Queries are executed batch by batch over columnar data by a vectorized executor.
+ */
+public class OrderQuery {
+
+    private final Aggregation aggregation;
+    private final Measure measure;
+    private EnumSet<OrderStatus> statuses;
+    private EnumSet<Category> categories;
+    private Set<String> cities;
+    private LocalDateTime from;
+    private LocalDateTime to;
+    private Dimension groupBy;
+    private int limit;
+
+    private OrderQuery(Aggregation aggregation, Measure measure) {
+        this.aggregation = aggregation;
+        this.measure = measure;
+    }
+
+    /**
+     * Starts a query aggregating the given measure.
+     *
+     * @param aggregation Aggregate function
+     * @param measure     Measure to aggregate
+     * @return New query
+     */
+    public static OrderQuery aggregate(Aggregation aggregation, Measure measure) {
+        return new OrderQuery(aggregation, measure);
+    }
+
+    /**
+     * Starts a query counting order lines.
+     *
+     * @return New query
+     */
+    public static OrderQuery count() {
+        return new OrderQuery(Aggregation.COUNT, Measure.QUANTITY);
+    }
+
+    /**
+     * Starts a query counting distinct orders.
+     *
+     * @return New query
+     */
+    public static OrderQuery countOrders() {
+        return new OrderQuery(Aggregation.ORDER_COUNT, Measure.QUANTITY);
+    }
+
+    public OrderQuery whereStatus(OrderStatus first, OrderStatus... rest) {
+        statuses = EnumSet.of(first, rest);
+        return this;
+    }
+
+    public OrderQuery whereCategory(Category first, Category... rest) {
+        categories = EnumSet.of(first, rest);
+        return this;
+    }
+
+    public OrderQuery whereCity(String... cityNames) {
+        cities = new HashSet<>(Arrays.asList(cityNames));
+        return this;
+    }
+
+    /**
+     * Keeps orders placed within the given range.
+     *
+     * @param from Start of the range, inclusive
+     * @param to   End of the range, exclusive
+     * @return This query
+     */
+    public OrderQuery whereOrderDateBetween(LocalDateTime from, LocalDateTime to) {
+        this.from = from;
+        this.to = to;
+        return this;
+    }
+
+    public OrderQuery groupBy(Dimension dimension) {
+        groupBy = dimension;
+        return this;
+    }
+
+    /**
+     * Keeps only the groups with the highest aggregate values, sorted in descending order.
+     *
+     * @param k Number of groups to keep
+     * @return This query
+     * @throws IllegalArgumentException if {@code k} is not positive
+     */
+    public OrderQuery top(int k) {
+        if (k <= 0) {
+            throw new IllegalArgumentException("Top-K limit must be positive: " + k);
+        }
+        limit = k;
+        return this;
+    }
+
+    /**
+     * Executes the query.
+     *
+     * @param orders Orders to query
+     * @return Aggregated rows
+     */
+    public QueryResult execute(List<Order> orders) {
+        return new VectorizedQueryExecutor(this).execute(orders);
+    }
+
+    Aggregation getAggregation() {
+        return aggregation;
+    }
+
+    Measure getMeasure() {
+        return measure;
+    }
+
+    EnumSet<OrderStatus> getStatuses() {
+        return statuses;
+    }
+
+    EnumSet<Category> getCategories() {
+        return categories;
+    }
+
+    Set<String> getCities() {
+        return cities;
+    }
+
+    LocalDateTime getFrom() {
+        return from;
+    }
+
+    LocalDateTime getTo() {
+        return to;
+    }
+
+    Dimension getGroupBy() {
+        return groupBy;
+    }
+
+    int getLimit() {
+        return limit;
+    }
+
+}
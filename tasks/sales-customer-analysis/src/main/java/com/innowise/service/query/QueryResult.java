@@ -0,0 +1,81 @@
+package com.innowise.service.query;
+
+import java.util.List;
+
+/**
+ * Result of an {@link OrderQuery}: one row per group with its aggregate value.
+ * Without a top-K limit, rows appear in the order their groups were first encountered.
+ */
+public class QueryResult {
+
+    /**
+     * Group label used when the query has no grouping dimension.
+     */
+    public static final String ALL = "ALL";
+
+    private final List<Row> rows;
+
+    QueryResult(List<Row> rows) {
+        this.rows = List.copyOf(rows);
+    }
+
+    public List<Row> getRows() {
+        return rows;
+    }
+
+    /**
+     * Returns the aggregate value of a group.
+     *
+     * @param group Group label
+     * @return Aggregate value, or 0.0 if no order line matched the group
+     */
+    public double getValue(String group) {
+        for (Row row : rows) {
+            if (row.getGroup().equals(group)) {
+                return row.getValue();
+            }
+        }
+        return 0.0;
+    }
+
+    /**
+     * @return Aggregate value of an ungrouped query, or 0.0 if no order line matched
+     */
+    public double getSingleValue() {
+        return getValue(ALL);
+    }
+
+    @Override
+    public String toString() {
+        return "QueryResult{" +
+                "rows=" + rows +
+                '}';
+    }
+
+    /**
+     * Aggregate value of a single group.
+     */
+    public static class Row {
+        private final String group;
+        private final double value;
+
+        Row(String group, double value) {
+            this.group = group;
+            this.value = value;
+        }
+
+        public String getGroup() {
+            return group;
+        }
+
+        public double getValue() {
+            return value;
+        }
+
+        @Override
+        public String toString() {
+            return group + "=" + value;
+        }
+    }
+
+}
@@ -0,0 +1,236 @@
+package com.innowise.service.query;
+
+import com.innowise.dto.Category;
+import com.innowise.dto.Order;
+import com.innowise.dto.OrderItem;
+import com.innowise.dto.OrderStatus;
+
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Executes an {@link OrderQuery} over columnar {@link OrderBatch}es.
+ * Each batch is processed column by column: every filter narrows a selection vector of row indices,
+ * the measure is evaluated for the selected rows into a value vector,
+ * and the values are folded into per-group accumulators stored in primitive arrays indexed by group id.
+ */
+final class VectorizedQueryExecutor {
+
+    private static final int INITIAL_GROUPS = 64;
+
+    private final OrderQuery query;
+    private final OrderBatch batch = new OrderBatch();
+    private final int[] selection = new int[OrderBatch.CAPACITY];
+    private final double[] values = new double[OrderBatch.CAPACITY];
+
+    private final boolean[] statusFilter;
+    private final boolean[] categoryFilter;
+    private final long fromEpochSecond;
+    private final long toEpochSecond;
+    private boolean[] cityFilter = new boolean[0];
+
+    private double[] sums = new double[INITIAL_GROUPS];
+    private double[] minimums = new double[INITIAL_GROUPS];
+    private double[] maximums = new double[INITIAL_GROUPS];
+    private long[] counts = new long[INITIAL_GROUPS];
+    private long[] orderCounts = new long[INITIAL_GROUPS];
+    private int[] lastOrders = new int[INITIAL_GROUPS];
+    private final List<Integer> groupsInEncounterOrder = new ArrayList<>();
+
+    VectorizedQueryExecutor(OrderQuery query) {
+        this.query = query;
+        this.statusFilter = toFilter(query.getStatuses(), OrderStatus.values().length);
+        this.categoryFilter = toFilter(query.getCategories(), Category.values().length);
+        this.fromEpochSecond = query.getFrom() == null ? Long.MIN_VALUE : query.getFrom().toEpochSecond(ZoneOffset.UTC);
+        this.toEpochSecond = query.getTo() == null ? Long.MAX_VALUE : query.getTo().toEpochSecond(ZoneOffset.UTC);
+        Arrays.fill(lastOrders, -1);
+    }
+
+    QueryResult execute(List<Order> orders) {
+        for (int orderIndex = 0; orderIndex < orders.size(); orderIndex++) {
+            Order order = orders.get(orderIndex);
+            batch.beginOrder(order, orderIndex);
+            for (OrderItem item : order.getItems()) {
+                batch.addItem(item);
+                if (batch.isFull()) {
+                    processBatch();
+                }
+            }
+        }
+        if (batch.size > 0) {
+            processBatch();
+        }
+        return buildResult();
+    }
+
+    private void processBatch() {
+        int selected = select();
+        evaluateMeasure(selected);
+        accumulate(selected);
+        batch.clear();
+    }
+
+    private int select() {
+        int selected = batch.size;
+        for (int i = 0; i < selected; i++) {
+            selection[i] = i;
+        }
+        if (statusFilter != null) {
+            selected = filter(selected, batch.status, statusFilter);
+        }
+        if (categoryFilter != null) {
+            selected = filter(selected, batch.category, categoryFilter);
+        }
+        if (query.getCities() != null) {
+            updateCityFilter(query.getCities());
+            selected = filter(selected, batch.city, cityFilter);
+        }
+        if (query.getFrom() != null || query.getTo() != null) {
+            long[] dates = batch.orderDate;
+            int kept = 0;
+            for (int i = 0; i < selected; i++) {
+                int row = selection[i];
+                if (dates[row] >= fromEpochSecond && dates[row] < toEpochSecond) {
+                    selection[kept++] = row;
+                }
+            }
+            selected = kept;
+        }
+        return selected;
+    }
+
+    private int filter(int selected, int[] column, boolean[] allowed) {
+        int kept = 0;
+        for (int i = 0; i < selected; i++) {
+            int row = selection[i];
+            if (allowed[column[row]]) {
+                selection[kept++] = row;
+            }
+        }
+        return kept;
+    }
+
+    private void evaluateMeasure(int selected) {
+        double[] price = batch.price;
+        int[] quantity = batch.quantity;
+        switch (query.getMeasure()) {
+            case REVENUE -> {
+                for (int i = 0; i < selected; i++) {
+                    int row = selection[i];
+                    values[i] = price[row] * quantity[row];
+                }
+            }
+            case QUANTITY -> {
+                for (int i = 0; i < selected; i++) {
+                    values[i] = quantity[selection[i]];
+                }
+            }
+            case PRICE -> {
+                for (int i = 0; i < selected; i++) {
+                    values[i] = price[selection[i]];
+                }
+            }
+        }
+    }
+
+    private void accumulate(int selected) {
+        Dimension groupBy = query.getGroupBy();
+        int[] keys = groupBy == null ? null : groupBy.column(batch);
+        int[] orders = batch.order;
+        for (int i = 0; i < selected; i++) {
+            int row = selection[i];
+            int group = keys == null ? 0 : keys[row];
+            if (group < 0) {
+                throw new IllegalArgumentException("Order " + orders[row] + " cannot be grouped by " + groupBy);
+            }
+            ensureGroup(group);
+            double value = values[i];
+            sums[group] += value;
+            minimums[group] = Math.min(minimums[group], value);
+            maximums[group] = Math.max(maximums[group], value);
+            if (lastOrders[group] != orders[row]) {
+                lastOrders[group] = orders[row];
+                orderCounts[group]++;
+            }
+            counts[group]++;
+        }
+    }
+
+    private void ensureGroup(int group) {
+        if (group >= counts.length) {
+            int oldCapacity = counts.length;
+            int capacity = Math.max(oldCapacity * 2, group + 1);
+            sums = Arrays.copyOf(sums, capacity);
+            minimums = Arrays.copyOf(minimums, capacity);
+            maximums = Arrays.copyOf(maximums, capacity);
+            counts = Arrays.copyOf(counts, capacity);
+            orderCounts = Arrays.copyOf(orderCounts, capacity);
+            lastOrders = Arrays.copyOf(lastOrders, capacity);
+            Arrays.fill(lastOrders, oldCapacity, capacity, -1);
+        }
+        if (counts[group] == 0) {
+            minimums[group] = Double.POSITIVE_INFINITY;
+            maximums[group] = Double.NEGATIVE_INFINITY;
+            groupsInEncounterOrder.add(group);
+        }
+    }
+
+    private QueryResult buildResult() {
+        Dimension groupBy = query.getGroupBy();
+        List<QueryResult.Row> rows = new ArrayList<>(groupsInEncounterOrder.size());
+        for (int group : groupsInEncounterOrder) {
+            String label = groupBy == null ? QueryResult.ALL : groupBy.label(group, batch);
+            rows.add(new QueryResult.Row(label, aggregate(group)));
+        }
+        if (query.getLimit() > 0) {
+            rows.sort(Comparator.comparingDouble(QueryResult.Row::getValue).reversed());
+            if (rows.size() > query.getLimit()) {
+                rows = rows.subList(0, query.getLimit());
+            }
+        }
+        return new QueryResult(rows);
+    }
+
+    private double aggregate(int group) {
+        return switch (query.getAggregation()) {
+            case SUM -> sums[group];
+            case AVG -> sums[group] / counts[group];
+            case MIN -> minimums[group];
+            case MAX -> maximums[group];
+            case COUNT -> counts[group];
+            case ORDER_COUNT -> orderCounts[group];
+            case AVG_PER_ORDER -> sums[group] / orderCounts[group];
+        };
+    }
+
+    /**
+     * Extends the city filter to cover city ids added to the dictionary since the previous batch.
+     */
+    private void updateCityFilter(Set<String> cities) {
+        int known = cityFilter.length;
+        int size = batch.cities.size();
+        if (size > known) {
+            cityFilter = Arrays.copyOf(cityFilter, size);
+            for (int id = known; id < size; id++) {
+                cityFilter[id] = cities.contains(batch.cities.get(id));
+            }
+        }
+    }
+
+    private static <E extends Enum<E>> boolean[] toFilter(EnumSet<E> allowed, int size) {
+        if (allowed == null) {
+            return null;
+        }
+        boolean[] filter = new boolean[size];
+        for (E value : allowed) {
+            filter[value.ordinal()] = true;
+        }
+        return filter;
+    }
+
+}
@@ -0,0 +1,63 @@
+package com.innowise.service.report;
+
+import com.innowise.dto.Customer;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Results of a {@link ReportRequest}, one value per requested metric.
+ */
+public final class Report {
+
+    private final Map<ReportMetric, Object> results;
+
+    Report(EnumMap<ReportMetric, Object> results) {
+        this.results = Collections.unmodifiableMap(results);
+    }
+
+    /**
+     * @return All results keyed by metric
+     */
+    public Map<ReportMetric, Object> getResults() {
+        return results;
+    }
+
+    @SuppressWarnings("unchecked")
+    public List<String> getUniqueCities() {
+        return (List<String>) require(ReportMetric.UNIQUE_CITIES);
+    }
+
+    public double getTotalIncome() {
+        return (Double) require(ReportMetric.TOTAL_INCOME);
+    }
+
+    public String getMostPopularProduct() {
+        return (String) require(ReportMetric.MOST_POPULAR_PRODUCT);
+    }
+
+    public double getAverageCheck() {
+        return (Double) require(ReportMetric.AVERAGE_CHECK);
+    }
+
+    @SuppressWarnings("unchecked")
+    public List<Customer> getCustomersWithMoreThanFiveOrders() {
+        return (List<Customer>) require(ReportMetric.CUSTOMERS_WITH_MORE_THAN_FIVE_ORDERS);
+    }
+
+    private Object require(ReportMetric metric) {
+        if (!results.containsKey(metric)) {
+            throw new IllegalStateException("Metric " + metric + " was not requested");
+        }
+        return results.get(metric);
+    }
+
+    @Override
+    public String toString() {
+        return "Report{" +
+                "results=" + results +
+                '}';
+    }
+}
@@ -0,0 +1,30 @@
+package com.innowise.service.report;
+
+import com.innowise.dto.Order;
+import com.innowise.service.OrderMetric;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Metrics that can be requested in a report, each backed by an {@link OrderMetric} method.
+ */
+public enum ReportMetric {
+
+    UNIQUE_CITIES(OrderMetric::getUniqueCities),
+    TOTAL_INCOME(OrderMetric::calculateTotalIncomeCompletedOrders),
+    MOST_POPULAR_PRODUCT(OrderMetric::getMostPopularProduct),
+    AVERAGE_CHECK(OrderMetric::calculateAverageCheckDeliveredOrders),
+    CUSTOMERS_WITH_MORE_THAN_FIVE_ORDERS(OrderMetric::getCustomersWithMoreThanFiveOrders);
+
+    private final Function<List<Order>, Object> metric;
+
+    ReportMetric(Function<List<Order>, Object> metric) {
+        this.metric = metric;
+    }
+
+    Object compute(List<Order> orders) {
+        return metric.apply(orders);
+    }
+
+}
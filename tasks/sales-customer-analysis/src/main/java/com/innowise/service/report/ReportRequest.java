@@ -0,0 +1,58 @@
+package com.innowise.service.report;
+
+import java.util.EnumSet;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Request for a set of metrics over a named dataset.
+ * Requests with the same dataset and metrics are equal and can share one computation.
+ */
+public final class ReportRequest {
+    private final String datasetId;
+    private final Set<ReportMetric> metrics;
+
+    public ReportRequest(String datasetId, Set<ReportMetric> metrics) {
+        if (metrics.isEmpty()) {
+            throw new IllegalArgumentException("A report needs at least one metric");
+        }
+        this.datasetId = Objects.requireNonNull(datasetId);
+        this.metrics = EnumSet.copyOf(metrics);
+    }
+
+    public ReportRequest(String datasetId, ReportMetric first, ReportMetric... rest) {
+        this(datasetId, EnumSet.of(first, rest));
+    }
+
+    public String getDatasetId() {
+        return datasetId;
+    }
+
+    public Set<ReportMetric> getMetrics() {
+        return EnumSet.copyOf(metrics);
+    }
+
+    Set<ReportMetric> metrics() {
+        return metrics;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (o == null || getClass() != o.getClass()) return false;
+        ReportRequest that = (ReportRequest) o;
+        return Objects.equals(datasetId, that.datasetId) && Objects.equals(metrics, that.metrics);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(datasetId, metrics);
+    }
+
+    @Override
+    public String toString() {
+        return "ReportRequest{" +
+                "datasetId='" + datasetId + '\'' +
+                ", metrics=" + metrics +
+                '}';
+    }
+}
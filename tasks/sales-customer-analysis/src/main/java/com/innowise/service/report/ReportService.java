@@ -0,0 +1,166 @@
+package com.innowise.service.report;
+
+import com.innowise.dto.Order;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * Concurrent report service running every request on virtual threads.
+ * <ul>
+ *     <li>The metrics of one request are computed concurrently, one virtual thread each.
+ *     The request owns its subtasks: if any of them fails, the others are cancelled
+ *     and the request fails with that error.</li>
+ *     <li>Identical requests that arrive while a computation is in flight
+ *     share that computation instead of starting a new one.</li>
+ *     <li>At most {@code maxConcurrentRequests} computations run at once. A new request waits
+ *     up to the admission timeout for a slot and is rejected with
+ *     {@link RejectedExecutionException} if none frees up.</li>
+ * </ul>
+ */
+public class ReportService implements AutoCloseable {
+
+    private final Function<String, List<Order>> datasets;
+    private final Semaphore permits;
+    private final Duration admissionTimeout;
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    private final Map<ReportRequest, CompletableFuture<Report>> inFlight = new ConcurrentHashMap<>();
+
+    /**
+     * Constructs a report service.
+     *
+     * @param datasets              Loads the orders of a dataset by its id
+     * @param maxConcurrentRequests Maximum number of computations running at once
+     * @param admissionTimeout      How long a new request may wait for a free slot
+     * @throws IllegalArgumentException if the limit is not positive
+     */
+    public ReportService(Function<String, List<Order>> datasets, int maxConcurrentRequests, Duration admissionTimeout) {
+        if (maxConcurrentRequests <= 0) {
+            throw new IllegalArgumentException("Concurrency limit must be positive: " + maxConcurrentRequests);
+        }
+        this.datasets = datasets;
+        this.permits = new Semaphore(maxConcurrentRequests);
+        this.admissionTimeout = admissionTimeout;
+    }
+
+    /**
+     * Submits a request. The caller may block for up to the admission timeout
+     * if the service is at its concurrency limit.
+     *
+     * @param request Report request
+     * @return Future of the report; cancelling it does not affect other callers sharing the computation
+     */
+    public CompletableFuture<Report> submit(ReportRequest request) {
+        CompletableFuture<Report> created = new CompletableFuture<>();
+        CompletableFuture<Report> existing = inFlight.putIfAbsent(request, created);
+        if (existing != null) {
+            return existing.copy();
+        }
+        created.whenComplete((report, error) -> inFlight.remove(request, created));
+
+        try {
+            if (!permits.tryAcquire(admissionTimeout.toNanos(), TimeUnit.NANOSECONDS)) {
+                created.completeExceptionally(new RejectedExecutionException("Report service is at capacity"));
+                return created.copy();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            created.completeExceptionally(e);
+            return created.copy();
+        }
+
+        try {
+            executor.execute(() -> {
+                try {
+                    created.complete(compute(request));
+                } catch (Throwable e) {
+                    created.completeExceptionally(e);
+                } finally {
+                    permits.release();
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            permits.release();
+            created.completeExceptionally(e);
+        }
+        return created.copy();
+    }
+
+    /**
+     * Submits a request and waits for the report.
+     *
+     * @param request Report request
+     * @return Report
+     * @throws RejectedExecutionException if the service is at capacity
+     * @throws IllegalStateException      if a metric fails or the wait is interrupted
+     */
+    public Report generate(ReportRequest request) {
+        try {
+            return submit(request).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for " + request, e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RejectedExecutionException rejected) {
+                throw rejected;
+            }
+            throw new IllegalStateException("Report failed: " + request, e.getCause());
+        }
+    }
+
+    /**
+     * @return Number of distinct computations currently in flight
+     */
+    public int getInFlightCount() {
+        return inFlight.size();
+    }
+
+    /**
+     * Computes all metrics of a request concurrently and collects them in completion order,
+     * so the first failure is noticed immediately and the remaining subtasks are cancelled.
+     */
+    private Report compute(ReportRequest request) throws Throwable {
+        List<Order> orders = datasets.apply(request.getDatasetId());
+        CompletionService<Map.Entry<ReportMetric, Object>> scope = new ExecutorCompletionService<>(executor);
+        List<Future<Map.Entry<ReportMetric, Object>>> subtasks = new ArrayList<>();
+        for (ReportMetric metric : request.metrics()) {
+            subtasks.add(scope.submit(() -> Map.entry(metric, metric.compute(orders))));
+        }
+
+        EnumMap<ReportMetric, Object> results = new EnumMap<>(ReportMetric.class);
+        try {
+            for (int i = 0; i < subtasks.size(); i++) {
+                Map.Entry<ReportMetric, Object> result = scope.take().get();
+                results.put(result.getKey(), result.getValue());
+            }
+        } catch (ExecutionException e) {
+            throw e.getCause();
+        } finally {
+            for (Future<?> subtask : subtasks) {
+                subtask.cancel(true);
+            }
+        }
+        return new Report(results);
+    }
+
+    @Override
+    public void close() {
+        executor.close();
+    }
+
+}
@@ -0,0 +1,104 @@
+package com.innowise.util;
+
+/**
+ * Fixed-point money arithmetic on amounts scaled to whole cents and stored as {@code long}.
+ * Sums of cents are exact and independent of summation order, unlike sums of {@code double},
+ * and every operation throws {@link ArithmeticException} instead of silently overflowing.
+ */
+public final class Money {
+
+    public static final int SCALE = 2;
+    public static final long CENTS_PER_UNIT = 100;
+
+    /**
+     * 2<sup>63</sup>, the smallest magnitude of cents that does not fit into a long.
+     */
+    private static final double MAX_CENTS = 0x1p63;
+
+    private Money() {
+    }
+
+    /**
+     * Converts a decimal amount to cents, rounding half-even to {@value #SCALE} decimal places.
+     * Amounts whose shortest decimal form ends in a half cent, such as {@code 1.005}, are treated as exact ties
+     * and rounded as written rather than as their binary approximation. The conversion allocates nothing.
+     *
+     * @param amount Amount in currency units
+     * @return Amount in cents
+     * @throws ArithmeticException if the amount is not finite or does not fit into a long number of cents
+     */
+    public static long toCents(double amount) {
+        if (!isRepresentable(amount)) {
+            throw new ArithmeticException("Amount cannot be represented in cents: " + amount);
+        }
+        double scaled = amount * CENTS_PER_UNIT;
+        double lower = Math.floor(scaled);
+        if ((lower + 0.5) / CENTS_PER_UNIT == amount) {
+            long cents = (long) lower;
+            return (cents & 1) == 0 ? cents : cents + 1;
+        }
+        return (long) Math.rint(scaled);
+    }
+
+    /**
+     * @param amount Amount in currency units
+     * @return Whether {@link #toCents(double)} can convert the amount
+     */
+    public static boolean isRepresentable(double amount) {
+        double scaled = amount * CENTS_PER_UNIT;
+        return Double.isFinite(scaled) && Math.abs(scaled) < MAX_CENTS;
+    }
+
+    /**
+     * Converts cents back to a decimal amount.
+     *
+     * @param cents Amount in cents
+     * @return Amount in currency units
+     */
+    public static double toAmount(long cents) {
+        return (double) cents / CENTS_PER_UNIT;
+    }
+
+    /**
+     * Calculates the total of a line item.
+     *
+     * @param priceCents Unit price in cents
+     * @param quantity   Number of units
+     * @return Line total in cents
+     * @throws ArithmeticException if the result overflows
+     */
+    public static long lineTotal(long priceCents, int quantity) {
+        return Math.multiplyExact(priceCents, quantity);
+    }
+
+    /**
+     * Adds two amounts in cents.
+     *
+     * @throws ArithmeticException if the result overflows
+     */
+    public static long add(long a, long b) {
+        return Math.addExact(a, b);
+    }
+
+    /**
+     * Divides a total by a count, rounding half-even to whole cents.
+     *
+     * @param totalCents Total in cents
+     * @param count      Positive number of parts
+     * @return Average in cents
+     * @throws IllegalArgumentException if the count is not positive
+     */
+    public static long average(long totalCents, long count) {
+        if (count <= 0) {
+            throw new IllegalArgumentException("Count must be positive: " + count);
+        }
+        long quotient = Math.floorDiv(totalCents, count);
+        long remainder = Math.floorMod(totalCents, count);
+        long half = count - remainder;
+        if (remainder > half || (remainder == half && (quotient & 1) != 0)) {
+            quotient++;
+        }
+        return quotient;
+    }
+
+}
@@ -0,0 +1,105 @@
+import com.innowise.dto.Customer;
+import com.innowise.dto.Order;
+import com.innowise.dto.OrderItem;
+import com.innowise.dto.OrderStatus;
+import com.innowise.service.CachedOrderMetric;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import util.OrderDataFactory;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class CachedOrderMetricTests {
+
+    @Test
+    @DisplayName("Repeated calls return the memoized result")
+    void returnMemoizedResult() {
+        CachedOrderMetric metric = new CachedOrderMetric(OrderDataFactory.generateOrders());
+
+        List<String> first = metric.getUniqueCities();
+        List<String> second = metric.getUniqueCities();
+
+        assertSame(first, second);
+    }
+
+    @Test
+    @DisplayName("Changing an order status invalidates cached results")
+    void returnRecalculatedResultAfterStatusChange() {
+        List<Order> orders = OrderDataFactory.generateOrders();
+        CachedOrderMetric metric = new CachedOrderMetric(orders);
+        double expectedIncome = (100 + 20 * 3) + (40 + 60 + 35 + 100);
+
+        assertEquals(expectedIncome, metric.calculateTotalIncomeCompletedOrders(), 0.0001);
+
+        orders.get(0).setStatus(OrderStatus.CANCELLED);
+
+        assertEquals(40 + 60 + 35 + 100, metric.calculateTotalIncomeCompletedOrders(), 0.0001);
+    }
+
+    @Test
+    @DisplayName("Changing items and customers invalidates cached results")
+    void returnRecalculatedResultAfterItemAndCustomerChange() {
+        List<Order> orders = OrderDataFactory.generateOrders();
+        CachedOrderMetric metric = new CachedOrderMetric(orders, 4);
+        double income = metric.calculateTotalIncomeCompletedOrders();
+        OrderItem item = orders.get(0).getItems().get(1);
+
+        item.setQuantity(item.getQuantity() + 1);
+        assertEquals(income + item.getPrice(), metric.calculateTotalIncomeCompletedOrders(), 0.0001);
+
+        item.setPrice(item.getPrice() + 1);
+        assertEquals(income + item.getPrice() + item.getQuantity() - 1,
+                metric.calculateTotalIncomeCompletedOrders(), 0.0001);
+
+        orders.get(0).setItems(List.of());
+        assertEquals(income - (100 + 20 * 3), metric.calculateTotalIncomeCompletedOrders(), 0.0001);
+
+        List<String> cities = metric.getUniqueCities();
+        orders.get(0).getCustomer().setCity("Oslo");
+        assertNotEquals(cities, metric.getUniqueCities());
+        assertTrue(metric.getUniqueCities().contains("Oslo"));
+
+        List<Customer> customers = metric.getCustomersWithMoreThanOrders(0);
+        orders.get(0).setCustomer(new Customer("CUST-NEW", "New", "new@example.com",
+                orders.get(0).getOrderDate(), 40, "Rome"));
+        assertNotSame(customers, metric.getCustomersWithMoreThanOrders(0));
+    }
+
+    @Test
+    @DisplayName("Adding orders invalidates cached results")
+    void returnRecalculatedResultAfterAddingOrders() {
+        CachedOrderMetric metric = new CachedOrderMetric(OrderDataFactory.generateOrdersWithTheSameCustomer(5));
+
+        assertTrue(metric.getCustomersWithMoreThanFiveOrders().isEmpty());
+
+        metric.addOrders(OrderDataFactory.generateOrdersWithTheSameCustomer(1));
+
+        assertEquals(1, metric.getCustomersWithMoreThanFiveOrders().size());
+    }
+
+    @Test
+    @DisplayName("Parameterized queries are served from the LRU cache")
+    void returnCachedParameterizedResult() {
+        CachedOrderMetric metric = new CachedOrderMetric(OrderDataFactory.generateOrdersWithTheSameCustomer(6), 2);
+
+        List<Customer> first = metric.getCustomersWithMoreThanOrders(3);
+        metric.getCustomersWithMoreThanOrders(4);
+        List<Customer> second = metric.getCustomersWithMoreThanOrders(3);
+        metric.getCustomersWithMoreThanOrders(5);
+        metric.getCustomersWithMoreThanOrders(6);
+
+        assertSame(first, second);
+        assertNotSame(first, metric.getCustomersWithMoreThanOrders(3));
+    }
+
+    @Test
+    @DisplayName("Orders view cannot be modified directly")
+    void modifyOrdersViewThrows() {
+        CachedOrderMetric metric = new CachedOrderMetric(OrderDataFactory.generateOrders());
+
+        assertThrows(UnsupportedOperationException.class, () -> metric.getOrders().clear());
+    }
+
+}
@@ -0,0 +1,106 @@
+import com.innowise.dto.Category;
+import com.innowise.dto.Customer;
+import com.innowise.dto.Order;
+import com.innowise.dto.OrderItem;
+import com.innowise.dto.OrderStatus;
+import com.innowise.generator.OrderDataGenerator;
+import com.innowise.service.cohort.Cohort;
+import com.innowise.service.cohort.CohortEngine;
+import com.innowise.service.cohort.CohortReport;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class CohortEngineTests {
+
+    @Test
+    @DisplayName("Retention and revenue match a nested scan of customers and orders")
+    void returnRetentionAndRevenue() {
+        List<Order> orders = new OrderDataGenerator(11, 2_000, 500, LocalDate.of(2023, 1, 1), LocalDate.of(2023, 12, 31))
+                .generate(30_000);
+
+        CohortReport report = CohortEngine.analyze(orders);
+
+        assertFalse(report.getCohorts().isEmpty());
+        for (Cohort cohort : report.getCohorts()) {
+            List<Order> cohortOrders = orders.stream()
+                    .filter(order -> YearMonth.from(order.getCustomer().getRegisteredAt()).equals(cohort.getRegistrationMonth()))
+                    .filter(order -> order.getCustomer().getAge() / 10 * 10 == cohort.getAgeBandStart())
+                    .toList();
+            assertEquals(cohortOrders.stream().map(order -> order.getCustomer().getCustomerId()).distinct().count(),
+                    cohort.getSize());
+            for (int month = 0; month < report.getMonthCount(); month++) {
+                int m = month;
+                long active = cohortOrders.stream()
+                        .filter(order -> monthsSinceRegistration(order) == m)
+                        .map(order -> order.getCustomer().getCustomerId())
+                        .distinct()
+                        .count();
+                long revenue = cohortOrders.stream()
+                        .filter(order -> monthsSinceRegistration(order) == m)
+                        .filter(order -> order.getStatus() == OrderStatus.DELIVERED)
+                        .flatMap(order -> order.getItems().stream())
+                        .mapToLong(OrderItem::getTotalCents)
+                        .sum();
+                assertEquals(active, report.getActiveCustomers(cohort, month));
+                assertEquals(revenue, report.getRevenueCents(cohort, month));
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Customers are bucketed by registration month and age band")
+    void returnCohorts() {
+        Customer first = new Customer("C1", "Alice", "a@mail.com", LocalDate.of(2024, 1, 10).atStartOfDay(), 25, "Berlin");
+        Customer second = new Customer("C2", "Bob", "b@mail.com", LocalDate.of(2024, 1, 20).atStartOfDay(), 29, "Paris");
+        Customer third = new Customer("C3", "Carol", "c@mail.com", LocalDate.of(2024, 2, 1).atStartOfDay(), 41, "Rome");
+        List<Order> orders = List.of(
+                order(first, LocalDate.of(2024, 1, 15), OrderStatus.DELIVERED, 10.0),
+                order(first, LocalDate.of(2024, 3, 1), OrderStatus.DELIVERED, 5.5),
+                order(second, LocalDate.of(2024, 1, 25), OrderStatus.CANCELLED, 7.0),
+                order(third, LocalDate.of(2024, 2, 2), OrderStatus.DELIVERED, 3.0),
+                order(third, LocalDate.of(2023, 12, 2), OrderStatus.DELIVERED, 3.0));
+
+        CohortReport report = CohortEngine.analyze(orders);
+
+        assertEquals(2, report.getCohorts().size());
+        Cohort january = report.getCohort(YearMonth.of(2024, 1), 20);
+        assertEquals("20-29", january.getAgeBand());
+        assertEquals(2, january.getSize());
+        assertEquals(1.0, report.getRetentionRate(january, 0), 0.0001);
+        assertEquals(0, report.getActiveCustomers(january, 1));
+        assertEquals(0.5, report.getRetentionRate(january, 2), 0.0001);
+        assertEquals(10.0, report.getRevenue(january, 0), 0.0001);
+        assertEquals(5.5, report.getRevenue(january, 2), 0.0001);
+
+        Cohort february = report.getCohort(YearMonth.of(2024, 2), 45);
+        assertEquals(1, february.getSize());
+        assertEquals(300, report.getRevenueCents(february, 0));
+        assertNull(report.getCohort(YearMonth.of(2024, 3), 25));
+    }
+
+    @Test
+    @DisplayName("Empty list of orders produces an empty report")
+    void returnEmptyReport() {
+        CohortReport report = CohortEngine.analyze(List.of());
+
+        assertTrue(report.getCohorts().isEmpty());
+        assertEquals(0, report.getMonthCount());
+    }
+
+    private static long monthsSinceRegistration(Order order) {
+        return ChronoUnit.MONTHS.between(YearMonth.from(order.getCustomer().getRegisteredAt()), YearMonth.from(order.getOrderDate()));
+    }
+
+    private static Order order(Customer customer, LocalDate date, OrderStatus status, double price) {
+        return new Order("O-" + customer.getCustomerId() + date, date.atTime(12, 0), customer,
+                List.of(new OrderItem("Product", 1, price, Category.BOOKS)), status);
+    }
+
+}
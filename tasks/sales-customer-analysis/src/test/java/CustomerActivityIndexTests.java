@@ -0,0 +1,107 @@
+import com.innowise.dto.Customer;
+import com.innowise.dto.Order;
+import com.innowise.service.CustomerActivityIndex;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import util.OrderDataFactory;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class CustomerActivityIndexTests {
+
+    @Test
+    @DisplayName("Order counts and spend per customer")
+    void returnOrderCountsAndSpend() {
+        CustomerActivityIndex index = CustomerActivityIndex.of(OrderDataFactory.generateOrders());
+
+        assertEquals(6, index.size());
+        assertEquals(2, index.getOrderCount("CUST-1"));
+        assertEquals(5, index.getOrderCount("CUST-6"));
+        assertEquals(0, index.getOrderCount("UNKNOWN"));
+        assertEquals(100 + 20 * 3, index.getSpend("CUST-1"), 0.0001);
+        assertEquals(0.0, index.getSpend("CUST-6"), 0.0001);
+    }
+
+    @Test
+    @DisplayName("Customers above an arbitrary threshold")
+    void returnCustomersWithMoreThanThreshold() {
+        CustomerActivityIndex index = CustomerActivityIndex.of(OrderDataFactory.generateOrders());
+
+        List<String> customerIds = index.getCustomersWithMoreThan(1).stream()
+                .map(Customer::getCustomerId)
+                .toList();
+
+        assertEquals(List.of("CUST-1", "CUST-4", "CUST-6"), customerIds);
+        assertTrue(index.getCustomersWithMoreThan(5).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Top customers are ordered by activity")
+    void returnTopCustomers() {
+        CustomerActivityIndex index = CustomerActivityIndex.of(OrderDataFactory.generateOrders());
+
+        List<String> customerIds = index.getTopCustomers(3).stream()
+                .map(Customer::getCustomerId)
+                .toList();
+
+        assertEquals(List.of("CUST-6", "CUST-1", "CUST-4"), customerIds);
+        assertEquals(6, index.getTopCustomers(10).size());
+        assertTrue(index.getTopCustomers(0).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Index is updated incrementally as orders arrive")
+    void returnUpdatedCountsAfterAddingOrder() {
+        CustomerActivityIndex index = new CustomerActivityIndex();
+        List<Order> orders = OrderDataFactory.generateOrdersWithTheSameCustomer(6);
+
+        for (int i = 0; i < 5; i++) {
+            index.add(orders.get(i));
+        }
+        assertTrue(index.getCustomersWithMoreThan(5).isEmpty());
+
+        index.add(orders.get(5));
+        assertEquals(1, index.getCustomersWithMoreThan(5).size());
+    }
+
+    @Test
+    @DisplayName("Index grows past its initial capacity")
+    void returnCountsForManyCustomers() {
+        CustomerActivityIndex index = new CustomerActivityIndex();
+        Order order = OrderDataFactory.generateDeliveredOrders().get(0);
+
+        for (int i = 0; i < 1000; i++) {
+            order.setCustomer(new Customer("CUST-" + i, "Name", "mail", null, 20, "City"));
+            index.add(order);
+            index.add(order);
+        }
+
+        assertEquals(1000, index.size());
+        assertEquals(2, index.getOrderCount("CUST-999"));
+    }
+
+    @Test
+    @DisplayName("Customers without an id are grouped together")
+    void returnCountsForNullCustomerId() {
+        List<Order> orders = OrderDataFactory.generateOrdersWithTheSameCustomer(3);
+        orders.forEach(order -> order.getCustomer().setCustomerId(null));
+
+        CustomerActivityIndex index = CustomerActivityIndex.of(orders);
+
+        assertEquals(1, index.size());
+        assertEquals(3, index.getOrderCount(null));
+        assertEquals(1, index.getCustomersWithMoreThan(2).size());
+    }
+
+    @Test
+    @DisplayName("Query results cannot be modified")
+    void modifyQueryResultsThrows() {
+        CustomerActivityIndex index = CustomerActivityIndex.of(OrderDataFactory.generateOrders());
+
+        assertThrows(UnsupportedOperationException.class, () -> index.getCustomersWithMoreThan(1).clear());
+        assertThrows(UnsupportedOperationException.class, () -> index.getTopCustomers(2).set(0, null));
+    }
+
+}
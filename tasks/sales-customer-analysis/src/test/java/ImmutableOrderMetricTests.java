@@ -0,0 +1,104 @@
+import com.innowise.dto.Category;
+import com.innowise.dto.Customer;
+import com.innowise.dto.Order;
+import com.innowise.dto.immutable.ImmutableCustomer;
+import com.innowise.dto.immutable.ImmutableModel;
+import com.innowise.dto.immutable.ImmutableOrder;
+import com.innowise.dto.immutable.ImmutableOrderItem;
+import com.innowise.service.ImmutableOrderMetric;
+import com.innowise.service.OrderMetric;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import util.OrderDataFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ImmutableOrderMetricTests {
+
+    @Test
+    @DisplayName("Metrics over the immutable model match the mutable model")
+    void returnSameMetricsAsMutableModel() {
+        List<Order> orders = OrderDataFactory.generateOrders();
+        List<ImmutableOrder> immutableOrders = new ImmutableModel().toImmutable(orders);
+
+        assertEquals(OrderMetric.getUniqueCities(orders), ImmutableOrderMetric.getUniqueCities(immutableOrders));
+        assertEquals(OrderMetric.calculateTotalIncomeCompletedOrders(orders),
+                ImmutableOrderMetric.calculateTotalIncomeCompletedOrders(immutableOrders), 0.0001);
+        assertEquals(OrderMetric.calculateTotalIncomeCompletedOrdersCents(orders),
+                ImmutableOrderMetric.calculateTotalIncomeCompletedOrdersCents(immutableOrders));
+        assertEquals(OrderMetric.getMostPopularProduct(orders), ImmutableOrderMetric.getMostPopularProduct(immutableOrders));
+        assertEquals(OrderMetric.calculateAverageCheckDeliveredOrders(orders),
+                ImmutableOrderMetric.calculateAverageCheckDeliveredOrders(immutableOrders), 0.0001);
+        assertEquals(OrderMetric.calculateAverageCheckDeliveredOrdersCents(orders),
+                ImmutableOrderMetric.calculateAverageCheckDeliveredOrdersCents(immutableOrders));
+    }
+
+    @Test
+    @DisplayName("Prices are held in cents, and unrepresentable prices are rejected only when used")
+    void returnPriceCents() {
+        ImmutableOrderItem item = new ImmutableOrderItem("Pen", 3, 1.005, Category.HOME);
+        ImmutableOrderItem broken = new ImmutableOrderItem("Pen", 3, Double.NaN, Category.HOME);
+
+        assertEquals(100, item.priceCents());
+        assertEquals(300, item.totalCents());
+        assertThrows(ArithmeticException.class, broken::priceCents);
+        assertThrows(ArithmeticException.class, broken::totalCents);
+    }
+
+    @Test
+    @DisplayName("Customers who have more than 5 orders in the immutable model")
+    void returnCustomersWithMoreThanFiveOrders() {
+        List<ImmutableOrder> orders = new ImmutableModel().toImmutable(OrderDataFactory.generateOrdersWithTheSameCustomer(6));
+
+        List<ImmutableCustomer> customers = ImmutableOrderMetric.getCustomersWithMoreThanFiveOrders(orders);
+
+        assertEquals(1, customers.size());
+        assertEquals("CUST-6", customers.get(0).customerId());
+    }
+
+    @Test
+    @DisplayName("Customers are grouped by id in first-seen order, as in the mutable model")
+    void returnCustomersGroupedById() {
+        List<Order> renamed = OrderDataFactory.generateOrdersWithTheSameCustomer(3);
+        renamed.get(0).getCustomer().setName("Renamed");
+        List<Order> orders = new ArrayList<>(OrderDataFactory.generateOrders());
+        orders.addAll(OrderDataFactory.generateOrdersWithTheSameCustomer(3));
+        orders.addAll(renamed);
+        List<ImmutableOrder> immutableOrders = new ImmutableModel().toImmutable(orders);
+
+        for (long threshold : new long[]{1, 5, 10}) {
+            List<String> expected = OrderMetric.getCustomersWithMoreThanOrders(orders, threshold).stream()
+                    .map(Customer::getCustomerId)
+                    .toList();
+            List<String> actual = ImmutableOrderMetric.getCustomersWithMoreThanOrders(immutableOrders, threshold).stream()
+                    .map(ImmutableCustomer::customerId)
+                    .toList();
+            assertEquals(expected, actual);
+        }
+    }
+
+    @Test
+    @DisplayName("Repeated values are deduplicated during conversion")
+    void returnDeduplicatedValues() {
+        ImmutableModel model = new ImmutableModel();
+        List<ImmutableOrder> first = model.toImmutable(OrderDataFactory.generateDeliveredOrders());
+        List<ImmutableOrder> second = model.toImmutable(OrderDataFactory.generateDeliveredOrders());
+
+        assertEquals(first, second);
+        assertSame(first.get(0).customer(), second.get(0).customer());
+        assertSame(first.get(0).items().get(0), second.get(1).items().get(0));
+        assertSame(first.get(0).customer().city(), first.get(1).customer().city());
+    }
+
+    @Test
+    @DisplayName("Immutable orders cannot be modified")
+    void modifyItemsThrows() {
+        ImmutableOrder order = new ImmutableModel().toImmutable(OrderDataFactory.generateDeliveredOrders().get(0));
+
+        assertThrows(UnsupportedOperationException.class, () -> order.items().clear());
+    }
+
+}
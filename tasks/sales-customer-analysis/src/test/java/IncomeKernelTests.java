@@ -0,0 +1,60 @@
+import com.innowise.dto.Order;
+import com.innowise.generator.OrderDataGenerator;
+import com.innowise.service.OrderMetric;
+import com.innowise.service.income.IncomeColumns;
+import com.innowise.service.income.IncomeKernel;
+import com.innowise.service.income.IncomeKernels;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import util.OrderDataFactory;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class IncomeKernelTests {
+
+    @Test
+    @DisplayName("Vector API is available in the test JVM")
+    void returnVectorKernelAsBest() {
+        assertTrue(IncomeKernels.isVectorAvailable());
+        assertNotSame(IncomeKernels.scalar().getClass(), IncomeKernels.best().getClass());
+    }
+
+    @Test
+    @DisplayName("Kernels match OrderMetric on the sample orders")
+    void returnSameIncomeAsOrderMetric() {
+        List<Order> orders = OrderDataFactory.generateOrders();
+        IncomeColumns columns = IncomeColumns.of(orders);
+
+        for (IncomeKernel kernel : List.of(IncomeKernels.scalar(), IncomeKernels.vector())) {
+            assertEquals(OrderMetric.calculateTotalIncomeCompletedOrders(orders),
+                    kernel.calculateTotalIncomeCompletedOrders(columns), 0.0001);
+            assertEquals(OrderMetric.calculateAverageCheckDeliveredOrders(orders),
+                    kernel.calculateAverageCheckDeliveredOrders(columns), 0.0001);
+        }
+    }
+
+    @Test
+    @DisplayName("Vector kernel matches the scalar kernel on unaligned lengths")
+    void returnSameIncomeForLargeDataset() {
+        List<Order> orders = new OrderDataGenerator(3).generate(9_999);
+        IncomeColumns columns = IncomeColumns.of(orders);
+
+        double scalar = IncomeKernels.scalar().calculateTotalIncomeCompletedOrders(columns);
+        double vector = IncomeKernels.vector().calculateTotalIncomeCompletedOrders(columns);
+
+        assertEquals(scalar, vector, Math.abs(scalar) * 1e-12);
+        assertEquals(OrderMetric.calculateTotalIncomeCompletedOrdersCents(orders) / 100.0, vector, 0.01);
+    }
+
+    @Test
+    @DisplayName("Average check is zero without delivered orders")
+    void returnZeroAverageCheckWithNoDeliveredOrders() {
+        IncomeColumns columns = IncomeColumns.of(OrderDataFactory.generateNoDeliveredOrders());
+
+        assertEquals(0.0, IncomeKernels.best().calculateTotalIncomeCompletedOrders(columns));
+        assertEquals(0.0, IncomeKernels.best().calculateAverageCheckDeliveredOrders(columns));
+    }
+
+}
@@ -0,0 +1,106 @@
+import com.innowise.dto.Order;
+import com.innowise.dto.OrderStatus;
+import com.innowise.service.OrderMetric;
+import com.innowise.service.instrumentation.InstrumentedOrderMetric;
+import com.innowise.service.instrumentation.MetricSnapshot;
+import com.innowise.service.instrumentation.MetricType;
+import com.innowise.service.instrumentation.OrderMetricStats;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import util.OrderDataFactory;
+
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import javax.management.openmbean.CompositeData;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class InstrumentedOrderMetricTests {
+
+    @Test
+    @DisplayName("Calls, orders and items are recorded per metric")
+    void recordCalls() {
+        List<Order> orders = OrderDataFactory.generateOrders();
+        InstrumentedOrderMetric metric = new InstrumentedOrderMetric(new OrderMetricStats());
+
+        assertEquals(OrderMetric.calculateTotalIncomeCompletedOrders(orders),
+                metric.calculateTotalIncomeCompletedOrders(orders), 0.0001);
+        metric.calculateTotalIncomeCompletedOrders(orders);
+        metric.getUniqueCities(orders);
+
+        MetricSnapshot income = metric.getStats().getSnapshot(MetricType.TOTAL_INCOME);
+        assertEquals(2, income.getCalls());
+        assertEquals(2L * orders.size(), income.getOrdersScanned());
+        long deliveredItems = orders.stream()
+                .filter(order -> order.getStatus() == OrderStatus.DELIVERED)
+                .mapToLong(order -> order.getItems().size())
+                .sum();
+        assertEquals(2 * deliveredItems, income.getItemsScanned());
+        assertTrue(income.getTotalNanos() >= income.getMaxNanos());
+        assertTrue(income.getAllocatedBytes() > 0);
+        assertEquals(0, metric.getStats().getSnapshot(MetricType.UNIQUE_CITIES).getItemsScanned());
+        assertEquals(0, metric.getStats().getSnapshot(MetricType.AVERAGE_CHECK).getCalls());
+    }
+
+    @Test
+    @DisplayName("Only one call in the sampling rate is recorded")
+    void sampleCalls() {
+        List<Order> orders = OrderDataFactory.generateOrders();
+        InstrumentedOrderMetric metric = new InstrumentedOrderMetric(new OrderMetricStats(10));
+
+        for (int i = 0; i < 100; i++) {
+            metric.getMostPopularProduct(orders);
+        }
+
+        assertEquals(10, metric.getStats().getSnapshot(MetricType.MOST_POPULAR_PRODUCT).getCalls());
+    }
+
+    @Test
+    @DisplayName("Statistics are published over JMX")
+    void publishOverJmx() throws Exception {
+        OrderMetricStats stats = new OrderMetricStats();
+        ObjectName name = stats.register();
+        try {
+            new InstrumentedOrderMetric(stats).getCustomersWithMoreThanFiveOrders(OrderDataFactory.generateOrders());
+
+            MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+            CompositeData[] metrics = (CompositeData[]) server.getAttribute(name, "Metrics");
+            assertEquals(MetricType.values().length, metrics.length);
+            CompositeData customers = metrics[MetricType.CUSTOMERS_WITH_MORE_THAN_ORDERS.ordinal()];
+            assertEquals(1L, customers.get("calls"));
+            assertThrows(IllegalStateException.class, stats::register);
+        } finally {
+            stats.unregister();
+        }
+    }
+
+    @Test
+    @DisplayName("Recorded calls emit JFR events")
+    void emitJfrEvents() throws Exception {
+        List<Order> orders = OrderDataFactory.generateOrders();
+        InstrumentedOrderMetric metric = new InstrumentedOrderMetric(new OrderMetricStats());
+        Path file = Files.createTempFile("order-metric", ".jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable("com.innowise.OrderMetric");
+            recording.start();
+            metric.calculateAverageCheckDeliveredOrders(orders);
+            recording.stop();
+            recording.dump(file);
+
+            List<RecordedEvent> events = RecordingFile.readAllEvents(file);
+            assertEquals(1, events.size());
+            assertEquals("AVERAGE_CHECK", events.get(0).getString("metric"));
+            assertEquals(orders.size(), events.get(0).getLong("ordersScanned"));
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+}
@@ -0,0 +1,275 @@
+import com.innowise.dto.Customer;
+import com.innowise.dto.Order;
+import com.innowise.dto.OrderItem;
+import com.innowise.dto.OrderStatus;
+import com.innowise.generator.OrderDataGenerator;
+import com.innowise.service.LazyOrderMetric;
+import com.innowise.service.OrderMetric;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import util.OrderDataFactory;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Flow;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class LazyOrderMetricTests {
+
+    @Test
+    @DisplayName("Lazy customers match OrderMetric")
+    void returnSameCustomers() {
+        List<Order> orders = new OrderDataGenerator(5).generate(20_000);
+
+        List<Customer> lazy = new ArrayList<>();
+        LazyOrderMetric.customersWithMoreThanOrders(orders, 3).forEachRemaining(lazy::add);
+
+        assertEquals(new HashSet<>(OrderMetric.getCustomersWithMoreThanOrders(orders, 3)), new HashSet<>(lazy));
+        assertEquals(lazy.size(), new HashSet<>(lazy).size());
+    }
+
+    @Test
+    @DisplayName("A negative threshold returns every customer and every delivered product")
+    void returnAllForNegativeThreshold() {
+        List<Order> orders = OrderDataFactory.generateOrders();
+
+        List<Customer> customers = new ArrayList<>();
+        LazyOrderMetric.customersWithMoreThanOrders(orders, -1).forEachRemaining(customers::add);
+        List<String> products = new ArrayList<>();
+        LazyOrderMetric.productsSoldMoreThan(orders, -1).forEachRemaining(products::add);
+
+        assertEquals(OrderMetric.getCustomersWithMoreThanOrders(orders, -1), customers);
+        assertEquals(orders.stream()
+                .filter(order -> order.getStatus() == OrderStatus.DELIVERED)
+                .flatMap(order -> order.getItems().stream())
+                .map(OrderItem::getProductName)
+                .distinct()
+                .toList(), products);
+    }
+
+    @Test
+    @DisplayName("Limit-k query stops scanning once enough customers are found")
+    void stopScanEarly() {
+        CountingOrders orders = new CountingOrders(new OrderDataGenerator(5).generate(100_000));
+
+        List<Customer> first = LazyOrderMetric.getFirstCustomersWithMoreThanOrders(orders, 5, 3);
+
+        assertEquals(3, first.size());
+        assertTrue(orders.scanned.get() < 10_000, "scanned " + orders.scanned.get());
+    }
+
+    @Test
+    @DisplayName("Existence queries stop at the first match")
+    void answerExistence() {
+        CountingOrders orders = new CountingOrders(new OrderDataGenerator(5).generate(100_000));
+
+        assertTrue(LazyOrderMetric.anyProductSoldMoreThan(orders, 50));
+        assertTrue(orders.scanned.get() < 10_000, "scanned " + orders.scanned.get());
+        assertFalse(LazyOrderMetric.anyCustomerWithMoreThanOrders(OrderDataFactory.generateOrders(), 5));
+        assertTrue(LazyOrderMetric.anyCustomerWithMoreThanOrders(OrderDataFactory.generateOrders(), 1));
+    }
+
+    @Test
+    @DisplayName("Products are emitted when their delivered quantity crosses the threshold")
+    void returnProducts() {
+        Iterator<String> products = LazyOrderMetric.productsSoldMoreThan(OrderDataFactory.generateOrders(), 0);
+        List<String> names = new ArrayList<>();
+        products.forEachRemaining(names::add);
+
+        assertTrue(names.contains(OrderMetric.getMostPopularProduct(OrderDataFactory.generateOrders())));
+        assertEquals(names.size(), new HashSet<>(names).size());
+    }
+
+    @Test
+    @DisplayName("Publisher honors demand and cancellation")
+    void publishOnDemand() throws InterruptedException {
+        CountingOrders orders = new CountingOrders(new OrderDataGenerator(5).generate(100_000));
+        List<Customer> received = new CopyOnWriteArrayList<>();
+        CountDownLatch twoReceived = new CountDownLatch(2);
+
+        try (ExecutorService executor = Executors.newSingleThreadExecutor()) {
+            LazyOrderMetric.publishCustomersWithMoreThanOrders(orders, 5, executor).subscribe(new Flow.Subscriber<>() {
+                private Flow.Subscription subscription;
+
+                @Override
+                public void onSubscribe(Flow.Subscription subscription) {
+                    this.subscription = subscription;
+                    subscription.request(1);
+                }
+
+                @Override
+                public void onNext(Customer customer) {
+                    received.add(customer);
+                    twoReceived.countDown();
+                    if (received.size() < 2) {
+                        subscription.request(1);
+                    } else {
+                        subscription.cancel();
+                    }
+                }
+
+                @Override
+                public void onError(Throwable throwable) {
+                }
+
+                @Override
+                public void onComplete() {
+                }
+            });
+            assertTrue(twoReceived.await(5, TimeUnit.SECONDS));
+        }
+
+        assertEquals(2, received.size());
+        assertTrue(orders.scanned.get() < 10_000, "scanned " + orders.scanned.get());
+    }
+
+    @Test
+    @DisplayName("Publisher completes after the last customer")
+    void publishAll() throws InterruptedException {
+        List<Order> orders = new OrderDataGenerator(5).generate(5_000);
+        List<Customer> received = new CopyOnWriteArrayList<>();
+        CountDownLatch completed = new CountDownLatch(1);
+
+        try (ExecutorService executor = Executors.newSingleThreadExecutor()) {
+            LazyOrderMetric.publishCustomersWithMoreThanOrders(orders, 2, executor).subscribe(new Flow.Subscriber<>() {
+                @Override
+                public void onSubscribe(Flow.Subscription subscription) {
+                    subscription.request(Long.MAX_VALUE);
+                }
+
+                @Override
+                public void onNext(Customer customer) {
+                    received.add(customer);
+                }
+
+                @Override
+                public void onError(Throwable throwable) {
+                }
+
+                @Override
+                public void onComplete() {
+                    completed.countDown();
+                }
+            });
+            assertTrue(completed.await(5, TimeUnit.SECONDS));
+        }
+
+        assertEquals(new HashSet<>(OrderMetric.getCustomersWithMoreThanOrders(orders, 2)), new HashSet<>(received));
+    }
+
+    @Test
+    @DisplayName("Publisher completes on the first request past the last customer")
+    void publishCompletesOnFurtherDemand() {
+        List<Order> orders = new OrderDataGenerator(5).generate(5_000);
+        int expected = OrderMetric.getCustomersWithMoreThanOrders(orders, 2).size();
+        List<Customer> received = new ArrayList<>();
+        AtomicInteger completed = new AtomicInteger();
+        Flow.Subscription[] subscription = new Flow.Subscription[1];
+
+        LazyOrderMetric.publishCustomersWithMoreThanOrders(orders, 2, Runnable::run).subscribe(new Flow.Subscriber<>() {
+            @Override
+            public void onSubscribe(Flow.Subscription s) {
+                subscription[0] = s;
+            }
+
+            @Override
+            public void onNext(Customer customer) {
+                received.add(customer);
+            }
+
+            @Override
+            public void onError(Throwable throwable) {
+            }
+
+            @Override
+            public void onComplete() {
+                completed.incrementAndGet();
+            }
+        });
+        subscription[0].request(expected);
+
+        assertEquals(expected, received.size());
+        assertEquals(0, completed.get());
+
+        subscription[0].request(1);
+
+        assertEquals(expected, received.size());
+        assertEquals(1, completed.get());
+    }
+
+    @Test
+    @DisplayName("Publisher scans only as far as the outstanding demand")
+    void publishScansOnlyOnDemand() {
+        CountingOrders orders = new CountingOrders(new OrderDataGenerator(5).generate(100_000));
+        CountingOrders reference = new CountingOrders(new OrderDataGenerator(5).generate(100_000));
+        LazyOrderMetric.getFirstCustomersWithMoreThanOrders(reference, 5, 1);
+        List<Customer> received = new ArrayList<>();
+        Flow.Subscription[] subscription = new Flow.Subscription[1];
+
+        LazyOrderMetric.publishCustomersWithMoreThanOrders(orders, 5, Runnable::run).subscribe(new Flow.Subscriber<>() {
+            @Override
+            public void onSubscribe(Flow.Subscription s) {
+                subscription[0] = s;
+            }
+
+            @Override
+            public void onNext(Customer customer) {
+                received.add(customer);
+            }
+
+            @Override
+            public void onError(Throwable throwable) {
+            }
+
+            @Override
+            public void onComplete() {
+            }
+        });
+
+        assertEquals(0, orders.scanned.get());
+
+        subscription[0].request(1);
+
+        assertEquals(1, received.size());
+        assertEquals(reference.scanned.get(), orders.scanned.get());
+    }
+
+    /**
+     * Orders that count how many of them have been iterated.
+     */
+    private static final class CountingOrders implements Iterable<Order> {
+        private final List<Order> orders;
+        private final AtomicInteger scanned = new AtomicInteger();
+
+        CountingOrders(List<Order> orders) {
+            this.orders = orders;
+        }
+
+        @Override
+        public Iterator<Order> iterator() {
+            Iterator<Order> iterator = orders.iterator();
+            return new Iterator<>() {
+                @Override
+                public boolean hasNext() {
+                    return iterator.hasNext();
+                }
+
+                @Override
+                public Order next() {
+                    scanned.incrementAndGet();
+                    return iterator.next();
+                }
+            };
+        }
+    }
+
+}
@@ -0,0 +1,84 @@
+import com.innowise.dto.Order;
+import com.innowise.dto.OrderItem;
+import com.innowise.dto.OrderStatus;
+import com.innowise.generator.OrderDataGenerator;
+import com.innowise.service.basket.BasketReport;
+import com.innowise.service.basket.MarketBasketAnalyzer;
+import com.innowise.service.basket.ProductPair;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import util.OrderDataFactory;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class MarketBasketAnalyzerTests {
+
+    @Test
+    @DisplayName("Pair counts match a naive pairwise count")
+    void returnPairCounts() {
+        List<Order> orders = new OrderDataGenerator(9, 1_000, 200, OrderDataGenerator.DEFAULT_FROM, OrderDataGenerator.DEFAULT_TO)
+                .generate(50_000);
+
+        BasketReport report = MarketBasketAnalyzer.analyze(orders, 20);
+
+        Map<List<String>, Long> expected = new HashMap<>();
+        for (Order order : orders) {
+            if (order.getStatus() != OrderStatus.DELIVERED) {
+                continue;
+            }
+            List<String> products = order.getItems().stream().map(OrderItem::getProductName).distinct().toList();
+            for (String first : products) {
+                for (String second : products) {
+                    if (first.compareTo(second) < 0) {
+                        expected.merge(List.of(first, second), 1L, Long::sum);
+                    }
+                }
+            }
+        }
+        expected.values().removeIf(count -> count < 20);
+
+        assertFalse(report.getPairs().isEmpty());
+        assertEquals(expected.size(), report.getPairs().size());
+        for (ProductPair pair : report.getPairs()) {
+            String first = pair.getFirst().compareTo(pair.getSecond()) < 0 ? pair.getFirst() : pair.getSecond();
+            String second = first.equals(pair.getFirst()) ? pair.getSecond() : pair.getFirst();
+            assertEquals(expected.get(List.of(first, second)), pair.getOrderCount());
+        }
+        assertTrue(report.getPairs().get(0).getOrderCount() >= report.getPairs().get(report.getPairs().size() - 1).getOrderCount());
+    }
+
+    @Test
+    @DisplayName("Support, confidence and lift of a pair")
+    void returnAssociationMeasures() {
+        BasketReport report = MarketBasketAnalyzer.analyze(OrderDataFactory.generateOrders(), 1);
+        String product = report.getPairs().get(0).getFirst();
+
+        List<ProductPair> together = report.getBoughtTogetherWith(product, 10);
+
+        assertFalse(together.isEmpty());
+        for (ProductPair pair : together) {
+            assertEquals(product, pair.getFirst());
+            long firstSupport = report.getFrequentProducts().get(pair.getFirst());
+            long secondSupport = report.getFrequentProducts().get(pair.getSecond());
+            assertEquals((double) pair.getOrderCount() / firstSupport, pair.getConfidence(), 0.0001);
+            assertEquals((double) pair.getOrderCount() / secondSupport, pair.getReverseConfidence(), 0.0001);
+            assertEquals((double) pair.getOrderCount() / report.getTransactionCount(), pair.getSupport(), 0.0001);
+            assertEquals(pair.getConfidence() * report.getTransactionCount() / secondSupport, pair.getLift(), 0.0001);
+        }
+    }
+
+    @Test
+    @DisplayName("Products below the minimum support are pruned")
+    void pruneInfrequentProducts() {
+        BasketReport report = MarketBasketAnalyzer.analyze(OrderDataFactory.generateOrders(), 1_000);
+
+        assertTrue(report.getFrequentProducts().isEmpty());
+        assertTrue(report.getPairs().isEmpty());
+        assertThrows(IllegalArgumentException.class, () -> MarketBasketAnalyzer.analyze(List.of(), 0));
+    }
+
+}
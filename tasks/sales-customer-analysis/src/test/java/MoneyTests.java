@@ -0,0 +1,61 @@
+import com.innowise.dto.Category;
+import com.innowise.dto.OrderItem;
+import com.innowise.util.Money;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class MoneyTests {
+
+    @Test
+    @DisplayName("Amounts are converted to cents as written")
+    void returnCentsForAmount() {
+        assertEquals(99950, Money.toCents(999.50));
+        assertEquals(1570, Money.toCents(15.70));
+        assertEquals(100, Money.toCents(1.005));
+        assertEquals(102, Money.toCents(1.015));
+        assertEquals(-100, Money.toCents(-1.005));
+        assertEquals(33, Money.toCents(1.0 / 3));
+    }
+
+    @Test
+    @DisplayName("Amounts that cannot be held in cents are rejected by the cent accessors, not the item")
+    void rejectUnrepresentableAmounts() {
+        assertThrows(ArithmeticException.class, () -> Money.toCents(Double.NaN));
+        assertThrows(ArithmeticException.class, () -> Money.toCents(Double.POSITIVE_INFINITY));
+        assertThrows(ArithmeticException.class, () -> Money.toCents(1e17));
+
+        OrderItem item = new OrderItem("Headphones", 1, Double.NaN, Category.ELECTRONICS);
+        assertThrows(ArithmeticException.class, item::getTotalCents);
+    }
+
+    @Test
+    @DisplayName("Item totals are kept in cents")
+    void returnItemTotalCents() {
+        OrderItem item = new OrderItem("Headphones", 2, 150.30, Category.ELECTRONICS);
+
+        assertEquals(15030, item.getPriceCents());
+        assertEquals(30060, item.getTotalCents());
+
+        item.setPrice(0.1);
+        assertEquals(20, item.getTotalCents());
+    }
+
+    @Test
+    @DisplayName("Averages are rounded half-even")
+    void returnRoundedAverage() {
+        assertEquals(2, Money.average(5, 2));
+        assertEquals(4, Money.average(7, 2));
+        assertEquals(3, Money.average(10, 3));
+        assertEquals(-2, Money.average(-5, 2));
+    }
+
+    @Test
+    @DisplayName("Overflowing sums throw instead of wrapping")
+    void addOverflowThrows() {
+        assertThrows(ArithmeticException.class, () -> Money.add(Long.MAX_VALUE, 1));
+        assertThrows(ArithmeticException.class, () -> Money.lineTotal(Long.MAX_VALUE / 2, 3));
+    }
+
+}
@@ -0,0 +1,88 @@
+import com.innowise.dto.Order;
+import com.innowise.service.OrderMetric;
+import com.innowise.service.cardinality.HyperLogLog;
+import com.innowise.service.cardinality.OrderCardinality;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import util.OrderDataFactory;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class OrderCardinalityTests {
+
+    @Test
+    @DisplayName("Estimated cardinalities match exact counts on small datasets")
+    void returnEstimatedCardinalities() {
+        List<Order> orders = OrderDataFactory.generateOrders();
+        OrderCardinality cardinality = OrderCardinality.of(orders);
+
+        assertEquals(OrderMetric.getUniqueCities(orders).size(), cardinality.estimateUniqueCities());
+        assertEquals(6, cardinality.estimateActiveCustomers());
+        assertEquals(5, cardinality.estimateProductsSold());
+    }
+
+    @Test
+    @DisplayName("Merged sketches estimate the union of both partitions")
+    void returnMergedCardinalities() {
+        OrderCardinality delivered = OrderCardinality.of(OrderDataFactory.generateDeliveredOrders());
+        OrderCardinality notDelivered = OrderCardinality.of(OrderDataFactory.generateNoDeliveredOrders());
+
+        delivered.merge(notDelivered);
+
+        assertEquals(3, delivered.estimateUniqueCities());
+        assertEquals(5, delivered.estimateActiveCustomers());
+        assertEquals(5, delivered.estimateProductsSold());
+    }
+
+    @Test
+    @DisplayName("Serialized sketches are restored with the same estimates")
+    void returnRestoredCardinalities() {
+        OrderCardinality cardinality = OrderCardinality.of(OrderDataFactory.generateOrders());
+        OrderCardinality restored = OrderCardinality.fromBytes(cardinality.toBytes());
+
+        assertEquals(cardinality.estimateUniqueCities(), restored.estimateUniqueCities());
+        assertEquals(cardinality.estimateActiveCustomers(), restored.estimateActiveCustomers());
+        assertEquals(cardinality.estimateProductsSold(), restored.estimateProductsSold());
+    }
+
+    @Test
+    @DisplayName("Estimate of a large distinct set stays within the expected error")
+    void returnEstimateWithinError() {
+        int distinctValues = 200_000;
+        HyperLogLog sketch = new HyperLogLog(OrderCardinality.DEFAULT_PRECISION);
+        for (int i = 0; i < distinctValues; i++) {
+            sketch.add("CUST-" + i);
+            sketch.add("CUST-" + i);
+        }
+
+        assertEquals(distinctValues, sketch.estimate(), distinctValues * 0.03);
+    }
+
+    @Test
+    @DisplayName("Sketches with different precisions cannot be merged")
+    void mergeWithDifferentPrecisionThrows() {
+        HyperLogLog sketch = new HyperLogLog(10);
+
+        assertThrows(IllegalArgumentException.class, () -> sketch.merge(new HyperLogLog(12)));
+    }
+
+    @Test
+    @DisplayName("Restoring a sketch with a corrupt register throws exception")
+    void restoreCorruptRegisterThrows() {
+        HyperLogLog sketch = new HyperLogLog(10);
+        sketch.add("CUST-1");
+        byte[] bytes = sketch.toBytes();
+
+        bytes[bytes.length - 1] = 64 - 10 + 1;
+        assertDoesNotThrow(() -> HyperLogLog.fromBytes(bytes));
+        bytes[bytes.length - 1] = 64 - 10 + 2;
+        assertThrows(IllegalArgumentException.class, () -> HyperLogLog.fromBytes(bytes));
+        bytes[bytes.length - 1] = 66;
+        assertThrows(IllegalArgumentException.class, () -> HyperLogLog.fromBytes(bytes));
+        bytes[bytes.length - 1] = -1;
+        assertThrows(IllegalArgumentException.class, () -> HyperLogLog.fromBytes(bytes));
+    }
+
+}
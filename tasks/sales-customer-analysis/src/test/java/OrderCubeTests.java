@@ -0,0 +1,132 @@
+import com.innowise.dto.Category;
+import com.innowise.dto.Order;
+import com.innowise.dto.OrderItem;
+import com.innowise.dto.OrderStatus;
+import com.innowise.generator.OrderDataGenerator;
+import com.innowise.service.OrderMetric;
+import com.innowise.service.cube.CubeDimension;
+import com.innowise.service.cube.CubeTotals;
+import com.innowise.service.cube.CubeView;
+import com.innowise.service.cube.OrderCube;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import util.OrderDataFactory;
+
+import java.time.YearMonth;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class OrderCubeTests {
+
+    @Test
+    @DisplayName("Delivered income matches OrderMetric")
+    void returnDeliveredIncome() {
+        List<Order> orders = new OrderDataGenerator(42).generate(20_000);
+
+        OrderCube cube = OrderCube.of(orders);
+
+        assertEquals(orders.size(), cube.getOrderCount());
+        assertEquals(OrderMetric.calculateTotalIncomeCompletedOrdersCents(orders),
+                cube.view().whereStatus(OrderStatus.DELIVERED).totals().getIncomeCents());
+    }
+
+    @Test
+    @DisplayName("Slice by city and month matches a scan of the orders")
+    void returnSlice() {
+        List<Order> orders = new OrderDataGenerator(7).generate(20_000);
+        YearMonth month = YearMonth.of(2024, 3);
+
+        CubeTotals totals = OrderCube.of(orders).view()
+                .whereCity("Berlin")
+                .whereMonth(month)
+                .whereCategory(Category.TOYS)
+                .totals();
+
+        long quantity = orders.stream()
+                .filter(order -> order.getCustomer().getCity().equals("Berlin"))
+                .filter(order -> YearMonth.from(order.getOrderDate()).equals(month))
+                .flatMap(order -> order.getItems().stream())
+                .filter(item -> item.getCategory() == Category.TOYS)
+                .mapToLong(OrderItem::getQuantity)
+                .sum();
+        assertTrue(quantity > 0);
+        assertEquals(quantity, totals.getQuantity());
+        assertEquals(totals, OrderCube.of(orders).view()
+                .whereCity("Berlin", "Berlin")
+                .whereMonth(month, month)
+                .whereCategory(Category.TOYS)
+                .totals());
+    }
+
+    @Test
+    @DisplayName("Drilling down and rolling up keep the totals consistent")
+    void returnConsistentRollUp() {
+        List<Order> orders = new OrderDataGenerator(3).generate(10_000);
+        CubeView byCityAndMonth = OrderCube.of(orders).view()
+                .drillDown(CubeDimension.CITY)
+                .drillDown(CubeDimension.MONTH);
+        CubeView byCity = byCityAndMonth.rollUp(CubeDimension.MONTH);
+
+        Map<List<Object>, CubeTotals> cells = byCityAndMonth.groups();
+        Map<List<Object>, CubeTotals> cities = byCity.groups();
+
+        assertEquals(20, cities.size());
+        assertEquals(orders.stream()
+                .map(order -> List.of(order.getCustomer().getCity(), YearMonth.from(order.getOrderDate())))
+                .distinct()
+                .count(), cells.size());
+        for (Map.Entry<List<Object>, CubeTotals> city : cities.entrySet()) {
+            long quantity = cells.entrySet().stream()
+                    .filter(cell -> cell.getKey().get(0).equals(city.getKey().get(0)))
+                    .mapToLong(cell -> cell.getValue().getQuantity())
+                    .sum();
+            assertEquals(city.getValue().getQuantity(), quantity);
+        }
+        assertEquals(byCity.totals(), byCityAndMonth.totals());
+    }
+
+    @Test
+    @DisplayName("Income by category for delivered orders")
+    void returnIncomeByCategory() {
+        Map<List<Object>, CubeTotals> groups = OrderCube.of(OrderDataFactory.generateOrders()).view()
+                .whereStatus(OrderStatus.DELIVERED)
+                .drillDown(CubeDimension.CATEGORY)
+                .groups();
+
+        assertEquals(2, groups.size());
+        assertEquals(100 + 20 * 3 + 100, groups.get(List.of(Category.HOME)).getIncome(), 0.0001);
+        assertEquals(40 + 60 + 35, groups.get(List.of(Category.TOYS)).getIncome(), 0.0001);
+    }
+
+    @Test
+    @DisplayName("Cube is updated incrementally")
+    void updateIncrementally() {
+        List<Order> orders = OrderDataFactory.generateOrders();
+        OrderCube cube = OrderCube.of(orders);
+        CubeView delivered = cube.view().whereStatus(OrderStatus.DELIVERED);
+        Order order = orders.stream()
+                .filter(o -> o.getStatus() == OrderStatus.SHIPPED)
+                .findFirst()
+                .orElseThrow();
+
+        cube.changeStatus(order, OrderStatus.DELIVERED);
+        assertEquals(OrderMetric.calculateTotalIncomeCompletedOrdersCents(orders), delivered.totals().getIncomeCents());
+
+        cube.remove(order);
+        orders.remove(order);
+        assertEquals(OrderMetric.calculateTotalIncomeCompletedOrdersCents(orders), delivered.totals().getIncomeCents());
+        assertEquals(orders.size(), cube.getOrderCount());
+    }
+
+    @Test
+    @DisplayName("Drilling down twice by the same dimension throws exception")
+    void throwOnRepeatedDrillDown() {
+        CubeView view = new OrderCube().view().drillDown(CubeDimension.CITY);
+
+        assertThrows(IllegalArgumentException.class, () -> view.drillDown(CubeDimension.CITY));
+        assertThrows(IllegalArgumentException.class, () -> view.rollUp(CubeDimension.MONTH));
+    }
+
+}
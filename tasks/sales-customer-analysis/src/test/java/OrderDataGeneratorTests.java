@@ -0,0 +1,62 @@
+import com.innowise.dto.Order;
+import com.innowise.dto.OrderStatus;
+import com.innowise.generator.OrderDataGenerator;
+import com.innowise.service.OrderMetric;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class OrderDataGeneratorTests {
+
+    @Test
+    @DisplayName("The same seed produces the same orders")
+    void returnSameOrdersForSameSeed() {
+        List<Order> first = new OrderDataGenerator(42).generate(1_000);
+        List<Order> second = new OrderDataGenerator(42).generate(1_000);
+
+        assertEquals(first, second);
+        assertNotEquals(first, new OrderDataGenerator(43).generate(1_000));
+    }
+
+    @Test
+    @DisplayName("Stream and list generation produce the same sequence")
+    void returnSameOrdersFromStream() {
+        List<Order> list = new OrderDataGenerator(7).generate(100);
+        List<Order> stream = new OrderDataGenerator(7).stream(100).toList();
+
+        assertEquals(list, stream);
+    }
+
+    @Test
+    @DisplayName("Generated orders follow the configured distributions")
+    void returnOrdersWithinDistributions() {
+        LocalDate from = LocalDate.of(2024, 1, 1);
+        LocalDate to = LocalDate.of(2024, 1, 31);
+        List<Order> orders = new OrderDataGenerator(1, 1_000, 500, from, to).generate(20_000);
+
+        long delivered = orders.stream().filter(order -> order.getStatus() == OrderStatus.DELIVERED).count();
+        assertEquals(0.5, (double) delivered / orders.size(), 0.02);
+
+        assertTrue(orders.stream().allMatch(order ->
+                !order.getOrderDate().isBefore(from.atStartOfDay())
+                        && order.getOrderDate().isBefore(LocalDateTime.of(2024, 2, 1, 0, 0))));
+
+        long topProductSales = orders.stream()
+                .flatMap(order -> order.getItems().stream())
+                .filter(item -> item.getProductName().equals("Product-1"))
+                .count();
+        long lastProductSales = orders.stream()
+                .flatMap(order -> order.getItems().stream())
+                .filter(item -> item.getProductName().equals("Product-500"))
+                .count();
+        assertTrue(topProductSales > 50 * lastProductSales);
+
+        assertEquals("Product-1", OrderMetric.getMostPopularProduct(orders));
+    }
+
+}
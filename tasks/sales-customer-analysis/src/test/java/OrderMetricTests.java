@@ -1,10 +1,14 @@
 import com.innowise.dto.Customer;
+import com.innowise.dto.Order;
+import com.innowise.dto.OrderStatus;
 import com.innowise.service.OrderMetric;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import util.OrderDataFactory;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -75,4 +79,44 @@ public class OrderMetricTests {
         assertTrue(expectedCustomers.containsAll(customers));
     }
 
+    @Test
+    @DisplayName("Customers who have more than the given number of orders")
+    void returnCustomersWithMoreThanGivenOrders() {
+        List<Order> orders = OrderDataFactory.generateOrdersWithTheSameCustomer(3);
+
+        assertEquals(1, OrderMetric.getCustomersWithMoreThanOrders(orders, 2).size());
+        assertTrue(OrderMetric.getCustomersWithMoreThanOrders(orders, 3).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Exact total income in cents for all completed orders")
+    void returnCalculatedTotalIncomeCompletedOrdersCents() {
+        long totalIncome = OrderMetric.calculateTotalIncomeCompletedOrdersCents(OrderDataFactory.generateOrders());
+        long expectedIncome = ((100 + 20 * 3) + (40 + 60 + 35 + 100)) * 100L;
+
+        assertEquals(expectedIncome, totalIncome);
+    }
+
+    @Test
+    @DisplayName("Exact total income does not depend on the order of items")
+    void returnOrderIndependentTotalIncomeCents() {
+        List<Order> orders = new ArrayList<>(OrderDataFactory.generateOrders());
+        orders.forEach(order -> order.setStatus(OrderStatus.DELIVERED));
+        long totalIncome = OrderMetric.calculateTotalIncomeCompletedOrdersCents(orders);
+
+        Collections.reverse(orders);
+
+        assertEquals(totalIncome, OrderMetric.calculateTotalIncomeCompletedOrdersCents(orders));
+    }
+
+    @Test
+    @DisplayName("Exact average check in cents for successfully delivered orders")
+    void returnCalculatedAverageCheckDeliveredOrdersCents() {
+        long averageCheck = OrderMetric.calculateAverageCheckDeliveredOrdersCents(OrderDataFactory.generateOrders());
+        long expectedAverage = ((100 + 20 * 3) + (40 + 60 + 35 + 100)) * 100L / 2;
+
+        assertEquals(expectedAverage, averageCheck);
+        assertEquals(0, OrderMetric.calculateAverageCheckDeliveredOrdersCents(OrderDataFactory.generateNoDeliveredOrders()));
+    }
+
 }
@@ -0,0 +1,141 @@
+import com.innowise.dto.Category;
+import com.innowise.dto.Order;
+import com.innowise.dto.OrderStatus;
+import com.innowise.generator.OrderDataGenerator;
+import com.innowise.service.OrderMetric;
+import com.innowise.service.query.Aggregation;
+import com.innowise.service.query.Dimension;
+import com.innowise.service.query.Measure;
+import com.innowise.service.query.OrderQuery;
+import com.innowise.service.query.QueryResult;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import util.OrderDataFactory;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class OrderQueryTests {
+
+    @Test
+    @DisplayName("Income by category for delivered orders")
+    void returnIncomeByCategory() {
+        QueryResult result = OrderQuery.aggregate(Aggregation.SUM, Measure.REVENUE)
+                .whereStatus(OrderStatus.DELIVERED)
+                .groupBy(Dimension.CATEGORY)
+                .execute(OrderDataFactory.generateOrders());
+
+        assertEquals(2, result.getRows().size());
+        assertEquals(100 + 20 * 3 + 100, result.getValue("HOME"), 0.0001);
+        assertEquals(40 + 60 + 35, result.getValue("TOYS"), 0.0001);
+    }
+
+    @Test
+    @DisplayName("Average check per order matches OrderMetric")
+    void returnAverageCheck() {
+        List<Order> orders = OrderDataFactory.generateOrders();
+
+        QueryResult result = OrderQuery.aggregate(Aggregation.AVG_PER_ORDER, Measure.REVENUE)
+                .whereStatus(OrderStatus.DELIVERED)
+                .execute(orders);
+
+        assertEquals(OrderMetric.calculateAverageCheckDeliveredOrders(orders), result.getSingleValue(), 0.0001);
+    }
+
+    @Test
+    @DisplayName("Top-K cities by number of order lines")
+    void returnTopCitiesByLineCount() {
+        QueryResult result = OrderQuery.count()
+                .groupBy(Dimension.CITY)
+                .top(2)
+                .execute(OrderDataFactory.generateOrders());
+
+        assertEquals(2, result.getRows().size());
+        assertEquals("Berlin", result.getRows().get(0).getGroup());
+        assertEquals(2 + 4 + 2 + 3 + 5 * 2, result.getRows().get(0).getValue(), 0.0001);
+        assertEquals("Paris", result.getRows().get(1).getGroup());
+    }
+
+    @Test
+    @DisplayName("Filters on category, city and date are combined")
+    void returnFilteredMaximum() {
+        QueryResult result = OrderQuery.aggregate(Aggregation.MAX, Measure.PRICE)
+                .whereCategory(Category.ELECTRONICS, Category.BEAUTY)
+                .whereCity("Paris", "Madrid")
+                .whereOrderDateBetween(LocalDateTime.of(2023, 5, 1, 0, 0), LocalDateTime.of(2023, 5, 10, 0, 0))
+                .groupBy(Dimension.AGE_GROUP)
+                .execute(OrderDataFactory.generateOrders());
+
+        assertEquals(1, result.getRows().size());
+        assertEquals(20.50, result.getValue("30-39"), 0.0001);
+    }
+
+    @Test
+    @DisplayName("Results over many batches match OrderMetric")
+    void returnSameResultsAcrossBatches() {
+        List<Order> orders = new OrderDataGenerator(5).generate(10_000);
+
+        QueryResult income = OrderQuery.aggregate(Aggregation.SUM, Measure.REVENUE)
+                .whereStatus(OrderStatus.DELIVERED)
+                .execute(orders);
+        QueryResult topProduct = OrderQuery.aggregate(Aggregation.SUM, Measure.QUANTITY)
+                .whereStatus(OrderStatus.DELIVERED)
+                .groupBy(Dimension.PRODUCT)
+                .top(1)
+                .execute(orders);
+
+        assertEquals(OrderMetric.calculateTotalIncomeCompletedOrders(orders), income.getSingleValue(), 0.01);
+        assertEquals(OrderMetric.getMostPopularProduct(orders), topProduct.getRows().get(0).getGroup());
+        assertEquals(0.0, OrderQuery.count().whereCity("Nowhere").execute(orders).getSingleValue());
+    }
+
+    @Test
+    @DisplayName("Delivered orders per age group are counted once per order")
+    void returnDeliveredOrdersPerAgeGroup() {
+        List<Order> orders = OrderDataFactory.generateOrders();
+
+        QueryResult result = OrderQuery.countOrders()
+                .whereStatus(OrderStatus.DELIVERED)
+                .groupBy(Dimension.AGE_GROUP)
+                .execute(orders);
+
+        Map<String, Long> expected = orders.stream()
+                .filter(order -> order.getStatus() == OrderStatus.DELIVERED)
+                .collect(Collectors.groupingBy(order -> {
+                    int band = order.getCustomer().getAge() / 10 * 10;
+                    return band + "-" + (band + 9);
+                }, Collectors.counting()));
+        assertEquals(expected.size(), result.getRows().size());
+        expected.forEach((group, count) -> assertEquals(count, result.getValue(group), 0.0001));
+    }
+
+    @Test
+    @DisplayName("Duplicate cities and negative ages are accepted")
+    void returnResultForDuplicateCitiesAndNegativeAge() {
+        List<Order> orders = OrderDataFactory.generateOrdersWithTheSameCustomer(2);
+        orders.get(0).getCustomer().setAge(-5);
+
+        QueryResult result = OrderQuery.countOrders()
+                .whereCity("Berlin", "Berlin")
+                .groupBy(Dimension.AGE_GROUP)
+                .execute(orders);
+
+        assertEquals(2, result.getValue("0-9"), 0.0001);
+    }
+
+    @Test
+    @DisplayName("Orders before year 0 cannot be grouped by month")
+    void groupByMonthBeforeYearZeroThrows() {
+        List<Order> orders = OrderDataFactory.generateOrdersWithTheSameCustomer(1);
+        orders.get(0).setOrderDate(LocalDateTime.of(-1, 12, 1, 0, 0));
+
+        assertThrows(IllegalArgumentException.class, () -> OrderQuery.count()
+                .groupBy(Dimension.MONTH)
+                .execute(orders));
+    }
+
+}
@@ -0,0 +1,96 @@
+import com.innowise.dto.Customer;
+import com.innowise.dto.Order;
+import com.innowise.generator.OrderDataGenerator;
+import com.innowise.service.OrderMetric;
+import com.innowise.service.partition.OrderPartial;
+import com.innowise.service.partition.PartitionKey;
+import com.innowise.service.partition.PartitionedOrderMetric;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import util.OrderDataFactory;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.HashSet;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class PartitionedOrderMetricTests {
+
+    @Test
+    @DisplayName("Worker processes produce the same metrics as a single pass")
+    void returnSameMetricsAsSinglePass() {
+        List<Order> orders = OrderDataFactory.generateOrders();
+
+        OrderPartial result = new PartitionedOrderMetric(3, PartitionKey.CUSTOMER).execute(orders);
+
+        assertEquals(new HashSet<>(OrderMetric.getUniqueCities(orders)), new HashSet<>(result.getUniqueCities()));
+        assertEquals(OrderMetric.calculateTotalIncomeCompletedOrdersCents(orders), result.getTotalIncomeCents());
+        assertEquals(OrderMetric.getMostPopularProduct(orders), result.getMostPopularProduct());
+        assertEquals(OrderMetric.calculateAverageCheckDeliveredOrders(orders), result.getAverageCheck(), 0.0001);
+        assertEquals(OrderMetric.getCustomersWithMoreThanOrders(orders, 1).size(),
+                result.getCustomersWithMoreThanOrders(1).size());
+    }
+
+    @Test
+    @DisplayName("Orders of customers without an id are sharded by customer")
+    void returnCustomerCountsForNullIds() {
+        List<Order> orders = OrderDataFactory.generateOrders();
+        orders.addAll(OrderDataFactory.generateOrdersWithTheSameCustomer(3));
+        orders.get(orders.size() - 1).getCustomer().setCustomerId(null);
+
+        OrderPartial result = new PartitionedOrderMetric(3, PartitionKey.CUSTOMER).execute(orders);
+
+        assertEquals(new HashSet<>(OrderMetric.getCustomersWithMoreThanOrders(orders, 1)),
+                new HashSet<>(result.getCustomersWithMoreThanOrders(1)));
+        assertTrue(result.getCustomersWithMoreThanOrders(1).stream().anyMatch(customer -> customer.getCustomerId() == null));
+    }
+
+    @Test
+    @DisplayName("Sharding by month merges per-customer counts across workers")
+    void returnMergedCustomerCountsWhenShardedByMonth() {
+        List<Order> orders = new OrderDataGenerator(11, 200, 100,
+                OrderDataGenerator.DEFAULT_FROM, OrderDataGenerator.DEFAULT_TO).generate(5_000);
+
+        OrderPartial result = new PartitionedOrderMetric(2, PartitionKey.MONTH).execute(orders);
+
+        assertEquals(OrderMetric.calculateTotalIncomeCompletedOrdersCents(orders), result.getTotalIncomeCents());
+        assertEquals(OrderMetric.calculateAverageCheckDeliveredOrdersCents(orders), result.getAverageCheckCents());
+        assertEquals(new HashSet<>(OrderMetric.getCustomersWithMoreThanOrders(orders, 30)),
+                new HashSet<>(result.getCustomersWithMoreThanOrders(30)));
+    }
+
+    @Test
+    @DisplayName("Serialized partials are restored with the same aggregates")
+    void returnRestoredPartial() throws IOException {
+        OrderPartial partial = new OrderPartial();
+        OrderDataFactory.generateOrders().forEach(partial::add);
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        partial.writeTo(new DataOutputStream(bytes));
+        OrderPartial restored = OrderPartial.readFrom(new DataInputStream(new ByteArrayInputStream(bytes.toByteArray())));
+
+        assertEquals(partial.getUniqueCities(), restored.getUniqueCities());
+        assertEquals(partial.getTotalIncomeCents(), restored.getTotalIncomeCents());
+        assertEquals(partial.getMostPopularProduct(), restored.getMostPopularProduct());
+        List<Customer> customers = restored.getCustomersWithMoreThanOrders(4);
+        assertEquals(1, customers.size());
+        assertEquals("CUST-6", customers.get(0).getCustomerId());
+    }
+
+    @Test
+    @DisplayName("Empty input produces an empty aggregate")
+    void returnEmptyAggregateForNoOrders() {
+        OrderPartial result = new PartitionedOrderMetric(2, PartitionKey.CUSTOMER).execute(List.of());
+
+        assertTrue(result.getUniqueCities().isEmpty());
+        assertEquals(0, result.getAverageCheckCents());
+        RuntimeException e = assertThrows(RuntimeException.class, result::getMostPopularProduct);
+        assertEquals("No order found", e.getMessage());
+    }
+
+}
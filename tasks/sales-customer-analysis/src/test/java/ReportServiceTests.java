@@ -0,0 +1,108 @@
+import com.innowise.dto.Order;
+import com.innowise.service.OrderMetric;
+import com.innowise.service.report.Report;
+import com.innowise.service.report.ReportMetric;
+import com.innowise.service.report.ReportRequest;
+import com.innowise.service.report.ReportService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import util.OrderDataFactory;
+
+import java.time.Duration;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ReportServiceTests {
+
+    @Test
+    @DisplayName("All requested metrics are computed")
+    void returnReportWithAllMetrics() {
+        List<Order> orders = OrderDataFactory.generateOrders();
+
+        try (ReportService service = new ReportService(id -> orders, 4, Duration.ofSeconds(1))) {
+            Report report = service.generate(new ReportRequest("all", EnumSet.allOf(ReportMetric.class)));
+
+            assertEquals(OrderMetric.getUniqueCities(orders), report.getUniqueCities());
+            assertEquals(OrderMetric.calculateTotalIncomeCompletedOrders(orders), report.getTotalIncome(), 0.0001);
+            assertEquals(OrderMetric.getMostPopularProduct(orders), report.getMostPopularProduct());
+            assertEquals(OrderMetric.calculateAverageCheckDeliveredOrders(orders), report.getAverageCheck(), 0.0001);
+            assertEquals(OrderMetric.getCustomersWithMoreThanFiveOrders(orders), report.getCustomersWithMoreThanFiveOrders());
+        }
+    }
+
+    @Test
+    @DisplayName("Identical in-flight requests share one computation")
+    void returnCoalescedReport() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger loads = new AtomicInteger();
+        List<Order> orders = OrderDataFactory.generateOrders();
+
+        try (ReportService service = new ReportService(id -> {
+            loads.incrementAndGet();
+            await(release);
+            return orders;
+        }, 4, Duration.ofSeconds(1))) {
+            ReportRequest request = new ReportRequest("all", ReportMetric.UNIQUE_CITIES, ReportMetric.TOTAL_INCOME);
+            CompletableFuture<Report> first = service.submit(request);
+            CompletableFuture<Report> second = service.submit(new ReportRequest("all", ReportMetric.TOTAL_INCOME, ReportMetric.UNIQUE_CITIES));
+
+            assertEquals(1, service.getInFlightCount());
+            release.countDown();
+
+            assertSame(first.get(5, TimeUnit.SECONDS), second.get(5, TimeUnit.SECONDS));
+            assertEquals(1, loads.get());
+        }
+    }
+
+    @Test
+    @DisplayName("Requests beyond the concurrency limit are rejected")
+    void returnRejectedWhenAtCapacity() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        List<Order> orders = OrderDataFactory.generateOrders();
+
+        try (ReportService service = new ReportService(id -> {
+            await(release);
+            return orders;
+        }, 1, Duration.ofMillis(50))) {
+            CompletableFuture<Report> running = service.submit(new ReportRequest("first", ReportMetric.UNIQUE_CITIES));
+
+            assertThrows(RejectedExecutionException.class,
+                    () -> service.generate(new ReportRequest("second", ReportMetric.UNIQUE_CITIES)));
+
+            release.countDown();
+            assertEquals(3, running.get(5, TimeUnit.SECONDS).getUniqueCities().size());
+        }
+    }
+
+    @Test
+    @DisplayName("A failing metric fails the whole request")
+    void returnFailureWhenMetricFails() {
+        List<Order> orders = OrderDataFactory.generateNoDeliveredOrders();
+
+        try (ReportService service = new ReportService(id -> orders, 4, Duration.ofSeconds(1))) {
+            CompletableFuture<Report> report = service.submit(
+                    new ReportRequest("none", ReportMetric.UNIQUE_CITIES, ReportMetric.MOST_POPULAR_PRODUCT));
+
+            ExecutionException e = assertThrows(ExecutionException.class, () -> report.get(5, TimeUnit.SECONDS));
+            assertEquals("No order found", e.getCause().getMessage());
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+
+}
@@ -0,0 +1,231 @@
+package com.innowise.journal;
+
+import com.innowise.model.RobotPart;
+import com.innowise.service.SimulationEventListener;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Append-only binary journal of a simulation: the parts produced each day, the parts taken by each faction
+ * and the duration of every phase. The journal is read back by {@link JournalReplay}.
+ * <p>
+ * Records are encoded into a direct buffer and written to the file only when the buffer is full or the journal
+ * is closed, so a participant pays for a short critical section rather than for a system call.
+ * Parts are recorded as counts per part type, not as lists. Faction names are written once and referred to
+ * by id afterwards.
+ * <p>
+ * The listener does not receive the day of a collection, so collections are attributed to the last day
+ * a factory produced parts on; the day and night phases guarantee that this is the day being collected.
+ *
+ * <pre>
+ * journal   := MAGIC VERSION partCount:byte record*
+ * record    := FACTION id:int length:short name:utf8
+ *            | PRODUCED day:int count:int{partCount}
+ *            | COLLECTED day:int factionId:int count:int{partCount}
+ *            | PHASE phase:int durationNanos:long
+ * </pre>
+ */
+public class EventJournal implements SimulationEventListener, AutoCloseable {
+
+    static final int MAGIC = 0x534B594A;
+    static final byte VERSION = 1;
+    static final byte FACTION = 1;
+    static final byte PRODUCED = 2;
+    static final byte COLLECTED = 3;
+    static final byte PHASE = 4;
+
+    private static final int DEFAULT_BUFFER_SIZE = 64 * 1024;
+    private static final int MAX_RECORD_SIZE = 1 + 4 + 4 + 4 * RobotPart.getRobotParts().length;
+
+    private final FileChannel channel;
+    private final ByteBuffer buffer;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Map<String, Integer> factionIds = new HashMap<>();
+    private final int[] counts = new int[RobotPart.getRobotParts().length];
+    private int currentDay;
+    private long recordCount;
+    private boolean closed;
+
+    /**
+     * Creates a journal, replacing any existing file, with a 64 KiB write buffer.
+     *
+     * @param path The journal file.
+     * @throws IOException if the file cannot be created.
+     */
+    public EventJournal(Path path) throws IOException {
+        this(path, DEFAULT_BUFFER_SIZE);
+    }
+
+    /**
+     * Creates a journal, replacing any existing file.
+     *
+     * @param path       The journal file.
+     * @param bufferSize The number of bytes collected before they are written to the file.
+     * @throws IOException              if the file cannot be created.
+     * @throws IllegalArgumentException if the buffer cannot hold a record.
+     */
+    public EventJournal(Path path, int bufferSize) throws IOException {
+        if (bufferSize < MAX_RECORD_SIZE) {
+            throw new IllegalArgumentException("The buffer is too small for a record: " + bufferSize);
+        }
+        this.channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING);
+        this.buffer = ByteBuffer.allocateDirect(bufferSize);
+        buffer.putInt(MAGIC).put(VERSION).put((byte) counts.length);
+    }
+
+    @Override
+    public void onPartsProduced(int day, List<RobotPart> parts) {
+        lock.lock();
+        try {
+            ensureOpen();
+            currentDay = Math.max(currentDay, day);
+            ensureCapacity(MAX_RECORD_SIZE);
+            buffer.put(PRODUCED).putInt(day);
+            putCounts(parts);
+            recordCount++;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void onPartsCollected(String faction, List<RobotPart> parts) {
+        lock.lock();
+        try {
+            ensureOpen();
+            int factionId = factionId(faction);
+            ensureCapacity(MAX_RECORD_SIZE);
+            buffer.put(COLLECTED).putInt(currentDay).putInt(factionId);
+            putCounts(parts);
+            recordCount++;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void onPhaseCompleted(int phase, long durationNanos) {
+        lock.lock();
+        try {
+            ensureOpen();
+            ensureCapacity(MAX_RECORD_SIZE);
+            buffer.put(PHASE).putInt(phase).putLong(durationNanos);
+            recordCount++;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * @return The number of records written, not counting faction names.
+     */
+    public long getRecordCount() {
+        lock.lock();
+        try {
+            return recordCount;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Writes the buffered records to the file.
+     *
+     * @throws UncheckedIOException if the records cannot be written.
+     */
+    public void flush() {
+        lock.lock();
+        try {
+            ensureOpen();
+            drain();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Writes the buffered records and closes the file. Further events are rejected.
+     *
+     * @throws IOException if the records cannot be written or the file cannot be closed.
+     */
+    @Override
+    public void close() throws IOException {
+        lock.lock();
+        try {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            try (channel) {
+                drain();
+            } catch (UncheckedIOException e) {
+                throw e.getCause();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private int factionId(String faction) {
+        Integer id = factionIds.get(faction);
+        if (id != null) {
+            return id;
+        }
+        byte[] name = faction.getBytes(StandardCharsets.UTF_8);
+        if (name.length > Short.MAX_VALUE || 1 + 4 + 2 + name.length > buffer.capacity()) {
+            throw new IllegalArgumentException("The faction name is too long to journal: " + faction);
+        }
+        int newId = factionIds.size();
+        ensureCapacity(1 + 4 + 2 + name.length);
+        buffer.put(FACTION).putInt(newId).putShort((short) name.length).put(name);
+        factionIds.put(faction, newId);
+        return newId;
+    }
+
+    private void putCounts(List<RobotPart> parts) {
+        for (RobotPart part : parts) {
+            counts[part.ordinal()]++;
+        }
+        for (int i = 0; i < counts.length; i++) {
+            buffer.putInt(counts[i]);
+            counts[i] = 0;
+        }
+    }
+
+    private void ensureCapacity(int recordSize) {
+        if (buffer.remaining() < recordSize) {
+            drain();
+        }
+    }
+
+    private void drain() {
+        buffer.flip();
+        try {
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to write the event journal", e);
+        } finally {
+            buffer.clear();
+        }
+    }
+
+    private void ensureOpen() {
+        if (closed) {
+            throw new IllegalStateException("The event journal is closed.");
+        }
+    }
+
+}
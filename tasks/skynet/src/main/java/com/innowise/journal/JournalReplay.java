@@ -0,0 +1,295 @@
+package com.innowise.journal;
+
+import com.innowise.model.RobotPart;
+import com.innowise.service.Faction;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Rebuilds the state of a simulation from an {@link EventJournal} without re-running it.
+ * The journal is read once; afterwards the parts a faction had collected by any day are looked up
+ * from cumulative per-day counts.
+ */
+public class JournalReplay {
+
+    private static final Logger LOGGER = LogManager.getLogger(JournalReplay.class.getName());
+    private static final RobotPart[] PARTS = RobotPart.getRobotParts();
+
+    private final List<String> factions = new ArrayList<>();
+    private final Map<String, Integer> factionIds = new HashMap<>();
+    /**
+     * Per faction, the parts collected up to and including each day, indexed by {@code day * PARTS.length + part}.
+     */
+    private final List<int[]> collected = new ArrayList<>();
+    /**
+     * The parts produced on each day, indexed like {@link #collected}.
+     */
+    private int[] produced = new int[0];
+    private long[] phaseDurations = new long[0];
+    private int phaseCount;
+    private int lastDay;
+
+    private JournalReplay() {
+    }
+
+    /**
+     * Reads a journal.
+     *
+     * @param path The journal file written by {@link EventJournal}.
+     * @return The replay of the journal.
+     * @throws IOException if the file cannot be read or is not a valid journal.
+     */
+    public static JournalReplay read(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            ByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            JournalReplay replay = new JournalReplay();
+            try {
+                replay.parse(buffer);
+            } catch (BufferUnderflowException e) {
+                throw new IOException("The event journal is truncated: " + path, e);
+            }
+            replay.accumulate();
+            return replay;
+        }
+    }
+
+    /**
+     * @return The names of the journaled factions, in the order of their first collection.
+     */
+    public List<String> getFactions() {
+        return List.copyOf(factions);
+    }
+
+    /**
+     * @return The last day with produced or collected parts, or 0 for an empty journal.
+     */
+    public int getLastDay() {
+        return lastDay;
+    }
+
+    /**
+     * Gets the parts a faction had collected by the end of the given day.
+     * Days after the last journaled day give the final state.
+     *
+     * @param faction The name of the faction.
+     * @param day     The simulation day; 0 gives the state before the first day.
+     * @return The number of collected parts of each type.
+     * @throws IllegalArgumentException if the faction is not in the journal or the day is negative.
+     */
+    public Map<RobotPart, Integer> getCollectedParts(String faction, int day) {
+        Integer id = factionIds.get(faction);
+        if (id == null) {
+            throw new IllegalArgumentException("Unknown faction: " + faction);
+        }
+        return toMap(collected.get(id), clamp(day));
+    }
+
+    /**
+     * Gets the parts a faction had collected at the end of the simulation,
+     * equal to {@link Faction#getCollectedParts()} after the run.
+     *
+     * @param faction The name of the faction.
+     * @return The number of collected parts of each type.
+     * @throws IllegalArgumentException if the faction is not in the journal.
+     */
+    public Map<RobotPart, Integer> getCollectedParts(String faction) {
+        return getCollectedParts(faction, lastDay);
+    }
+
+    /**
+     * Calculates the number of robots a faction could assemble by the end of the given day.
+     *
+     * @param faction The name of the faction.
+     * @param day     The simulation day.
+     * @return The number of complete robots.
+     * @throws IllegalArgumentException if the faction is not in the journal or the day is negative.
+     * @see Faction#calculateAssembledRobots()
+     */
+    public int calculateAssembledRobots(String faction, int day) {
+        return Faction.countAssembledRobots(getCollectedParts(faction, day));
+    }
+
+    /**
+     * Gets the parts produced by all factories on the given day.
+     *
+     * @param day The simulation day.
+     * @return The number of produced parts of each type; zero for days outside the journal.
+     * @throws IllegalArgumentException if the day is negative.
+     */
+    public Map<RobotPart, Integer> getProducedParts(int day) {
+        if (day < 0) {
+            throw new IllegalArgumentException("The day must not be negative: " + day);
+        }
+        return toMap(produced, day > lastDay ? -1 : day);
+    }
+
+    /**
+     * @return The number of journaled phases; a threaded simulation has two per day.
+     */
+    public int getPhaseCount() {
+        return phaseCount;
+    }
+
+    /**
+     * Gets the duration of a phase, from the end of the previous phase until the last participant arrived.
+     *
+     * @param phase The number of the phase, starting from 0.
+     * @return The duration of the phase in nanoseconds.
+     * @throws IndexOutOfBoundsException if the phase was not journaled.
+     */
+    public long getPhaseDurationNanos(int phase) {
+        if (phase < 0 || phase >= phaseCount) {
+            throw new IndexOutOfBoundsException("Phase " + phase + " is not in the journal of " + phaseCount + " phases");
+        }
+        return phaseDurations[phase];
+    }
+
+    private void parse(ByteBuffer buffer) throws IOException {
+        if (buffer.remaining() < 6 || buffer.getInt() != EventJournal.MAGIC) {
+            throw new IOException("Not an event journal");
+        }
+        byte version = buffer.get();
+        if (version != EventJournal.VERSION) {
+            throw new IOException("Unsupported event journal version: " + version);
+        }
+        if (buffer.get() != PARTS.length) {
+            throw new IOException("The event journal was written for different robot parts");
+        }
+        while (buffer.hasRemaining()) {
+            byte type = buffer.get();
+            switch (type) {
+                case EventJournal.FACTION -> readFaction(buffer);
+                case EventJournal.PRODUCED -> {
+                    int day = readDay(buffer);
+                    produced = ensureDay(produced, day);
+                    readCounts(buffer, produced, day);
+                }
+                case EventJournal.COLLECTED -> {
+                    int day = readDay(buffer);
+                    int id = buffer.getInt();
+                    if (id < 0 || id >= factions.size()) {
+                        throw new IOException("Collection by an undeclared faction: " + id);
+                    }
+                    int[] counts = ensureDay(collected.get(id), day);
+                    collected.set(id, counts);
+                    readCounts(buffer, counts, day);
+                }
+                case EventJournal.PHASE -> {
+                    int phase = buffer.getInt();
+                    long duration = buffer.getLong();
+                    if (phase < 0) {
+                        throw new IOException("Invalid phase: " + phase);
+                    }
+                    if (phase >= phaseDurations.length) {
+                        phaseDurations = Arrays.copyOf(phaseDurations, Math.max(phaseDurations.length * 2, phase + 1));
+                    }
+                    phaseDurations[phase] = duration;
+                    phaseCount = Math.max(phaseCount, phase + 1);
+                }
+                default -> throw new IOException("Unknown record type: " + type);
+            }
+        }
+    }
+
+    private void readFaction(ByteBuffer buffer) throws IOException {
+        int id = buffer.getInt();
+        byte[] name = new byte[buffer.getShort()];
+        buffer.get(name);
+        if (id != factions.size()) {
+            throw new IOException("Faction ids are out of order: " + id);
+        }
+        String faction = new String(name, StandardCharsets.UTF_8);
+        factions.add(faction);
+        factionIds.put(faction, id);
+        collected.add(new int[0]);
+    }
+
+    private int readDay(ByteBuffer buffer) throws IOException {
+        int day = buffer.getInt();
+        if (day < 0) {
+            throw new IOException("Invalid day: " + day);
+        }
+        lastDay = Math.max(lastDay, day);
+        return day;
+    }
+
+    private static void readCounts(ByteBuffer buffer, int[] counts, int day) {
+        int offset = day * PARTS.length;
+        for (int i = 0; i < PARTS.length; i++) {
+            counts[offset + i] += buffer.getInt();
+        }
+    }
+
+    private static int[] ensureDay(int[] counts, int day) {
+        int required = (day + 1) * PARTS.length;
+        if (counts.length >= required) {
+            return counts;
+        }
+        return Arrays.copyOf(counts, Math.max(counts.length * 2, required));
+    }
+
+    /**
+     * Turns the per-day collections of every faction into running totals.
+     */
+    private void accumulate() {
+        int length = (lastDay + 1) * PARTS.length;
+        produced = Arrays.copyOf(produced, length);
+        for (int id = 0; id < collected.size(); id++) {
+            int[] counts = Arrays.copyOf(collected.get(id), length);
+            for (int i = PARTS.length; i < length; i++) {
+                counts[i] += counts[i - PARTS.length];
+            }
+            collected.set(id, counts);
+        }
+    }
+
+    private int clamp(int day) {
+        if (day < 0) {
+            throw new IllegalArgumentException("The day must not be negative: " + day);
+        }
+        return Math.min(day, lastDay);
+    }
+
+    private static Map<RobotPart, Integer> toMap(int[] counts, int day) {
+        Map<RobotPart, Integer> parts = new EnumMap<>(RobotPart.class);
+        for (RobotPart part : PARTS) {
+            parts.put(part, day < 0 ? 0 : counts[day * PARTS.length + part.ordinal()]);
+        }
+        return parts;
+    }
+
+    /**
+     * Prints the state of every faction at a day of a journaled simulation.
+     *
+     * @param args The journal file and, optionally, the day; the last day by default.
+     * @throws IOException if the journal cannot be read.
+     */
+    public static void main(String[] args) throws IOException {
+        if (args.length < 1 || args.length > 2) {
+            LOGGER.error("Usage: JournalReplay <journal> [day]");
+            return;
+        }
+        JournalReplay replay = read(Path.of(args[0]));
+        int day = args.length == 2 ? Integer.parseInt(args[1]) : replay.getLastDay();
+        LOGGER.info("--- Day {} of {} ---\n", Math.min(day, replay.getLastDay()), replay.getLastDay());
+        for (String faction : replay.getFactions()) {
+            LOGGER.info("[{}]: {} => robots: {}\n", faction, replay.getCollectedParts(faction, day),
+                    replay.calculateAssembledRobots(faction, day));
+        }
+    }
+
+}
@@ -0,0 +1,45 @@
+package com.innowise.service;
+
+import com.innowise.model.RobotPart;
+
+/**
+ * Decides how many parts of a type a factory grants a faction asking for them.
+ * The factory never hands out more than the policy grants, nor more than are available.
+ */
+@FunctionalInterface
+public interface AllocationPolicy {
+
+    /**
+     * Grants every request in full while parts last, in the order factions arrive.
+     */
+    AllocationPolicy GREEDY = (part, wanted, available, stock) -> Math.min(wanted, available);
+
+    /**
+     * Creates a policy limiting every faction to an equal share of the parts of each type
+     * the factory had at the start of the night, so that early arrivals cannot empty the storage
+     * of a part everybody is short of. Parts left over at the end of the night stay in the storage.
+     *
+     * @param consumers The number of factions sharing the factory.
+     * @return The policy.
+     * @throws IllegalArgumentException if there are no consumers.
+     */
+    static AllocationPolicy fairShare(int consumers) {
+        if (consumers <= 0) {
+            throw new IllegalArgumentException("The number of consumers must be positive: " + consumers);
+        }
+        return (part, wanted, available, stock) ->
+                Math.min(Math.min(wanted, available), Math.ceilDiv(stock, consumers));
+    }
+
+    /**
+     * Decides how many parts to grant.
+     *
+     * @param part      The part type.
+     * @param wanted    The number of parts of that type the faction asks for.
+     * @param available The number of parts of that type currently in the storage.
+     * @param stock     The number of parts of that type in the storage at the start of the night.
+     * @return The number of parts to grant, at most {@code wanted}.
+     */
+    int grant(RobotPart part, int wanted, int available, int stock);
+
+}
@@ -0,0 +1,95 @@
+package com.innowise.service;
+
+import com.innowise.model.RobotPart;
+
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Compact event sink counting simulation events instead of formatting them.
+ * Counters are {@link LongAdder}s, so factions collecting concurrently do not contend on them.
+ */
+public class EventCounters implements SimulationEventListener {
+
+    private static final RobotPart[] PARTS = RobotPart.getRobotParts();
+
+    private final LongAdder productionDays = new LongAdder();
+    private final LongAdder collections = new LongAdder();
+    private final LongAdder emptyCollections = new LongAdder();
+    private final LongAdder[] produced = newAdders();
+    private final LongAdder[] collected = newAdders();
+
+    @Override
+    public void onPartsProduced(int day, List<RobotPart> parts) {
+        productionDays.increment();
+        for (RobotPart part : parts) {
+            produced[part.ordinal()].increment();
+        }
+    }
+
+    @Override
+    public void onPartsCollected(String faction, List<RobotPart> parts) {
+        collections.increment();
+        if (parts.isEmpty()) {
+            emptyCollections.increment();
+        }
+        for (RobotPart part : parts) {
+            collected[part.ordinal()].increment();
+        }
+    }
+
+    /**
+     * @return The number of factory production rounds.
+     */
+    public long getProductionDays() {
+        return productionDays.sum();
+    }
+
+    /**
+     * @return The number of times a faction tried to take parts.
+     */
+    public long getCollections() {
+        return collections.sum();
+    }
+
+    /**
+     * @return The number of times a faction took no parts, because none of the part types
+     *         it asked for were in stock.
+     */
+    public long getEmptyCollections() {
+        return emptyCollections.sum();
+    }
+
+    /**
+     * @return The number of parts produced, per part type.
+     */
+    public Map<RobotPart, Long> getProducedParts() {
+        return toMap(produced);
+    }
+
+    /**
+     * @return The number of parts collected, per part type.
+     */
+    public Map<RobotPart, Long> getCollectedParts() {
+        return toMap(collected);
+    }
+
+    private static Map<RobotPart, Long> toMap(LongAdder[] adders) {
+        Map<RobotPart, Long> counts = new EnumMap<>(RobotPart.class);
+        for (RobotPart part : PARTS) {
+            counts.put(part, adders[part.ordinal()].sum());
+        }
+        return counts;
+    }
+
+    private static LongAdder[] newAdders() {
+        LongAdder[] adders = new LongAdder[PARTS.length];
+        for (int i = 0; i < adders.length; i++) {
+            adders[i] = new LongAdder();
+        }
+        return adders;
+    }
+
+}
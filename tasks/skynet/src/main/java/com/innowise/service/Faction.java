@@ -8,7 +8,6 @@ import org.apache.logging.log4j.Logger;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.BrokenBarrierException;
-import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CyclicBarrier;
 import java.util.stream.Collectors;
 
@@ -20,15 +19,17 @@ public class Faction implements Runnable {
 
     private static final Logger LOGGER = LogManager.getLogger(Faction.class.getName());
     private final String name;
-    private final Factory factory;
-    private final CyclicBarrier barrier;
+    private final PartSource source;
+    private final PhaseSynchronizer synchronizer;
     private final int simulationDays;
     private static final int MAX_PARTS_PER_DAY = 5;
+    private SimulationEventListener eventListener = SimulationEventListener.NONE;
+    private boolean dailyLogging = true;
 
     /**
      * Storage for counting collected parts of each type.
      */
-    private final Map<RobotPart, Integer> collectedParts = new ConcurrentHashMap<>();
+    private final PartCounter collectedParts = new PartCounter();
 
     /**
      * Constructs a new Faction.
@@ -39,37 +40,50 @@ public class Faction implements Runnable {
      * @param simulationDays The total number of days the simulation will run.
      */
     public Faction(String name, Factory factory, CyclicBarrier barrier, int simulationDays) {
+        this(name, factory, PhaseSynchronizer.of(barrier), simulationDays);
+    }
+
+    /**
+     * Constructs a new Faction.
+     *
+     * @param name           The name of the faction.
+     * @param source         The factory or supply network from which parts will be taken.
+     * @param synchronizer   The synchronizer used to synchronize simulation steps.
+     * @param simulationDays The total number of days the simulation will run.
+     */
+    public Faction(String name, PartSource source, PhaseSynchronizer synchronizer, int simulationDays) {
         this.name = name;
-        this.factory = factory;
-        this.barrier = barrier;
+        this.source = source;
+        this.synchronizer = synchronizer;
         this.simulationDays = simulationDays;
-        for (RobotPart type : RobotPart.getRobotParts()) {
-            collectedParts.put(type, 0);
-        }
     }
 
     @Override
     public void run() {
-        for (int day = 1; day <= simulationDays; day++) {
-            try {
-                startDayPhase();
-                startNightPhase();
-            } catch (InterruptedException | BrokenBarrierException e) {
-                Thread.currentThread().interrupt();
-                LOGGER.error("Faction thread %s was interrupted.\n {}", name);
+        try {
+            for (int day = 1; day <= simulationDays; day++) {
+                try {
+                    startDayPhase();
+                    startNightPhase();
+                } catch (InterruptedException | BrokenBarrierException e) {
+                    Thread.currentThread().interrupt();
+                    LOGGER.error("Faction thread {} was interrupted.", name);
+                }
             }
+        } finally {
+            synchronizer.leave();
         }
     }
 
     /**
      * Represents the "Day" phase for the faction.
-     * The faction waits on the barrier for the factory to finish producing parts.
+     * The faction waits on the synchronizer for the factory to finish producing parts.
      *
      * @throws InterruptedException if the current thread is interrupted while waiting.
-     * @throws BrokenBarrierException if the barrier is in a broken state.
+     * @throws BrokenBarrierException if the synchronizer is in a broken state.
      */
     private void startDayPhase() throws InterruptedException, BrokenBarrierException {
-        barrier.await();
+        synchronizer.awaitAdvance();
     }
 
     /**
@@ -77,46 +91,81 @@ public class Faction implements Runnable {
      * The faction collects parts and then waits for other factions to finish.
      *
      * @throws InterruptedException if the current thread is interrupted while waiting.
-     * @throws BrokenBarrierException if the barrier is in a broken state.
+     * @throws BrokenBarrierException if the synchronizer is in a broken state.
      */
     private void startNightPhase() throws InterruptedException, BrokenBarrierException {
         collectParts();
-        barrier.await();
+        synchronizer.awaitAdvance();
     }
 
     /**
-     * Takes parts from the factory.
+     * Takes parts from the factory or supply network, asking for the parts its robots are short of.
      */
-    private void collectParts() {
-        List<RobotPart> taken = factory.takeParts(MAX_PARTS_PER_DAY);
+    public void collectParts() {
+        List<RobotPart> taken = source.takeParts(collectedParts.demand(MAX_PARTS_PER_DAY));
 
+        eventListener.onPartsCollected(name, taken);
         if (taken.isEmpty()) {
-            LOGGER.info("[{}]: Wanted to take parts, but the storage is empty!\n", name);
+            if (dailyLogging) {
+                LOGGER.info("[{}]: Wanted to take parts, but none of the wanted types are in stock!\n", name);
+            }
         } else {
             for (RobotPart part : taken) {
-                collectedParts.put(part, collectedParts.get(part) + 1);
+                collectedParts.add(part);
+            }
+            if (dailyLogging && LOGGER.isInfoEnabled()) {
+                String report = taken.stream()
+                        .map(Enum::name)
+                        .collect(Collectors.joining(", "));
+                LOGGER.info("[{}]: Collected {} parts: [{}]\n", name, taken.size(), report);
             }
-            String report = taken.stream()
-                    .map(Enum::name)
-                    .collect(Collectors.joining(", "));
-            LOGGER.info("[{}]: Collected {} parts: [{}]\n", name, taken.size(), report);
         }
     }
 
     /**
      * Calculates the number of fully assembled robots.
      * A robot requires: 1 HEAD, 1 TORSO, 2 HANDS, 2 FEET.
+     * The count is maintained as parts are collected, so this is a constant-time read.
      *
      * @return The total number of complete robots that can be assembled.
      */
     public int calculateAssembledRobots() {
-        int heads = collectedParts.getOrDefault(RobotPart.HEAD, 0);
-        int torsos = collectedParts.getOrDefault(RobotPart.TORSO, 0);
-        int hands = collectedParts.getOrDefault(RobotPart.HAND, 0) / 2;
-        int feet = collectedParts.getOrDefault(RobotPart.FEET, 0) / 2;
+        return collectedParts.getRobots();
+    }
+
+    /**
+     * Calculates the number of fully assembled robots from the given part counts.
+     * A robot requires: 1 HEAD, 1 TORSO, 2 HANDS, 2 FEET.
+     *
+     * @param parts The number of collected parts of each type.
+     * @return The total number of complete robots that can be assembled.
+     */
+    public static int countAssembledRobots(Map<RobotPart, Integer> parts) {
+        int heads = parts.getOrDefault(RobotPart.HEAD, 0);
+        int torsos = parts.getOrDefault(RobotPart.TORSO, 0);
+        int hands = parts.getOrDefault(RobotPart.HAND, 0) / 2;
+        int feet = parts.getOrDefault(RobotPart.FEET, 0) / 2;
         return Math.min(Math.min(heads, torsos), Math.min(hands, feet));
     }
 
+    /**
+     * Sets the listener notified of collected parts. Must be set before the faction starts running.
+     *
+     * @param eventListener The listener, or {@link SimulationEventListener#NONE}.
+     */
+    public void setEventListener(SimulationEventListener eventListener) {
+        this.eventListener = eventListener;
+    }
+
+    /**
+     * Sets whether per-day messages are logged. Must be set before the faction starts running.
+     *
+     * @param dailyLogging {@code true} to log every day, as by default; {@code false} for batch runs.
+     */
+    public void setDailyLogging(boolean dailyLogging) {
+        this.dailyLogging = dailyLogging;
+    }
+
     /**
      * Gets the name of the faction.
      * @return The faction's name.
@@ -130,11 +179,21 @@ public class Faction implements Runnable {
      */
     public void printFinalStats() {
         LOGGER.info("\n--- Stats for Faction {} ---\n", name);
-        collectedParts.forEach((part, count) -> LOGGER.info("  - {}: {}\n", part, count));
+        getCollectedParts().forEach((part, count) -> LOGGER.info("  - {}: {}\n", part, count));
         LOGGER.info("  => Total robots assembled: {}\n", calculateAssembledRobots());
     }
 
+    /**
+     * @return A snapshot of the number of collected parts of each type.
+     */
     public Map<RobotPart, Integer> getCollectedParts() {
+        return collectedParts.snapshot();
+    }
+
+    /**
+     * @return The live counters of collected parts.
+     */
+    public PartCounter getPartCounter() {
         return collectedParts;
     }
 
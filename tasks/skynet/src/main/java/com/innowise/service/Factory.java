@@ -6,30 +6,35 @@ import org.apache.logging.log4j.Logger;
 
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Random;
-import java.util.concurrent.BlockingDeque;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.random.RandomGenerator;
 import java.util.concurrent.BrokenBarrierException;
 import java.util.concurrent.CyclicBarrier;
-import java.util.concurrent.LinkedBlockingDeque;
 import java.util.stream.Collectors;
 
 /**
  * The Factory class, which produces parts. It runs in its own thread.
  * This class acts as the "Producer" in the simulation.
  */
-public class Factory implements Runnable {
+public class Factory implements Runnable, PartSource {
 
     private static final Logger LOGGER = LogManager.getLogger(Factory.class.getName());
 
     /**
-     * The storage for parts. Using LinkedBlockingDeque as it's a thread-safe
-     * collection suitable for producer-consumer scenarios.
+     * The storage for parts. Counts are kept per part type in atomics,
+     * so factions take parts without locking.
      */
-    private final BlockingDeque<RobotPart> storage = new LinkedBlockingDeque<>();
-    private final Random random = new Random();
-    private final CyclicBarrier barrier;
+    private final PartInventory inventory = new PartInventory();
+    /**
+     * The number of parts of each type in the storage at the end of the last day phase, indexed by ordinal.
+     */
+    private final int[] stock = new int[RobotPart.getRobotParts().length];
+    private SimulationEventListener eventListener = SimulationEventListener.NONE;
+    private boolean dailyLogging = true;
+    private AllocationPolicy allocationPolicy = AllocationPolicy.GREEDY;
+    private final RandomGenerator random;
+    private final PhaseSynchronizer synchronizer;
     private final int simulationDays;
-    private final Object lock = new Object();
 
     /**
      * Constructs a new Factory.
@@ -38,34 +43,62 @@ public class Factory implements Runnable {
      * @param simulationDays The total number of days the simulation will run.
      */
     public Factory(CyclicBarrier barrier, int simulationDays) {
-        this.barrier = barrier;
+        this(PhaseSynchronizer.of(barrier), simulationDays);
+    }
+
+    /**
+     * Constructs a new Factory.
+     *
+     * @param synchronizer   The synchronizer used to synchronize simulation steps (day/night).
+     * @param simulationDays The total number of days the simulation will run.
+     */
+    public Factory(PhaseSynchronizer synchronizer, int simulationDays) {
+        this(synchronizer, simulationDays, null);
+    }
+
+    /**
+     * Constructs a new Factory whose production and hand-out of parts are driven by the given generator,
+     * so that a single-threaded simulation is reproducible. The generator is used by every faction
+     * taking parts, so it must be thread-safe if factions run concurrently.
+     *
+     * @param synchronizer   The synchronizer used to synchronize simulation steps (day/night).
+     * @param simulationDays The total number of days the simulation will run.
+     * @param random         The source of randomness, or {@code null} for an unseeded one.
+     */
+    public Factory(PhaseSynchronizer synchronizer, int simulationDays, RandomGenerator random) {
+        this.synchronizer = synchronizer;
         this.simulationDays = simulationDays;
+        this.random = random;
     }
 
     @Override
     public void run() {
-        for (int day = 1; day <= simulationDays; day++) {
-            try {
-                startDayPhase(day);
-                startNightPhase();
-            } catch (InterruptedException | BrokenBarrierException e) {
-                Thread.currentThread().interrupt();
-                LOGGER.error("Factory thread was interrupted.");
+        try {
+            for (int day = 1; day <= simulationDays; day++) {
+                try {
+                    startDayPhase(day);
+                    startNightPhase();
+                } catch (InterruptedException | BrokenBarrierException e) {
+                    Thread.currentThread().interrupt();
+                    LOGGER.error("Factory thread was interrupted.");
+                }
             }
+        } finally {
+            synchronizer.leave();
         }
     }
 
     /**
      * Represents the "Day" phase of the simulation, where the factory produces parts.
-     * The factory produces parts and then waits on the barrier for the factions to start collecting.
+     * The factory produces parts and then waits on the synchronizer for the factions to start collecting.
      *
      * @param day The current day of the simulation.
      * @throws InterruptedException   if the current thread is interrupted while waiting.
-     * @throws BrokenBarrierException if the barrier is in a broken state.
+     * @throws BrokenBarrierException if the synchronizer is in a broken state.
      */
     private void startDayPhase(int day) throws InterruptedException, BrokenBarrierException {
         produceParts(day);
-        barrier.await();
+        synchronizer.awaitAdvance();
     }
 
     /**
@@ -73,62 +106,108 @@ public class Factory implements Runnable {
      * The factory waits for the factions to finish collecting all parts before proceeding.
      *
      * @throws InterruptedException   if the current thread is interrupted while waiting.
-     * @throws BrokenBarrierException if the barrier is in a broken state.
+     * @throws BrokenBarrierException if the synchronizer is in a broken state.
      */
     private void startNightPhase() throws InterruptedException, BrokenBarrierException {
-        barrier.await();
+        synchronizer.awaitAdvance();
     }
 
     /**
      * Produces a random number of random parts (between 1 and 10).
      *
-     * @param day The current simulation day, used for logging.
+     * @param day The current simulation day, used for logging and events.
      */
-    private void produceParts(int day) {
+    public void produceParts(int day) {
+        RandomGenerator random = this.random != null ? this.random : ThreadLocalRandom.current();
         int partsToProduce = random.nextInt(10) + 1;
         RobotPart[] allRobotParts = RobotPart.getRobotParts();
 
+        List<RobotPart> produced = new ArrayList<>(partsToProduce);
         for (int i = 0; i < partsToProduce; i++) {
             RobotPart newPart = allRobotParts[random.nextInt(allRobotParts.length)];
-            storage.add(newPart);
+            inventory.add(newPart);
+            produced.add(newPart);
+        }
+        for (RobotPart part : allRobotParts) {
+            stock[part.ordinal()] = inventory.count(part);
         }
 
-        String report = storage.stream()
-                .map(Enum::name)
-                .collect(Collectors.joining(", "));
-        LOGGER.info("--- Day {} ---\n[FACTORY]: Produced {} parts: [{}]\n",
-                day, partsToProduce, report);
+        eventListener.onPartsProduced(day, produced);
+        if (dailyLogging && LOGGER.isInfoEnabled()) {
+            String report = produced.stream()
+                    .map(Enum::name)
+                    .collect(Collectors.joining(", "));
+            LOGGER.info("--- Day {} ---\n[FACTORY]: Produced {} parts: [{}]\n",
+                    day, partsToProduce, report);
+        }
     }
 
     /**
-     * A thread-safe method for factions to take parts from the storage.
+     * A thread-safe, lock-free method for factions to take parts from the storage.
      * Factions call this method during the night phase.
      *
      * @param maxAmount The maximum number of parts a faction can carry.
      * @return A list of parts taken from the storage.
      */
+    @Override
     public List<RobotPart> takeParts(int maxAmount) {
-        List<RobotPart> takenParts = new ArrayList<>();
-
-        for (int i = 0; i < maxAmount; i++) {
-            RobotPart part = takePart();
-            if (part != null) {
-                takenParts.add(part);
-            } else {
-                break;
+        return inventory.takeParts(maxAmount, random != null ? random : ThreadLocalRandom.current());
+    }
+
+    /**
+     * A thread-safe, lock-free method for factions to take the parts they need from the storage.
+     * Each part type is served from its own counter, as far as the allocation policy allows.
+     * Factions call this method during the night phase.
+     *
+     * @param demand The number of parts the faction wants of each type.
+     * @return A list of parts taken from the storage, grouped by type.
+     */
+    @Override
+    public List<RobotPart> takeParts(PartDemand demand) {
+        List<RobotPart> taken = new ArrayList<>(demand.getTotal());
+        for (RobotPart part : RobotPart.getRobotParts()) {
+            int wanted = demand.get(part);
+            if (wanted > 0) {
+                int granted = allocationPolicy.grant(part, wanted, inventory.count(part), stock[part.ordinal()]);
+                int received = inventory.take(part, Math.min(granted, wanted));
+                for (int i = 0; i < received; i++) {
+                    taken.add(part);
+                }
             }
         }
-        return takenParts;
+        return taken;
     }
 
-    private RobotPart takePart() {
-        synchronized (lock) {
-            return storage.pollLast();
-        }
+    public PartInventory getInventory() {
+        return inventory;
     }
 
-    public BlockingDeque<RobotPart> getStorage() {
-        return storage;
+    /**
+     * Sets the listener notified of produced parts. Must be set before the factory starts running.
+     *
+     * @param eventListener The listener, or {@link SimulationEventListener#NONE}.
+     */
+    public void setEventListener(SimulationEventListener eventListener) {
+        this.eventListener = eventListener;
+    }
+
+    /**
+     * Sets whether per-day messages are logged. Must be set before the factory starts running.
+     *
+     * @param dailyLogging {@code true} to log every day, as by default; {@code false} for batch runs.
+     */
+    public void setDailyLogging(boolean dailyLogging) {
+        this.dailyLogging = dailyLogging;
+    }
+
+    /**
+     * Sets the policy deciding how many of the demanded parts a faction gets.
+     * Must be set before the factory starts running.
+     *
+     * @param allocationPolicy The policy; {@link AllocationPolicy#GREEDY} by default.
+     */
+    public void setAllocationPolicy(AllocationPolicy allocationPolicy) {
+        this.allocationPolicy = allocationPolicy;
     }
 
 }
@@ -0,0 +1,132 @@
+package com.innowise.service;
+
+import com.innowise.model.RobotPart;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+/**
+ * Counts the parts collected by a faction, one primitive counter per part type indexed by ordinal,
+ * together with the number of robots they assemble into.
+ * <p>
+ * Parts are added by a single owning thread, without boxing or allocation. The robot count is kept up to date
+ * on every addition by counting further robots for as long as the next one can be assembled. A single part
+ * completes at most one robot, but a batch of parts of the bottleneck type can complete several.
+ * Other threads may read at any time; the counters are atomics, so a reader sees the latest counts.
+ * A robot requires: 1 HEAD, 1 TORSO, 2 HANDS, 2 FEET.
+ */
+public class PartCounter {
+
+    private static final RobotPart[] PARTS = RobotPart.getRobotParts();
+
+    /**
+     * The number of parts of each type one robot requires, indexed by ordinal.
+     */
+    private static final int[] PARTS_PER_ROBOT = new int[PARTS.length];
+
+    static {
+        PARTS_PER_ROBOT[RobotPart.HEAD.ordinal()] = 1;
+        PARTS_PER_ROBOT[RobotPart.TORSO.ordinal()] = 1;
+        PARTS_PER_ROBOT[RobotPart.HAND.ordinal()] = 2;
+        PARTS_PER_ROBOT[RobotPart.FEET.ordinal()] = 2;
+    }
+
+    private final AtomicIntegerArray counts = new AtomicIntegerArray(PARTS.length);
+    private volatile int robots;
+
+    /**
+     * Adds one part. Must only be called by the owning thread.
+     * Counts the robot the part completes, if any.
+     *
+     * @param part The part to add.
+     */
+    public void add(RobotPart part) {
+        counts.incrementAndGet(part.ordinal());
+        while (canAssemble(robots + 1)) {
+            robots++;
+        }
+    }
+
+    /**
+     * Adds several parts of the same type. Must only be called by the owning thread.
+     * Counts every further robot the added parts complete.
+     *
+     * @param part   The part type to add.
+     * @param amount The number of parts to add.
+     * @throws IllegalArgumentException if the amount is negative.
+     */
+    public void add(RobotPart part, int amount) {
+        if (amount < 0) {
+            throw new IllegalArgumentException("Amount must not be negative: " + amount);
+        }
+        counts.addAndGet(part.ordinal(), amount);
+        while (canAssemble(robots + 1)) {
+            robots++;
+        }
+    }
+
+    /**
+     * @param part The part type.
+     * @return The number of parts of that type.
+     */
+    public int get(RobotPart part) {
+        return counts.get(part.ordinal());
+    }
+
+    /**
+     * @return The number of complete robots the parts assemble into.
+     */
+    public int getRobots() {
+        return robots;
+    }
+
+    /**
+     * Copies the counts into an unmodifiable map. Each count is read atomically, but counts of different
+     * types may be read on either side of a concurrent {@link #add(RobotPart)}.
+     *
+     * @return The number of parts of each type.
+     */
+    public Map<RobotPart, Integer> snapshot() {
+        Map<RobotPart, Integer> snapshot = new EnumMap<>(RobotPart.class);
+        for (RobotPart part : PARTS) {
+            snapshot.put(part, counts.get(part.ordinal()));
+        }
+        return Collections.unmodifiableMap(snapshot);
+    }
+
+    /**
+     * Works out which parts to collect next: the parts missing for the next robot, starting with the bottleneck,
+     * then those for the robot after it, until {@code maxAmount} parts are asked for.
+     * Every robot needs parts of every type, so each further robot adds to the demand.
+     *
+     * @param maxAmount The maximum number of parts to ask for.
+     * @return The demand.
+     */
+    public PartDemand demand(int maxAmount) {
+        int[] wanted = new int[PARTS.length];
+        int left = maxAmount;
+        for (long robot = robots + 1; left > 0; robot++) {
+            for (int i = 0; i < PARTS.length && left > 0; i++) {
+                long missing = PARTS_PER_ROBOT[i] * robot - counts.get(i) - wanted[i];
+                if (missing > 0) {
+                    int asked = (int) Math.min(missing, left);
+                    wanted[i] += asked;
+                    left -= asked;
+                }
+            }
+        }
+        return PartDemand.ofOrdinals(wanted);
+    }
+
+    private boolean canAssemble(int robotCount) {
+        for (int i = 0; i < PARTS_PER_ROBOT.length; i++) {
+            if (counts.get(i) < (long) PARTS_PER_ROBOT[i] * robotCount) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+}
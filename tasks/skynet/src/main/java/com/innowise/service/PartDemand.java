@@ -0,0 +1,118 @@
+package com.innowise.service;
+
+import com.innowise.model.RobotPart;
+
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The mix of parts a faction asks for, as a count per part type.
+ */
+public final class PartDemand {
+
+    private static final RobotPart[] PARTS = RobotPart.getRobotParts();
+
+    private final int[] counts;
+    private final int total;
+
+    private PartDemand(int[] counts) {
+        this.counts = counts;
+        this.total = Arrays.stream(counts).sum();
+    }
+
+    /**
+     * Creates a demand.
+     *
+     * @param counts The number of parts wanted of each type; missing types are not wanted.
+     * @return The demand.
+     * @throws IllegalArgumentException if a count is negative.
+     */
+    public static PartDemand of(Map<RobotPart, Integer> counts) {
+        int[] wanted = new int[PARTS.length];
+        counts.forEach((part, count) -> {
+            if (count < 0) {
+                throw new IllegalArgumentException("Demand for " + part + " must not be negative: " + count);
+            }
+            wanted[part.ordinal()] = count;
+        });
+        return new PartDemand(wanted);
+    }
+
+    /**
+     * Creates a demand from counts indexed by part ordinal, taking ownership of the array.
+     */
+    static PartDemand ofOrdinals(int[] counts) {
+        return new PartDemand(counts);
+    }
+
+    /**
+     * @param part The part type.
+     * @return The number of parts of that type wanted.
+     */
+    public int get(RobotPart part) {
+        return counts[part.ordinal()];
+    }
+
+    /**
+     * @return The number of parts wanted in total.
+     */
+    public int getTotal() {
+        return total;
+    }
+
+    /**
+     * @return Whether no parts are wanted.
+     */
+    public boolean isEmpty() {
+        return total == 0;
+    }
+
+    /**
+     * Gets what is still wanted after some parts were received.
+     *
+     * @param received The parts received.
+     * @return The remaining demand; parts beyond the demand do not make it negative.
+     */
+    public PartDemand without(List<RobotPart> received) {
+        int[] remaining = counts.clone();
+        for (RobotPart part : received) {
+            if (remaining[part.ordinal()] > 0) {
+                remaining[part.ordinal()]--;
+            }
+        }
+        return new PartDemand(remaining);
+    }
+
+    /**
+     * @return The number of parts wanted of each type.
+     */
+    public Map<RobotPart, Integer> toMap() {
+        Map<RobotPart, Integer> map = new EnumMap<>(RobotPart.class);
+        for (RobotPart part : PARTS) {
+            map.put(part, counts[part.ordinal()]);
+        }
+        return map;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (o == null || getClass() != o.getClass()) return false;
+        PartDemand that = (PartDemand) o;
+        return Arrays.equals(counts, that.counts);
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(counts);
+    }
+
+    @Override
+    public String toString() {
+        return "PartDemand{" +
+                "parts=" + toMap() +
+                '}';
+    }
+
+}
@@ -0,0 +1,174 @@
+package com.innowise.service;
+
+import com.innowise.model.RobotPart;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.random.RandomGenerator;
+
+/**
+ * Lock-free storage of robot parts, kept as one atomic counter per part type and no shared total.
+ * <p>
+ * A take of one type only touches the counter of that type, so it gets every part of that type
+ * still in stock, whatever other takes are doing. A batch take reads the counters once, draws the types
+ * of its parts at random from that snapshot, weighted by how many parts of each type are left, and then
+ * claims them with at most one CAS per type. Drawing from the snapshot is the same as picking random parts
+ * out of the pile: no faction is favoured by the order in which factions arrive or by the order in which
+ * parts were produced. Parts that concurrent takes got first are drawn again from a fresh snapshot, so
+ * a batch take comes back short only once it finds every counter at zero.
+ * <p>
+ * Contention is spread over the type counters and each take costs a constant number of CAS operations,
+ * independent of how many parts it takes.
+ */
+public class PartInventory {
+
+    private static final RobotPart[] PARTS = RobotPart.getRobotParts();
+
+    private final AtomicIntegerArray counts = new AtomicIntegerArray(PARTS.length);
+
+    /**
+     * Adds one part to the inventory.
+     *
+     * @param part The part to add.
+     */
+    public void add(RobotPart part) {
+        add(part, 1);
+    }
+
+    /**
+     * Adds several parts of the same type to the inventory.
+     *
+     * @param part   The part type to add.
+     * @param amount The number of parts to add.
+     */
+    public void add(RobotPart part, int amount) {
+        if (amount < 0) {
+            throw new IllegalArgumentException("Amount must not be negative: " + amount);
+        }
+        counts.addAndGet(part.ordinal(), amount);
+    }
+
+    /**
+     * Takes up to {@code maxAmount} parts without locking.
+     *
+     * @param maxAmount The maximum number of parts to take.
+     * @return The parts taken; fewer than requested if the inventory runs out.
+     */
+    public List<RobotPart> takeParts(int maxAmount) {
+        return takeParts(maxAmount, ThreadLocalRandom.current());
+    }
+
+    /**
+     * Takes up to {@code maxAmount} parts without locking, drawing part types from the given generator.
+     *
+     * @param maxAmount The maximum number of parts to take.
+     * @param random    The generator choosing which parts are taken.
+     * @return The parts taken; fewer than requested if the inventory runs out.
+     */
+    public List<RobotPart> takeParts(int maxAmount, RandomGenerator random) {
+        List<RobotPart> taken = new ArrayList<>(Math.max(maxAmount, 0));
+        int[] stock = new int[PARTS.length];
+        int[] wanted = new int[PARTS.length];
+        while (taken.size() < maxAmount) {
+            int left = 0;
+            for (int i = 0; i < PARTS.length; i++) {
+                stock[i] = counts.get(i);
+                left += stock[i];
+            }
+            if (left == 0) {
+                break;
+            }
+            draw(stock, left, Math.min(maxAmount - taken.size(), left), wanted, random);
+            for (int i = 0; i < PARTS.length; i++) {
+                for (int n = claim(i, wanted[i]); n > 0; n--) {
+                    taken.add(PARTS[i]);
+                }
+            }
+        }
+        return taken;
+    }
+
+    /**
+     * Takes up to {@code maxAmount} parts of one type without locking, with a CAS on the counter of that type.
+     *
+     * @param part      The part type to take.
+     * @param maxAmount The maximum number of parts to take.
+     * @return The number of parts taken; fewer than requested only if no more parts of that type are left.
+     */
+    public int take(RobotPart part, int maxAmount) {
+        return claim(part.ordinal(), maxAmount);
+    }
+
+    /**
+     * @param part The part type.
+     * @return The number of parts of that type in the inventory.
+     */
+    public int count(RobotPart part) {
+        return counts.get(part.ordinal());
+    }
+
+    /**
+     * @return The number of parts in the inventory; not atomic with respect to concurrent adds and takes.
+     */
+    public int size() {
+        int size = 0;
+        for (int i = 0; i < PARTS.length; i++) {
+            size += counts.get(i);
+        }
+        return size;
+    }
+
+    /**
+     * @return A snapshot of the part counts; not atomic with respect to concurrent adds and takes.
+     */
+    public Map<RobotPart, Integer> snapshot() {
+        Map<RobotPart, Integer> snapshot = new EnumMap<>(RobotPart.class);
+        for (RobotPart part : PARTS) {
+            snapshot.put(part, counts.get(part.ordinal()));
+        }
+        return snapshot;
+    }
+
+    /**
+     * Draws the types of {@code amount} parts without replacement from the given stock,
+     * which is used up by the draw.
+     */
+    private static void draw(int[] stock, int left, int amount, int[] wanted, RandomGenerator random) {
+        Arrays.fill(wanted, 0);
+        for (int n = 0; n < amount; n++) {
+            int pick = random.nextInt(left);
+            int i = 0;
+            while (pick >= stock[i]) {
+                pick -= stock[i++];
+            }
+            stock[i]--;
+            wanted[i]++;
+            left--;
+        }
+    }
+
+    /**
+     * Removes up to {@code amount} parts of one type. The loop only repeats when another thread
+     * changed the counter in between.
+     *
+     * @return The number of parts removed.
+     */
+    private int claim(int index, int amount) {
+        while (true) {
+            int count = counts.get(index);
+            int claimed = Math.min(count, amount);
+            if (claimed <= 0) {
+                return 0;
+            }
+            if (counts.compareAndSet(index, count, count - claimed)) {
+                return claimed;
+            }
+        }
+    }
+
+}
@@ -0,0 +1,29 @@
+package com.innowise.service;
+
+import com.innowise.model.RobotPart;
+
+import java.util.List;
+
+/**
+ * Where a faction takes its parts from: a single {@link Factory} or a view of a {@link SupplyNetwork}.
+ */
+public interface PartSource {
+
+    /**
+     * Takes up to {@code maxAmount} parts. Called concurrently by all factions sharing the source.
+     *
+     * @param maxAmount The maximum number of parts to take.
+     * @return The parts taken; fewer than requested if the source runs out.
+     */
+    List<RobotPart> takeParts(int maxAmount);
+
+    /**
+     * Takes the parts a faction asks for, as far as they are available and the allocation policy allows.
+     * Called concurrently by all factions sharing the source.
+     *
+     * @param demand The number of parts wanted of each type.
+     * @return The parts taken; never more of a type than demanded.
+     */
+    List<RobotPart> takeParts(PartDemand demand);
+
+}
@@ -0,0 +1,38 @@
+package com.innowise.service;
+
+import java.util.concurrent.BrokenBarrierException;
+import java.util.concurrent.CyclicBarrier;
+
+/**
+ * Synchronization point shared by the participants of the simulation.
+ * Every participant calls {@link #awaitAdvance()} at the end of each day and each night phase,
+ * and {@link #leave()} once it has finished all of its days.
+ */
+public interface PhaseSynchronizer {
+
+    /**
+     * Arrives at the end of the current phase and waits until all other participants have arrived.
+     *
+     * @throws InterruptedException   if the current thread is interrupted while waiting.
+     * @throws BrokenBarrierException if the synchronizer is in a broken state.
+     */
+    void awaitAdvance() throws InterruptedException, BrokenBarrierException;
+
+    /**
+     * Stops taking part in the synchronization, so the remaining participants no longer wait for this one.
+     * Synchronizers with a fixed number of parties ignore it.
+     */
+    default void leave() {
+    }
+
+    /**
+     * Adapts a barrier with a fixed number of parties.
+     *
+     * @param barrier The CyclicBarrier shared by all participants.
+     * @return A synchronizer awaiting the barrier.
+     */
+    static PhaseSynchronizer of(CyclicBarrier barrier) {
+        return barrier::await;
+    }
+
+}
@@ -0,0 +1,48 @@
+package com.innowise.service;
+
+import com.innowise.model.RobotPart;
+
+import java.util.List;
+
+/**
+ * Receives structured simulation events from factories and factions.
+ * Methods are called from the participant threads, so implementations must be thread-safe
+ * and should return quickly.
+ */
+public interface SimulationEventListener {
+
+    /**
+     * A listener ignoring all events.
+     */
+    SimulationEventListener NONE = new SimulationEventListener() {
+    };
+
+    /**
+     * Called after a factory has produced its parts for the day.
+     *
+     * @param day   The current simulation day.
+     * @param parts The parts produced.
+     */
+    default void onPartsProduced(int day, List<RobotPart> parts) {
+    }
+
+    /**
+     * Called after a faction has taken parts from its factory.
+     *
+     * @param faction The name of the faction.
+     * @param parts   The parts taken; empty if none of the part types the faction asked for were in stock.
+     */
+    default void onPartsCollected(String faction, List<RobotPart> parts) {
+    }
+
+    /**
+     * Called when all participants have finished a phase. Day {@code d} ends phase {@code 2 * (d - 1)}
+     * and its night ends phase {@code 2 * (d - 1) + 1}.
+     *
+     * @param phase         The number of the completed phase, starting from 0.
+     * @param durationNanos The time since the previous phase completed, or since the scheduler was created.
+     */
+    default void onPhaseCompleted(int phase, long durationNanos) {
+    }
+
+}
@@ -0,0 +1,50 @@
+package com.innowise.service;
+
+/**
+ * Which other factories of a {@link SupplyNetwork} a faction may steal from once its home factory runs dry.
+ */
+public enum StealTopology {
+
+    /**
+     * Only the home factory; factions of different factories never meet.
+     */
+    NONE,
+
+    /**
+     * The two neighbours of the home factory on a ring of all factories, the next one first.
+     */
+    RING,
+
+    /**
+     * Every other factory, starting from the next one around the ring,
+     * so factions of different homes do not all raid the same factory first.
+     */
+    ALL;
+
+    /**
+     * Lists the factories to steal from, in the order they are tried.
+     *
+     * @param home         The index of the home factory.
+     * @param factoryCount The number of factories in the network.
+     * @return The indices of the factories to steal from, never including {@code home}.
+     */
+    public int[] victims(int home, int factoryCount) {
+        return switch (this) {
+            case NONE -> new int[0];
+            case RING -> {
+                if (factoryCount <= 2) {
+                    yield factoryCount == 2 ? new int[]{1 - home} : new int[0];
+                }
+                yield new int[]{(home + 1) % factoryCount, (home + factoryCount - 1) % factoryCount};
+            }
+            case ALL -> {
+                int[] victims = new int[factoryCount - 1];
+                for (int i = 0; i < victims.length; i++) {
+                    victims[i] = (home + 1 + i) % factoryCount;
+                }
+                yield victims;
+            }
+        };
+    }
+
+}
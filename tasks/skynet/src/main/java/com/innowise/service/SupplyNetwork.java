@@ -0,0 +1,132 @@
+package com.innowise.service;
+
+import com.innowise.model.RobotPart;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A network of factories, each with its own inventory, so that factions of different factories
+ * do not contend on a single storage.
+ * <p>
+ * Every faction has a home factory and takes its parts from it first. When the home factory cannot supply
+ * all the parts, the faction steals the rest from the factories its {@link StealTopology} allows,
+ * in order, the way an idle worker steals tasks from other queues.
+ */
+public class SupplyNetwork {
+
+    private final List<Factory> factories;
+    private final StealTopology topology;
+    private final LongAdder stolenParts = new LongAdder();
+
+    /**
+     * Constructs a network.
+     *
+     * @param factories The factories of the network.
+     * @param topology  Which factories a faction may steal from.
+     * @throws IllegalArgumentException if there are no factories.
+     */
+    public SupplyNetwork(List<Factory> factories, StealTopology topology) {
+        if (factories.isEmpty()) {
+            throw new IllegalArgumentException("A supply network needs at least one factory.");
+        }
+        this.factories = List.copyOf(factories);
+        this.topology = topology;
+    }
+
+    /**
+     * Gets the source of a faction based at the given factory.
+     *
+     * @param home The index of the home factory.
+     * @return A source taking parts from the home factory first, then from the factories the topology allows.
+     * @throws IndexOutOfBoundsException if there is no such factory.
+     */
+    public PartSource getSource(int home) {
+        Factory homeFactory = factories.get(home);
+        int[] victimIndices = topology.victims(home, factories.size());
+        if (victimIndices.length == 0) {
+            return homeFactory;
+        }
+        Factory[] victims = new Factory[victimIndices.length];
+        for (int i = 0; i < victims.length; i++) {
+            victims[i] = factories.get(victimIndices[i]);
+        }
+        return new StealingSource(homeFactory, victims);
+    }
+
+    /**
+     * Takes from the home factory first, then from each victim in turn until the request is met.
+     */
+    private class StealingSource implements PartSource {
+
+        private final Factory home;
+        private final Factory[] victims;
+
+        private StealingSource(Factory home, Factory[] victims) {
+            this.home = home;
+            this.victims = victims;
+        }
+
+        @Override
+        public List<RobotPart> takeParts(int maxAmount) {
+            List<RobotPart> taken = home.takeParts(maxAmount);
+            if (taken.size() == maxAmount) {
+                return taken;
+            }
+            List<RobotPart> parts = new ArrayList<>(taken);
+            for (Factory victim : victims) {
+                List<RobotPart> stolen = victim.takeParts(maxAmount - parts.size());
+                stolenParts.add(stolen.size());
+                parts.addAll(stolen);
+                if (parts.size() == maxAmount) {
+                    break;
+                }
+            }
+            return parts;
+        }
+
+        @Override
+        public List<RobotPart> takeParts(PartDemand demand) {
+            List<RobotPart> taken = home.takeParts(demand);
+            if (taken.size() == demand.getTotal()) {
+                return taken;
+            }
+            List<RobotPart> parts = new ArrayList<>(taken);
+            PartDemand remaining = demand.without(taken);
+            for (Factory victim : victims) {
+                List<RobotPart> stolen = victim.takeParts(remaining);
+                stolenParts.add(stolen.size());
+                parts.addAll(stolen);
+                remaining = remaining.without(stolen);
+                if (remaining.isEmpty()) {
+                    break;
+                }
+            }
+            return parts;
+        }
+
+    }
+
+    /**
+     * @return The factories of the network.
+     */
+    public List<Factory> getFactories() {
+        return factories;
+    }
+
+    /**
+     * @return The topology of the network.
+     */
+    public StealTopology getTopology() {
+        return topology;
+    }
+
+    /**
+     * @return The number of parts factions have taken from factories other than their home.
+     */
+    public long getStolenParts() {
+        return stolenParts.sum();
+    }
+
+}
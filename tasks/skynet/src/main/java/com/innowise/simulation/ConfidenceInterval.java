@@ -0,0 +1,65 @@
+package com.innowise.simulation;
+
+/**
+ * Two-sided 95% confidence interval of an estimate.
+ */
+public final class ConfidenceInterval {
+
+    static final double Z_95 = 1.959963984540054;
+
+    private final double estimate;
+    private final double lower;
+    private final double upper;
+
+    ConfidenceInterval(double estimate, double lower, double upper) {
+        this.estimate = estimate;
+        this.lower = lower;
+        this.upper = upper;
+    }
+
+    /**
+     * Wilson score interval of a proportion, which stays within [0, 1] for probabilities near 0 or 1.
+     */
+    static ConfidenceInterval ofProportion(long successes, long trials) {
+        if (trials == 0) {
+            return new ConfidenceInterval(Double.NaN, Double.NaN, Double.NaN);
+        }
+        double p = (double) successes / trials;
+        double z2 = Z_95 * Z_95;
+        double denominator = 1 + z2 / trials;
+        double center = (p + z2 / (2.0 * trials)) / denominator;
+        double halfWidth = Z_95 * Math.sqrt(p * (1 - p) / trials + z2 / (4.0 * trials * trials)) / denominator;
+        return new ConfidenceInterval(p, Math.max(0, center - halfWidth), Math.min(1, center + halfWidth));
+    }
+
+    /**
+     * Normal approximation interval of a mean.
+     */
+    static ConfidenceInterval ofMean(double sum, double sumOfSquares, long count) {
+        if (count == 0) {
+            return new ConfidenceInterval(Double.NaN, Double.NaN, Double.NaN);
+        }
+        double mean = sum / count;
+        double variance = count > 1 ? Math.max(0, (sumOfSquares - sum * mean) / (count - 1)) : 0;
+        double halfWidth = Z_95 * Math.sqrt(variance / count);
+        return new ConfidenceInterval(mean, mean - halfWidth, mean + halfWidth);
+    }
+
+    public double getEstimate() {
+        return estimate;
+    }
+
+    public double getLower() {
+        return lower;
+    }
+
+    public double getUpper() {
+        return upper;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%.4f [%.4f, %.4f]", estimate, lower, upper);
+    }
+
+}
@@ -0,0 +1,155 @@
+package com.innowise.simulation;
+
+import com.innowise.service.Faction;
+import com.innowise.service.Factory;
+import com.innowise.service.PhaseSynchronizer;
+import com.innowise.service.SimulationEventListener;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.SplittableRandom;
+
+/**
+ * Deterministic, single-threaded counterpart of {@link RobotWarSimulator#runSimulation(int, List, int)}.
+ * <p>
+ * Production and collection are events in a priority queue ordered by simulated time, where day {@code d}
+ * is time {@code 2d} and its night is {@code 2d + 1}. Every participant reschedules itself for the next day
+ * after handling its event. Factories produce by day; factions collect by night, with ties among them broken
+ * by a random key drawn when the event is scheduled, which plays the role of thread scheduling order.
+ * <p>
+ * All randomness comes from a {@link SplittableRandom} seeded once, so the same seed and parameters
+ * always give the same {@link SimulationResult}. The domain rules are those of {@link Factory} and {@link Faction}.
+ */
+public class DiscreteEventSimulation {
+
+    private static final PhaseSynchronizer NO_SYNCHRONIZATION = () -> {
+    };
+
+    private final long seed;
+    private final int factoryCount;
+    private final List<String> factionNames;
+    private final int simulationDays;
+    private boolean dailyLogging = true;
+
+    /**
+     * Constructs a simulation. Faction {@code i} takes parts from factory {@code i % factoryCount}.
+     *
+     * @param seed           The seed of all randomness in the simulation.
+     * @param factoryCount   The number of factories.
+     * @param factionNames   The names of the factions.
+     * @param simulationDays The number of days to simulate.
+     * @throws IllegalArgumentException if there are no factories or no factions, or two factions share a name.
+     */
+    public DiscreteEventSimulation(long seed, int factoryCount, List<String> factionNames, int simulationDays) {
+        this.seed = seed;
+        this.factoryCount = factoryCount;
+        this.factionNames = checkParticipants(factoryCount, factionNames);
+        this.simulationDays = simulationDays;
+    }
+
+    /**
+     * Sets whether factories and factions log every day. Per-day messages are logged by default;
+     * batch runs turn them off regardless of the configured log level.
+     *
+     * @param dailyLogging Whether per-day messages are logged.
+     */
+    public void setDailyLogging(boolean dailyLogging) {
+        this.dailyLogging = dailyLogging;
+    }
+
+    /**
+     * Runs the simulation from the first to the last day.
+     *
+     * @return The final state of all factions.
+     */
+    public SimulationResult run() {
+        return run(SimulationEventListener.NONE);
+    }
+
+    /**
+     * Runs the simulation from the first to the last day, reporting production and collection
+     * to the given listener. There are no phases to report.
+     *
+     * @param eventListener The listener of production and collection events.
+     * @return The final state of all factions.
+     */
+    public SimulationResult run(SimulationEventListener eventListener) {
+        SplittableRandom random = new SplittableRandom(seed);
+        List<Factory> factories = new ArrayList<>(factoryCount);
+        for (int i = 0; i < factoryCount; i++) {
+            Factory factory = new Factory(NO_SYNCHRONIZATION, simulationDays, random.split());
+            factory.setEventListener(eventListener);
+            factory.setDailyLogging(dailyLogging);
+            factories.add(factory);
+        }
+        List<Faction> factions = new ArrayList<>(factionNames.size());
+        for (int i = 0; i < factionNames.size(); i++) {
+            Faction faction = new Faction(factionNames.get(i), factories.get(i % factoryCount),
+                    NO_SYNCHRONIZATION, simulationDays);
+            faction.setEventListener(eventListener);
+            faction.setDailyLogging(dailyLogging);
+            factions.add(faction);
+        }
+
+        PriorityQueue<Event> events = new PriorityQueue<>(Comparator.comparingInt(Event::time)
+                .thenComparingLong(Event::order));
+        if (simulationDays <= 0) {
+            return new SimulationResult(factions);
+        }
+        for (int i = 0; i < factoryCount; i++) {
+            events.add(new Event(2, i, i, true));
+        }
+        for (int i = 0; i < factions.size(); i++) {
+            events.add(new Event(3, random.nextLong(), i, false));
+        }
+
+        while (!events.isEmpty()) {
+            Event event = events.poll();
+            int day = event.time() / 2;
+            if (event.production()) {
+                factories.get(event.participant()).produceParts(day);
+            } else {
+                factions.get(event.participant()).collectParts();
+            }
+            if (day < simulationDays) {
+                long order = event.production() ? event.order() : random.nextLong();
+                events.add(new Event(event.time() + 2, order, event.participant(), event.production()));
+            }
+        }
+        return new SimulationResult(factions);
+    }
+
+    /**
+     * Checks that a simulation has factories and factions, and that faction names are unique,
+     * since a {@link SimulationResult} is keyed by name.
+     *
+     * @param factoryCount The number of factories.
+     * @param factionNames The names of the factions.
+     * @return An immutable copy of the faction names.
+     */
+    static List<String> checkParticipants(int factoryCount, List<String> factionNames) {
+        if (factoryCount <= 0 || factionNames.isEmpty()) {
+            throw new IllegalArgumentException("The simulation needs at least one factory and one faction.");
+        }
+        List<String> names = List.copyOf(factionNames);
+        if (new HashSet<>(names).size() != names.size()) {
+            throw new IllegalArgumentException("Faction names must be unique: " + names);
+        }
+        return names;
+    }
+
+    /**
+     * A participant acting at a point of simulated time.
+     *
+     * @param time        {@code 2 * day} for production, {@code 2 * day + 1} for collection.
+     * @param order       The tie-breaker among events at the same time.
+     * @param participant The index of the factory or faction.
+     * @param production  Whether a factory produces or a faction collects.
+     */
+    private record Event(int time, long order, int participant, boolean production) {
+    }
+
+}
@@ -0,0 +1,29 @@
+package com.innowise.simulation;
+
+/**
+ * The kind of threads the participants of a simulation run on.
+ */
+public enum ExecutionMode {
+
+    /**
+     * One platform thread per participant. Limited to a few thousand participants.
+     */
+    PLATFORM,
+
+    /**
+     * One virtual thread per participant. Participants parked between phases do not hold a carrier thread,
+     * so a simulation can run hundreds of thousands of them.
+     */
+    VIRTUAL;
+
+    /**
+     * @return A builder of threads of this kind.
+     */
+    public Thread.Builder threadBuilder() {
+        return switch (this) {
+            case PLATFORM -> Thread.ofPlatform();
+            case VIRTUAL -> Thread.ofVirtual();
+        };
+    }
+
+}
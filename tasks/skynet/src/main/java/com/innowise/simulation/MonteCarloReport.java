@@ -0,0 +1,144 @@
+package com.innowise.simulation;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Aggregated outcome of a {@link MonteCarloRunner} batch.
+ */
+public class MonteCarloReport {
+
+    private final List<String> factionNames;
+    private final Tally tally;
+
+    MonteCarloReport(List<String> factionNames, Tally tally) {
+        this.factionNames = factionNames;
+        this.tally = tally;
+    }
+
+    /**
+     * @return The number of simulations run.
+     */
+    public long getRuns() {
+        return tally.runs;
+    }
+
+    /**
+     * @param faction The name of the faction.
+     * @return The share of runs the faction won outright, with its confidence interval.
+     */
+    public ConfidenceInterval getWinProbability(String faction) {
+        return ConfidenceInterval.ofProportion(tally.wins[indexOf(faction)], tally.runs);
+    }
+
+    /**
+     * @return The share of runs in which several factions shared the lead, with its confidence interval.
+     */
+    public ConfidenceInterval getDrawProbability() {
+        return ConfidenceInterval.ofProportion(tally.draws, tally.runs);
+    }
+
+    /**
+     * @param faction The name of the faction.
+     * @return The mean number of robots the faction assembled, with its confidence interval.
+     */
+    public ConfidenceInterval getMeanRobots(String faction) {
+        int index = indexOf(faction);
+        return ConfidenceInterval.ofMean(tally.robotSums[index], tally.robotSquareSums[index], tally.runs);
+    }
+
+    /**
+     * @param faction The name of the faction.
+     * @return Element {@code n} is the number of runs in which the faction assembled exactly {@code n} robots.
+     */
+    public long[] getRobotDistribution(String faction) {
+        long[] histogram = tally.histograms[indexOf(faction)];
+        return Arrays.copyOf(histogram, histogram.length);
+    }
+
+    private int indexOf(String faction) {
+        int index = factionNames.indexOf(faction);
+        if (index < 0) {
+            throw new IllegalArgumentException("Unknown faction: " + faction);
+        }
+        return index;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder report = new StringBuilder("MonteCarloReport{runs=").append(tally.runs);
+        for (String faction : factionNames) {
+            report.append(", ").append(faction)
+                    .append(": win=").append(getWinProbability(faction))
+                    .append(" robots=").append(getMeanRobots(faction));
+        }
+        return report.append(", draw=").append(getDrawProbability()).append('}').toString();
+    }
+
+    /**
+     * Mutable per-thread accumulator of run outcomes. All counters are integers,
+     * so merging in any order gives the same totals.
+     */
+    static final class Tally {
+        long runs;
+        long draws;
+        final long[] wins;
+        final long[] robotSums;
+        final long[] robotSquareSums;
+        final long[][] histograms;
+
+        Tally(int factions) {
+            wins = new long[factions];
+            robotSums = new long[factions];
+            robotSquareSums = new long[factions];
+            histograms = new long[factions][0];
+        }
+
+        void add(SimulationResult result) {
+            runs++;
+            int best = -1;
+            int leader = -1;
+            boolean draw = false;
+            int faction = 0;
+            for (int robots : result.getRobots().values()) {
+                robotSums[faction] += robots;
+                robotSquareSums[faction] += (long) robots * robots;
+                if (robots >= histograms[faction].length) {
+                    histograms[faction] = Arrays.copyOf(histograms[faction], robots + 1);
+                }
+                histograms[faction][robots]++;
+                if (robots > best) {
+                    best = robots;
+                    leader = faction;
+                    draw = false;
+                } else if (robots == best) {
+                    draw = true;
+                }
+                faction++;
+            }
+            if (draw) {
+                draws++;
+            } else {
+                wins[leader]++;
+            }
+        }
+
+        void merge(Tally other) {
+            runs += other.runs;
+            draws += other.draws;
+            for (int faction = 0; faction < wins.length; faction++) {
+                wins[faction] += other.wins[faction];
+                robotSums[faction] += other.robotSums[faction];
+                robotSquareSums[faction] += other.robotSquareSums[faction];
+                long[] theirs = other.histograms[faction];
+                if (theirs.length > histograms[faction].length) {
+                    histograms[faction] = Arrays.copyOf(histograms[faction], theirs.length);
+                }
+                for (int robots = 0; robots < theirs.length; robots++) {
+                    histograms[faction][robots] += theirs[robots];
+                }
+            }
+        }
+    }
+
+}
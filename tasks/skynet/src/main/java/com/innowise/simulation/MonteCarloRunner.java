@@ -0,0 +1,76 @@
+package com.innowise.simulation;
+
+import java.util.List;
+import java.util.stream.LongStream;
+
+/**
+ * Runs many independent {@link DiscreteEventSimulation}s in parallel and aggregates
+ * win and draw probabilities and robot counts per faction.
+ * <p>
+ * Run {@code i} is seeded with a 64-bit mix of the batch seed and {@code i}, so every run gets
+ * an independent {@link java.util.SplittableRandom} stream, the outcome of a run does not depend on which
+ * thread executes it, and the whole batch is reproducible. Runs are spread over the common fork/join pool
+ * with a parallel stream and share no mutable state until their per-thread tallies are merged,
+ * so throughput grows with the number of cores.
+ */
+public class MonteCarloRunner {
+
+    private static final long GOLDEN_GAMMA = 0x9E3779B97F4A7C15L;
+
+    private final long seed;
+    private final int factoryCount;
+    private final List<String> factionNames;
+    private final int simulationDays;
+
+    /**
+     * Constructs a runner.
+     *
+     * @param seed           The seed of the whole batch.
+     * @param factoryCount   The number of factories in every run.
+     * @param factionNames   The names of the factions in every run.
+     * @param simulationDays The number of days of every run.
+     * @throws IllegalArgumentException if there are no factories or no factions, or two factions share a name.
+     */
+    public MonteCarloRunner(long seed, int factoryCount, List<String> factionNames, int simulationDays) {
+        this.seed = seed;
+        this.factoryCount = factoryCount;
+        this.factionNames = DiscreteEventSimulation.checkParticipants(factoryCount, factionNames);
+        this.simulationDays = simulationDays;
+    }
+
+    /**
+     * Runs the given number of simulations.
+     *
+     * @param runs The number of simulations.
+     * @return The aggregated outcome.
+     */
+    public MonteCarloReport run(long runs) {
+        MonteCarloReport.Tally tally = LongStream.range(0, runs)
+                .parallel()
+                .collect(() -> new MonteCarloReport.Tally(factionNames.size()),
+                        (acc, run) -> acc.add(simulate(run)),
+                        MonteCarloReport.Tally::merge);
+        return new MonteCarloReport(factionNames, tally);
+    }
+
+    /**
+     * Runs a single simulation of the batch. Runs do not log per-day messages.
+     *
+     * @param run The index of the run.
+     * @return The result of that run; the same for the same batch seed and index.
+     */
+    public SimulationResult simulate(long run) {
+        DiscreteEventSimulation simulation = new DiscreteEventSimulation(seedOf(run), factoryCount, factionNames,
+                simulationDays);
+        simulation.setDailyLogging(false);
+        return simulation.run();
+    }
+
+    private long seedOf(long run) {
+        long z = seed + (run + 1) * GOLDEN_GAMMA;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+}
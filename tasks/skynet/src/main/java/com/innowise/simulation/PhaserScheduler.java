@@ -0,0 +1,157 @@
+package com.innowise.simulation;
+
+import com.innowise.service.PhaseSynchronizer;
+import com.innowise.service.SimulationEventListener;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Phaser;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Day/night scheduler for any number of participants, built on a tree of {@link Phaser}s.
+ * Participants are spread over leaf phasers of at most {@code partiesPerLeaf} parties each,
+ * and only the leaves register with the root, so arrivals contend on a small leaf
+ * instead of a single shared barrier.
+ * <p>
+ * Participants register dynamically with {@link #register()} and leave with
+ * {@link PhaseSynchronizer#leave()}. A participant registered while the simulation is running joins
+ * the current phase. The scheduler terminates once every participant has left.
+ * Registration uses a {@link ReentrantLock} rather than a monitor, so it never pins a virtual thread.
+ */
+public class PhaserScheduler {
+
+    public static final int DEFAULT_PARTIES_PER_LEAF = 64;
+
+    private final Phaser root = new Phaser() {
+        @Override
+        protected boolean onAdvance(int phase, int registeredParties) {
+            if (registeredParties > 0) {
+                long now = System.nanoTime();
+                eventListener.onPhaseCompleted(phase, now - lastAdvanceNanos);
+                lastAdvanceNanos = now;
+            }
+            return registeredParties == 0;
+        }
+    };
+    private volatile SimulationEventListener eventListener = SimulationEventListener.NONE;
+    private long lastAdvanceNanos = System.nanoTime();
+    private final List<Phaser> leaves = new ArrayList<>();
+    private final ReentrantLock lock = new ReentrantLock();
+    private final int partiesPerLeaf;
+
+    /**
+     * Constructs a scheduler with {@link #DEFAULT_PARTIES_PER_LEAF} parties per leaf.
+     */
+    public PhaserScheduler() {
+        this(DEFAULT_PARTIES_PER_LEAF);
+    }
+
+    /**
+     * Constructs a scheduler.
+     *
+     * @param partiesPerLeaf The maximum number of participants per leaf phaser.
+     */
+    public PhaserScheduler(int partiesPerLeaf) {
+        if (partiesPerLeaf <= 0) {
+            throw new IllegalArgumentException("Parties per leaf must be positive: " + partiesPerLeaf);
+        }
+        this.partiesPerLeaf = partiesPerLeaf;
+    }
+
+    /**
+     * Registers a new participant on a leaf with free capacity, creating a new leaf if all are full.
+     *
+     * @return The synchronizer the participant must use for all of its phases.
+     */
+    public PhaseSynchronizer register() {
+        lock.lock();
+        try {
+            Phaser leaf = null;
+            for (int i = leaves.size() - 1; i >= 0 && leaf == null; i--) {
+                if (leaves.get(i).getRegisteredParties() < partiesPerLeaf) {
+                    leaf = leaves.get(i);
+                }
+            }
+            if (leaf == null) {
+                leaf = new Phaser(root);
+                leaves.add(leaf);
+            }
+            leaf.register();
+            return new Party(leaf);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Sets the listener notified whenever a phase completes. It is called by the last participant
+     * to arrive, before any participant proceeds to the next phase.
+     *
+     * @param eventListener The listener, or {@link SimulationEventListener#NONE}.
+     */
+    public void setEventListener(SimulationEventListener eventListener) {
+        this.eventListener = eventListener;
+    }
+
+    /**
+     * @return The number of completed phases; each simulation day consists of two phases.
+     */
+    public int getPhase() {
+        return root.getPhase();
+    }
+
+    /**
+     * @return The number of currently registered participants.
+     */
+    public int getRegisteredParties() {
+        lock.lock();
+        try {
+            int parties = 0;
+            for (Phaser leaf : leaves) {
+                parties += leaf.getRegisteredParties();
+            }
+            return parties;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * @return The number of leaf phasers created so far.
+     */
+    public int getLeafCount() {
+        lock.lock();
+        try {
+            return leaves.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * @return Whether all participants have left.
+     */
+    public boolean isTerminated() {
+        return root.isTerminated();
+    }
+
+    private static final class Party implements PhaseSynchronizer {
+        private final Phaser leaf;
+
+        Party(Phaser leaf) {
+            this.leaf = leaf;
+        }
+
+        @Override
+        public void awaitAdvance() throws InterruptedException {
+            leaf.awaitAdvanceInterruptibly(leaf.arrive());
+        }
+
+        @Override
+        public void leave() {
+            leaf.arriveAndDeregister();
+        }
+    }
+
+}
@@ -2,21 +2,26 @@ package com.innowise.simulation;
 
 import com.innowise.service.Faction;
 import com.innowise.service.Factory;
+import com.innowise.service.SimulationEventListener;
+import com.innowise.service.StealTopology;
+import com.innowise.service.SupplyNetwork;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
-import java.util.concurrent.CyclicBarrier;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
 
 /**
  * The RobotWarsSimulator class for running the robot wars simulation.
- * It creates the threads for the factory and factions,
+ * It creates the threads for the factories and factions,
  * starts them, and reports the final results.
  */
 public class RobotWarSimulator {
 
     private static final Logger LOGGER = LogManager.getLogger(RobotWarSimulator.class.getName());
     private static final int SIMULATION_DAYS = 100;
-    private static final int PARTICIPANTS = 3;
+    private static final List<String> FACTIONS = List.of("World", "Wednesday");
 
     private RobotWarSimulator() {}
 
@@ -28,51 +33,128 @@ public class RobotWarSimulator {
             throw new IllegalArgumentException("The simulation must run for exactly 100 days.");
         }
 
-        LOGGER.info("Simulation starting! Duration: " + SIMULATION_DAYS + " days.");
+        LOGGER.info("Simulation starting! Duration: {} days.", SIMULATION_DAYS);
 
-        CyclicBarrier barrier = new CyclicBarrier(PARTICIPANTS);
-
-        Factory factory = new Factory(barrier, SIMULATION_DAYS);
-        Faction world = new Faction("World", factory, barrier, SIMULATION_DAYS);
-        Faction wednesday = new Faction("Wednesday", factory, barrier, SIMULATION_DAYS);
-
-        Thread factoryThread = new Thread(factory);
-        Thread worldThread = new Thread(world);
-        Thread wednesdayThread = new Thread(wednesday);
-
-        factoryThread.start();
-        worldThread.start();
-        wednesdayThread.start();
-
-        try {
-            factoryThread.join();
-            worldThread.join();
-            wednesdayThread.join();
-        } catch (InterruptedException e) {
-            Thread.currentThread().interrupt();
-            LOGGER.error("Main simulation thread was interrupted.");
-        }
+        List<Faction> factions = runSimulation(1, FACTIONS, SIMULATION_DAYS);
 
         LOGGER.info("\n=============================================");
         LOGGER.info("Simulation finished! Final Results:");
         LOGGER.info("=============================================");
 
-        world.printFinalStats();
-        wednesday.printFinalStats();
-
-        int worldRobots = world.calculateAssembledRobots();
-        int wednesdayRobots = wednesday.calculateAssembledRobots();
+        factions.forEach(Faction::printFinalStats);
 
         LOGGER.info("\n--- FINAL VERDICT ---");
-        if (worldRobots > wednesdayRobots) {
+        List<Faction> ranking = new ArrayList<>(factions);
+        ranking.sort(Comparator.comparingInt(Faction::calculateAssembledRobots).reversed());
+        int winnerRobots = ranking.get(0).calculateAssembledRobots();
+        int runnerUpRobots = ranking.get(1).calculateAssembledRobots();
+        if (winnerRobots > runnerUpRobots) {
             LOGGER.info("Faction '{}' wins with an army of {} robots versus {}!\n",
-                    world.getName(), worldRobots, wednesdayRobots);
-        } else if (wednesdayRobots > worldRobots) {
-            LOGGER.info("Faction '{}' wins with an army of {} robots versus {}!\n",
-                    wednesday.getName(), wednesdayRobots, worldRobots);
+                    ranking.get(0).getName(), winnerRobots, runnerUpRobots);
         } else {
-            LOGGER.info("It's a draw! Both factions assembled {} robots.\n", worldRobots);
+            LOGGER.info("It's a draw! Both factions assembled {} robots.\n", winnerRobots);
+        }
+    }
+
+    /**
+     * Runs a simulation on platform threads.
+     *
+     * @see #runSimulation(int, List, int, ExecutionMode)
+     */
+    public static List<Faction> runSimulation(int factoryCount, List<String> factionNames, int simulationDays) {
+        return runSimulation(factoryCount, factionNames, simulationDays, ExecutionMode.PLATFORM);
+    }
+
+    /**
+     * Runs a simulation with any number of factories and factions, each in its own thread,
+     * synchronized day and night by a {@link PhaserScheduler}. Faction {@code i} takes parts
+     * from factory {@code i % factoryCount}.
+     *
+     * @param factoryCount   The number of factories.
+     * @param factionNames   The names of the factions.
+     * @param simulationDays The number of days to simulate.
+     * @param mode           The kind of threads to run the participants on.
+     * @return The factions with their collected parts, in the order of {@code factionNames}.
+     * @throws IllegalArgumentException if there are no factories or no factions.
+     */
+    public static List<Faction> runSimulation(int factoryCount, List<String> factionNames, int simulationDays,
+                                              ExecutionMode mode) {
+        return runSimulation(factoryCount, factionNames, simulationDays, mode, SimulationEventListener.NONE);
+    }
+
+    /**
+     * Runs a simulation, reporting the events of all participants and phases to the given listener.
+     *
+     * @param factoryCount   The number of factories.
+     * @param factionNames   The names of the factions.
+     * @param simulationDays The number of days to simulate.
+     * @param mode           The kind of threads to run the participants on.
+     * @param eventListener  The listener of production, collection and phase events.
+     * @return The factions with their collected parts, in the order of {@code factionNames}.
+     * @throws IllegalArgumentException if there are no factories or no factions.
+     * @see #runSimulation(int, List, int, ExecutionMode)
+     */
+    public static List<Faction> runSimulation(int factoryCount, List<String> factionNames, int simulationDays,
+                                              ExecutionMode mode, SimulationEventListener eventListener) {
+        return runSimulation(factoryCount, factionNames, simulationDays, mode, StealTopology.NONE, eventListener);
+    }
+
+    /**
+     * Runs a simulation on a {@link SupplyNetwork}: faction {@code i} is based at factory {@code i % factoryCount}
+     * and steals from the factories the topology allows once its home factory runs dry.
+     *
+     * @param factoryCount   The number of factories.
+     * @param factionNames   The names of the factions.
+     * @param simulationDays The number of days to simulate.
+     * @param mode           The kind of threads to run the participants on.
+     * @param topology       Which factories a faction may steal from.
+     * @param eventListener  The listener of production, collection and phase events.
+     * @return The factions with their collected parts, in the order of {@code factionNames}.
+     * @throws IllegalArgumentException if there are no factories or no factions.
+     * @see #runSimulation(int, List, int, ExecutionMode)
+     */
+    public static List<Faction> runSimulation(int factoryCount, List<String> factionNames, int simulationDays,
+                                              ExecutionMode mode, StealTopology topology,
+                                              SimulationEventListener eventListener) {
+        if (factoryCount <= 0 || factionNames.isEmpty()) {
+            throw new IllegalArgumentException("The simulation needs at least one factory and one faction.");
+        }
+
+        PhaserScheduler scheduler = new PhaserScheduler();
+        scheduler.setEventListener(eventListener);
+        List<Runnable> participants = new ArrayList<>();
+        List<Factory> factories = new ArrayList<>(factoryCount);
+        for (int i = 0; i < factoryCount; i++) {
+            Factory factory = new Factory(scheduler.register(), simulationDays);
+            factory.setEventListener(eventListener);
+            factories.add(factory);
+            participants.add(factory);
+        }
+        SupplyNetwork network = new SupplyNetwork(factories, topology);
+        List<Faction> factions = new ArrayList<>(factionNames.size());
+        for (int i = 0; i < factionNames.size(); i++) {
+            Faction faction = new Faction(factionNames.get(i), network.getSource(i % factoryCount),
+                    scheduler.register(), simulationDays);
+            faction.setEventListener(eventListener);
+            factions.add(faction);
+            participants.add(faction);
+        }
+
+        Thread.Builder builder = mode.threadBuilder();
+        List<Thread> threads = new ArrayList<>(participants.size());
+        for (Runnable participant : participants) {
+            threads.add(builder.start(participant));
+        }
+
+        try {
+            for (Thread thread : threads) {
+                thread.join();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            LOGGER.error("Main simulation thread was interrupted.");
         }
+        return factions;
     }
 
 }
@@ -0,0 +1,91 @@
+package com.innowise.simulation;
+
+import com.innowise.model.RobotPart;
+import com.innowise.service.Faction;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Final state of a simulation: the parts collected and robots assembled by every faction.
+ */
+public final class SimulationResult {
+
+    private final Map<String, Map<RobotPart, Integer>> parts;
+    private final Map<String, Integer> robots;
+
+    SimulationResult(List<Faction> factions) {
+        Map<String, Map<RobotPart, Integer>> parts = new LinkedHashMap<>();
+        Map<String, Integer> robots = new LinkedHashMap<>();
+        for (Faction faction : factions) {
+            parts.put(faction.getName(), Collections.unmodifiableMap(new EnumMap<>(faction.getCollectedParts())));
+            robots.put(faction.getName(), faction.calculateAssembledRobots());
+        }
+        this.parts = Collections.unmodifiableMap(parts);
+        this.robots = Collections.unmodifiableMap(robots);
+    }
+
+    /**
+     * @return The number of robots assembled by each faction, in faction order.
+     */
+    public Map<String, Integer> getRobots() {
+        return robots;
+    }
+
+    /**
+     * @param faction The name of the faction.
+     * @return The parts collected by the faction.
+     */
+    public Map<RobotPart, Integer> getParts(String faction) {
+        return parts.get(faction);
+    }
+
+    /**
+     * @return The name of the faction with the most robots, or {@code null} if several factions share the lead.
+     */
+    public String getWinner() {
+        String winner = null;
+        int best = -1;
+        for (Map.Entry<String, Integer> entry : robots.entrySet()) {
+            if (entry.getValue() > best) {
+                winner = entry.getKey();
+                best = entry.getValue();
+            } else if (entry.getValue() == best) {
+                winner = null;
+            }
+        }
+        return winner;
+    }
+
+    /**
+     * @return Whether several factions share the highest number of robots.
+     */
+    public boolean isDraw() {
+        return getWinner() == null;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (o == null || getClass() != o.getClass()) return false;
+        SimulationResult that = (SimulationResult) o;
+        return Objects.equals(parts, that.parts);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(parts);
+    }
+
+    @Override
+    public String toString() {
+        return "SimulationResult{" +
+                "robots=" + robots +
+                ", parts=" + parts +
+                '}';
+    }
+
+}
@@ -0,0 +1,135 @@
+package com.innowise.journal;
+
+import com.innowise.service.Faction;
+import com.innowise.simulation.DiscreteEventSimulation;
+import com.innowise.simulation.ExecutionMode;
+import com.innowise.simulation.RobotWarSimulator;
+import com.innowise.simulation.SimulationResult;
+import org.apache.logging.log4j.Level;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.core.config.Configurator;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Unit tests for the EventJournal and JournalReplay classes.
+ */
+class JournalReplayTest {
+
+    private static final List<String> FACTIONS = List.of("World", "Wednesday", "Sunday");
+    private static final int DAYS = 30;
+
+    @TempDir
+    Path directory;
+    private Level previousLevel;
+
+    @BeforeEach
+    void setUp() {
+        previousLevel = LogManager.getRootLogger().getLevel();
+        Configurator.setRootLevel(Level.WARN);
+    }
+
+    @AfterEach
+    void tearDown() {
+        Configurator.setRootLevel(previousLevel);
+    }
+
+    @Test
+    @DisplayName("Should rebuild the final state of a threaded simulation")
+    void replayThreadedSimulation() throws IOException {
+        Path path = directory.resolve("threaded.journal");
+        List<Faction> factions;
+        try (EventJournal journal = new EventJournal(path)) {
+            factions = RobotWarSimulator.runSimulation(2, FACTIONS, DAYS, ExecutionMode.PLATFORM, journal);
+        }
+
+        JournalReplay replay = JournalReplay.read(path);
+
+        assertEquals(DAYS, replay.getLastDay());
+        assertEquals(2 * DAYS, replay.getPhaseCount());
+        assertTrue(replay.getPhaseDurationNanos(0) >= 0);
+        for (Faction faction : factions) {
+            assertEquals(faction.getCollectedParts(), replay.getCollectedParts(faction.getName()));
+            assertEquals(faction.calculateAssembledRobots(), replay.calculateAssembledRobots(faction.getName(), DAYS));
+        }
+    }
+
+    @Test
+    @DisplayName("Should rebuild the state of every faction at any day")
+    void replayIntermediateDays() throws IOException {
+        Path path = directory.resolve("events.journal");
+        try (EventJournal journal = new EventJournal(path, 32)) {
+            new DiscreteEventSimulation(7, 2, FACTIONS, DAYS).run(journal);
+        }
+
+        JournalReplay replay = JournalReplay.read(path);
+
+        assertEquals(Set.copyOf(FACTIONS), Set.copyOf(replay.getFactions()));
+        assertEquals(0, replay.getPhaseCount());
+        for (int day : new int[]{1, 10, DAYS}) {
+            // The events of the first days do not depend on how many days follow them.
+            SimulationResult shorter = new DiscreteEventSimulation(7, 2, FACTIONS, day).run();
+            for (String faction : FACTIONS) {
+                assertEquals(shorter.getParts(faction), replay.getCollectedParts(faction, day));
+                assertEquals(shorter.getRobots().get(faction), replay.calculateAssembledRobots(faction, day));
+            }
+        }
+        assertEquals(replay.getCollectedParts("World", DAYS), replay.getCollectedParts("World", DAYS + 5));
+        assertEquals(0, replay.calculateAssembledRobots("World", 0));
+    }
+
+    @Test
+    @DisplayName("Should reject unknown factions and negative days")
+    void rejectInvalidQueries() throws IOException {
+        Path path = directory.resolve("events.journal");
+        try (EventJournal journal = new EventJournal(path)) {
+            new DiscreteEventSimulation(1, 1, FACTIONS, 3).run(journal);
+        }
+        JournalReplay replay = JournalReplay.read(path);
+
+        assertThrows(IllegalArgumentException.class, () -> replay.getCollectedParts("Monday", 1));
+        assertThrows(IllegalArgumentException.class, () -> replay.getCollectedParts("World", -1));
+        assertThrows(IndexOutOfBoundsException.class, () -> replay.getPhaseDurationNanos(0));
+    }
+
+    @Test
+    @DisplayName("Should reject truncated and foreign files")
+    void rejectInvalidFiles() throws IOException {
+        Path path = directory.resolve("events.journal");
+        try (EventJournal journal = new EventJournal(path)) {
+            new DiscreteEventSimulation(1, 1, FACTIONS, 3).run(journal);
+        }
+        byte[] bytes = Files.readAllBytes(path);
+        Path truncated = Files.write(directory.resolve("truncated.journal"), Arrays.copyOf(bytes, bytes.length - 1));
+        Path foreign = Files.writeString(directory.resolve("foreign.journal"), "not a journal");
+
+        assertThrows(IOException.class, () -> JournalReplay.read(truncated));
+        assertThrows(IOException.class, () -> JournalReplay.read(foreign));
+    }
+
+    @Test
+    @DisplayName("Should reject events after the journal is closed")
+    void rejectEventsAfterClose() throws IOException {
+        EventJournal journal = new EventJournal(directory.resolve("closed.journal"));
+        journal.onPhaseCompleted(0, 1);
+        journal.close();
+
+        assertEquals(1, journal.getRecordCount());
+        assertThrows(IllegalStateException.class, () -> journal.onPhaseCompleted(1, 1));
+    }
+
+}
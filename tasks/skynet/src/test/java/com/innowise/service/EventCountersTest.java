@@ -0,0 +1,62 @@
+package com.innowise.service;
+
+import com.innowise.model.RobotPart;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+import java.util.concurrent.CyclicBarrier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Unit tests for the EventCounters class.
+ */
+class EventCountersTest {
+
+    private Factory factory;
+    private Faction faction;
+    private EventCounters counters;
+
+    @BeforeEach
+    void setUp() {
+        CyclicBarrier cyclicBarrier = new CyclicBarrier(1);
+        factory = new Factory(cyclicBarrier, 1);
+        faction = new Faction("TestFaction", factory, cyclicBarrier, 1);
+        counters = new EventCounters();
+        factory.setEventListener(counters);
+        faction.setEventListener(counters);
+    }
+
+    @Test
+    @DisplayName("Should count produced and collected parts per type")
+    void countProducedAndCollectedParts() {
+        factory.produceParts(1);
+        faction.collectParts();
+
+        Map<RobotPart, Long> produced = counters.getProducedParts();
+        Map<RobotPart, Long> collected = counters.getCollectedParts();
+        long producedTotal = produced.values().stream().mapToLong(Long::longValue).sum();
+        long collectedTotal = collected.values().stream().mapToLong(Long::longValue).sum();
+
+        assertEquals(1, counters.getProductionDays());
+        assertEquals(1, counters.getCollections());
+        assertEquals(producedTotal - factory.getInventory().size(), collectedTotal);
+        for (RobotPart part : RobotPart.getRobotParts()) {
+            assertEquals((long) faction.getCollectedParts().get(part), collected.get(part));
+        }
+    }
+
+    @Test
+    @DisplayName("Should count collections from an empty storage")
+    void countEmptyCollections() {
+        faction.collectParts();
+        faction.collectParts();
+
+        assertEquals(2, counters.getCollections());
+        assertEquals(2, counters.getEmptyCollections());
+        assertEquals(0L, counters.getCollectedParts().get(RobotPart.HEAD));
+    }
+
+}
@@ -5,7 +5,6 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
-import java.util.Map;
 import java.util.concurrent.CyclicBarrier;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
@@ -85,10 +84,25 @@ class FactionTest {
         assertEquals(0, faction.calculateAssembledRobots());
     }
 
-    void addPartsForFaction(Faction faction, RobotPart part, int count) {
-        Map<RobotPart, Integer> collectedParts = faction.getCollectedParts();
+    @Test
+    @DisplayName("Collecting by demand should waste no parts when the factory has plenty")
+    void collectPartsByDemandAssemblesEveryPart() {
+        CyclicBarrier cyclicBarrier = new CyclicBarrier(1);
+        Factory factory = new Factory(cyclicBarrier, 1);
+        for (RobotPart part : RobotPart.getRobotParts()) {
+            factory.getInventory().add(part, 100);
+        }
+        Faction collector = new Faction("Collector", factory, cyclicBarrier, 1);
 
-        collectedParts.put(part, collectedParts.getOrDefault(part, 0) + count);
+        for (int night = 0; night < 12; night++) {
+            collector.collectParts();
+        }
+
+        assertEquals(10, collector.calculateAssembledRobots());
+    }
+
+    void addPartsForFaction(Faction faction, RobotPart part, int count) {
+        faction.getPartCounter().add(part, count);
     }
 
 }
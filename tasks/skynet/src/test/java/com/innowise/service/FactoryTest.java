@@ -6,7 +6,8 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
 import java.util.List;
-import java.util.concurrent.BlockingDeque;
+import java.util.Map;
+import java.util.SplittableRandom;
 import java.util.concurrent.CyclicBarrier;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
@@ -58,14 +59,46 @@ class FactoryTest {
         assertEquals(0, getStorageSize(factory));
     }
 
+    @Test
+    @DisplayName("Should hand out only the demanded parts")
+    void takePartsByDemandReturnsOnlyDemandedParts() {
+        factory.getInventory().add(RobotPart.HEAD, 3);
+        factory.getInventory().add(RobotPart.HAND, 3);
+
+        List<RobotPart> takenParts = factory.takeParts(PartDemand.of(Map.of(RobotPart.HEAD, 1, RobotPart.FEET, 2)));
+
+        assertEquals(List.of(RobotPart.HEAD), takenParts);
+        assertEquals(5, getStorageSize(factory));
+    }
+
+    @Test
+    @DisplayName("Fair share should limit every faction to its share of the night's stock")
+    void takePartsByDemandFairShareSplitsStock() {
+        Factory seeded = new Factory(() -> {
+        }, 1, new SplittableRandom(3));
+        seeded.setAllocationPolicy(AllocationPolicy.fairShare(2));
+        seeded.produceParts(1);
+        Map<RobotPart, Integer> stock = seeded.getInventory().snapshot();
+        PartDemand everything = PartDemand.of(stock);
+
+        List<RobotPart> first = seeded.takeParts(everything);
+        List<RobotPart> second = seeded.takeParts(everything);
+
+        for (RobotPart part : RobotPart.getRobotParts()) {
+            int share = Math.ceilDiv(stock.get(part), 2);
+            assertEquals(share, first.stream().filter(taken -> taken == part).count());
+            assertEquals(stock.get(part) - share, second.stream().filter(taken -> taken == part).count());
+        }
+    }
+
     void addPartForFactory(Factory factory, RobotPart part) {
-        BlockingDeque<RobotPart> storage = factory.getStorage();
+        PartInventory inventory = factory.getInventory();
         
-        storage.add(part);
+        inventory.add(part);
     }
     
     int getStorageSize(Factory factory) {
-       return factory.getStorage().size();
+       return factory.getInventory().size();
     }
     
 }
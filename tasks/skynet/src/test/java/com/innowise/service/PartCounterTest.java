@@ -0,0 +1,69 @@
+package com.innowise.service;
+
+import com.innowise.model.RobotPart;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Unit tests for the PartCounter class.
+ */
+class PartCounterTest {
+
+    private final PartCounter counter = new PartCounter();
+
+    @Test
+    @DisplayName("Should keep the robot count equal to a full recount after every part")
+    void maintainRobotsIncrementally() {
+        SplittableRandom random = new SplittableRandom(42);
+        RobotPart[] parts = RobotPart.getRobotParts();
+        for (int i = 0; i < 10_000; i++) {
+            if (random.nextInt(10) == 0) {
+                counter.add(parts[random.nextInt(parts.length)], random.nextInt(5));
+            } else {
+                counter.add(parts[random.nextInt(parts.length)]);
+            }
+            assertEquals(Faction.countAssembledRobots(counter.snapshot()), counter.getRobots());
+        }
+    }
+
+    @Test
+    @DisplayName("Should return snapshots unaffected by later parts")
+    void snapshotIsIndependent() {
+        counter.add(RobotPart.HAND, 3);
+        Map<RobotPart, Integer> snapshot = counter.snapshot();
+        counter.add(RobotPart.HAND);
+
+        assertEquals(3, snapshot.get(RobotPart.HAND));
+        assertEquals(0, snapshot.get(RobotPart.HEAD));
+        assertEquals(4, counter.get(RobotPart.HAND));
+        assertThrows(UnsupportedOperationException.class, () -> snapshot.put(RobotPart.HEAD, 1));
+    }
+
+    @Test
+    @DisplayName("Should demand the bottleneck parts of the next robot first")
+    void demandStartsWithBottleneck() {
+        counter.add(RobotPart.HEAD, 3);
+        counter.add(RobotPart.TORSO, 3);
+        counter.add(RobotPart.HAND, 6);
+        counter.add(RobotPart.FEET, 4);
+
+        PartDemand demand = counter.demand(5);
+
+        assertEquals(2, counter.getRobots());
+        assertEquals(PartDemand.of(Map.of(RobotPart.HEAD, 1, RobotPart.TORSO, 1, RobotPart.HAND, 1,
+                RobotPart.FEET, 2)), demand);
+    }
+
+    @Test
+    @DisplayName("Should reject a negative amount")
+    void rejectNegativeAmount() {
+        assertThrows(IllegalArgumentException.class, () -> counter.add(RobotPart.HEAD, -1));
+    }
+
+}
@@ -0,0 +1,181 @@
+package com.innowise.service;
+
+import com.innowise.model.RobotPart;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Unit tests for the PartInventory class.
+ */
+class PartInventoryTest {
+
+    @Test
+    @DisplayName("Should take only the parts that are present")
+    void takePartsReturnsPresentParts() {
+        PartInventory inventory = new PartInventory();
+        inventory.add(RobotPart.HEAD, 2);
+        inventory.add(RobotPart.FEET);
+
+        List<RobotPart> taken = inventory.takeParts(5);
+
+        assertEquals(3, taken.size());
+        assertEquals(2, taken.stream().filter(part -> part == RobotPart.HEAD).count());
+        assertEquals(0, inventory.size());
+        assertEquals(0, inventory.count(RobotPart.HEAD));
+    }
+
+    @Test
+    @DisplayName("Concurrent takes never hand out a part twice")
+    void takePartsConcurrentlyConservesParts() throws InterruptedException {
+        PartInventory inventory = new PartInventory();
+        for (RobotPart part : RobotPart.getRobotParts()) {
+            inventory.add(part, 10_000);
+        }
+        int threads = 16;
+        CountDownLatch start = new CountDownLatch(1);
+        List<Map<RobotPart, Integer>> results = new ArrayList<>();
+        List<Thread> takers = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            Map<RobotPart, Integer> taken = new EnumMap<>(RobotPart.class);
+            results.add(taken);
+            takers.add(new Thread(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                List<RobotPart> batch;
+                while (!(batch = inventory.takeParts(5)).isEmpty()) {
+                    batch.forEach(part -> taken.merge(part, 1, Integer::sum));
+                }
+            }));
+        }
+        takers.forEach(Thread::start);
+        start.countDown();
+        for (Thread taker : takers) {
+            taker.join();
+        }
+
+        for (RobotPart part : RobotPart.getRobotParts()) {
+            int total = results.stream().mapToInt(taken -> taken.getOrDefault(part, 0)).sum();
+            assertEquals(10_000, total);
+            assertEquals(0, inventory.count(part));
+        }
+        assertTrue(inventory.takeParts(1).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should take only parts of the requested type")
+    void takeOneTypeReturnsAvailableAmount() {
+        PartInventory inventory = new PartInventory();
+        inventory.add(RobotPart.HAND, 3);
+        inventory.add(RobotPart.HEAD);
+
+        assertEquals(2, inventory.take(RobotPart.HAND, 2));
+        assertEquals(1, inventory.take(RobotPart.HAND, 5));
+        assertEquals(0, inventory.take(RobotPart.TORSO, 5));
+        assertEquals(1, inventory.size());
+        assertEquals(1, inventory.count(RobotPart.HEAD));
+    }
+
+    @Test
+    @DisplayName("Concurrent takes of one type and of random parts never hand out a part twice")
+    void takeOneTypeConcurrentlyConservesParts() throws InterruptedException {
+        PartInventory inventory = new PartInventory();
+        for (RobotPart part : RobotPart.getRobotParts()) {
+            inventory.add(part, 10_000);
+        }
+        int threads = 16;
+        CountDownLatch start = new CountDownLatch(1);
+        List<Map<RobotPart, Integer>> results = new ArrayList<>();
+        int[] leftWhenStopped = new int[threads];
+        List<Thread> takers = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            Map<RobotPart, Integer> taken = new EnumMap<>(RobotPart.class);
+            results.add(taken);
+            int taker = t;
+            boolean byType = t % 2 == 0;
+            takers.add(new Thread(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                boolean tookAny = true;
+                while (tookAny) {
+                    tookAny = false;
+                    if (byType) {
+                        for (RobotPart part : RobotPart.getRobotParts()) {
+                            int amount = inventory.take(part, 2);
+                            taken.merge(part, amount, Integer::sum);
+                            tookAny |= amount > 0;
+                        }
+                    } else {
+                        List<RobotPart> batch = inventory.takeParts(5);
+                        batch.forEach(part -> taken.merge(part, 1, Integer::sum));
+                        tookAny = !batch.isEmpty();
+                    }
+                }
+                // A taker stops when it gets nothing, which must mean that the inventory is empty.
+                leftWhenStopped[taker] = inventory.size();
+            }));
+        }
+        takers.forEach(Thread::start);
+        start.countDown();
+        for (Thread taker : takers) {
+            taker.join();
+        }
+
+        for (RobotPart part : RobotPart.getRobotParts()) {
+            int total = results.stream().mapToInt(taken -> taken.getOrDefault(part, 0)).sum();
+            assertEquals(10_000, total);
+            assertEquals(0, inventory.count(part));
+        }
+        assertEquals(0, Arrays.stream(leftWhenStopped).sum());
+    }
+
+    @Test
+    @DisplayName("Concurrent takes of one type drain that type completely")
+    void takeOneTypeConcurrentlyDrainsInventory() throws InterruptedException {
+        for (int round = 0; round < 200; round++) {
+            PartInventory inventory = new PartInventory();
+            inventory.add(RobotPart.HEAD, 1);
+            inventory.add(RobotPart.TORSO, 1);
+            int[] heads = new int[2];
+            CountDownLatch start = new CountDownLatch(1);
+            List<Thread> takers = new ArrayList<>();
+            for (int t = 0; t < heads.length; t++) {
+                int taker = t;
+                takers.add(new Thread(() -> {
+                    try {
+                        start.await();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                    heads[taker] = inventory.take(RobotPart.HEAD, 1);
+                }));
+            }
+            takers.forEach(Thread::start);
+            start.countDown();
+            int torsos = inventory.take(RobotPart.TORSO, 1);
+            for (Thread taker : takers) {
+                taker.join();
+            }
+
+            assertEquals(1, torsos);
+            assertEquals(1, heads[0] + heads[1]);
+            assertEquals(0, inventory.size());
+        }
+    }
+
+}
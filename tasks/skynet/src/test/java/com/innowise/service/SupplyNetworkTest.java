@@ -0,0 +1,105 @@
+package com.innowise.service;
+
+import com.innowise.model.RobotPart;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CyclicBarrier;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Unit tests for the SupplyNetwork class.
+ */
+class SupplyNetworkTest {
+
+    private List<Factory> factories;
+
+    @BeforeEach
+    void setUp() {
+        CyclicBarrier cyclicBarrier = new CyclicBarrier(1);
+        factories = List.of(new Factory(cyclicBarrier, 1), new Factory(cyclicBarrier, 1),
+                new Factory(cyclicBarrier, 1), new Factory(cyclicBarrier, 1));
+    }
+
+    @Test
+    @DisplayName("Should take parts only from the home factory without stealing")
+    void takeFromHomeOnly() {
+        SupplyNetwork network = new SupplyNetwork(factories, StealTopology.NONE);
+        factories.get(1).getInventory().add(RobotPart.HEAD, 5);
+
+        assertSame(factories.get(0), network.getSource(0));
+        assertEquals(0, network.getSource(0).takeParts(5).size());
+        assertEquals(0, network.getStolenParts());
+    }
+
+    @Test
+    @DisplayName("Should take from the home factory first and steal the rest from the neighbours")
+    void stealFromNeighboursOnRing() {
+        SupplyNetwork network = new SupplyNetwork(factories, StealTopology.RING);
+        factories.get(0).getInventory().add(RobotPart.HEAD, 2);
+        factories.get(1).getInventory().add(RobotPart.TORSO, 1);
+        factories.get(2).getInventory().add(RobotPart.HAND, 10);
+        factories.get(3).getInventory().add(RobotPart.FEET, 1);
+
+        List<RobotPart> taken = network.getSource(0).takeParts(5);
+
+        assertEquals(List.of(RobotPart.HEAD, RobotPart.HEAD, RobotPart.TORSO, RobotPart.FEET), taken);
+        assertEquals(2, network.getStolenParts());
+        assertEquals(10, factories.get(2).getInventory().size());
+    }
+
+    @Test
+    @DisplayName("Should steal from every other factory until the load is full")
+    void stealFromAllFactories() {
+        SupplyNetwork network = new SupplyNetwork(factories, StealTopology.ALL);
+        factories.get(1).getInventory().add(RobotPart.HEAD, 1);
+        factories.get(2).getInventory().add(RobotPart.TORSO, 10);
+
+        List<RobotPart> taken = network.getSource(0).takeParts(5);
+
+        assertEquals(List.of(RobotPart.HEAD, RobotPart.TORSO, RobotPart.TORSO, RobotPart.TORSO, RobotPart.TORSO),
+                taken);
+        assertEquals(5, network.getStolenParts());
+        assertEquals(6, factories.get(2).getInventory().size());
+    }
+
+    @Test
+    @DisplayName("Should steal only the demanded parts the home factory lacks")
+    void stealDemandedParts() {
+        SupplyNetwork network = new SupplyNetwork(factories, StealTopology.ALL);
+        factories.get(0).getInventory().add(RobotPart.HEAD, 1);
+        factories.get(1).getInventory().add(RobotPart.HAND, 5);
+        factories.get(2).getInventory().add(RobotPart.FEET, 5);
+
+        List<RobotPart> taken = network.getSource(0)
+                .takeParts(PartDemand.of(Map.of(RobotPart.HEAD, 2, RobotPart.FEET, 2)));
+
+        assertEquals(List.of(RobotPart.HEAD, RobotPart.FEET, RobotPart.FEET), taken);
+        assertEquals(2, network.getStolenParts());
+        assertEquals(5, factories.get(1).getInventory().size());
+    }
+
+    @Test
+    @DisplayName("Should list the factories to steal from in order")
+    void listVictims() {
+        assertArrayEquals(new int[0], StealTopology.NONE.victims(2, 4));
+        assertArrayEquals(new int[]{3, 1}, StealTopology.RING.victims(2, 4));
+        assertArrayEquals(new int[]{1}, StealTopology.RING.victims(0, 2));
+        assertArrayEquals(new int[0], StealTopology.RING.victims(0, 1));
+        assertArrayEquals(new int[]{3, 0, 1}, StealTopology.ALL.victims(2, 4));
+    }
+
+    @Test
+    @DisplayName("Should reject a network without factories")
+    void rejectEmptyNetwork() {
+        assertThrows(IllegalArgumentException.class, () -> new SupplyNetwork(List.of(), StealTopology.ALL));
+    }
+
+}
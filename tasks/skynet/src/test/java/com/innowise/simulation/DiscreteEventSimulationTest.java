@@ -0,0 +1,99 @@
+package com.innowise.simulation;
+
+import com.innowise.model.RobotPart;
+import org.apache.logging.log4j.Level;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.core.config.Configurator;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Unit tests for the DiscreteEventSimulation class.
+ */
+class DiscreteEventSimulationTest {
+
+    private static final List<String> FACTIONS = List.of("World", "Wednesday");
+
+    private Level originalLevel;
+
+    @BeforeEach
+    void setUp() {
+        originalLevel = LogManager.getRootLogger().getLevel();
+        Configurator.setRootLevel(Level.WARN);
+    }
+
+    @AfterEach
+    void tearDown() {
+        Configurator.setRootLevel(originalLevel);
+    }
+
+    @Test
+    @DisplayName("The same seed should always produce the same result")
+    void runIsReproducible() {
+        SimulationResult first = new DiscreteEventSimulation(42, 1, FACTIONS, 100).run();
+        SimulationResult second = new DiscreteEventSimulation(42, 1, FACTIONS, 100).run();
+
+        assertEquals(first, second);
+        assertEquals(first.getRobots(), second.getRobots());
+    }
+
+    @Test
+    @DisplayName("Different seeds should produce different results")
+    void runDependsOnSeed() {
+        List<String> names = IntStream.range(0, 10).mapToObj(i -> "Faction-" + i).toList();
+
+        assertNotEquals(new DiscreteEventSimulation(1, 2, names, 100).run(),
+                new DiscreteEventSimulation(2, 2, names, 100).run());
+    }
+
+    @Test
+    @DisplayName("No faction should carry more than its daily limit")
+    void runRespectsDailyLimit() {
+        List<String> names = IntStream.range(0, 50).mapToObj(i -> "Faction-" + i).toList();
+
+        SimulationResult result = new DiscreteEventSimulation(7, 5, names, 30).run();
+
+        for (String name : names) {
+            int collected = result.getParts(name).values().stream().mapToInt(Integer::intValue).sum();
+            assertTrue(collected <= 30 * 5, name + " collected " + collected + " parts");
+        }
+    }
+
+    @Test
+    @DisplayName("Robots should be counted with the faction rules")
+    void runCountsRobotsFromParts() {
+        SimulationResult result = new DiscreteEventSimulation(3, 1, FACTIONS, 100).run();
+
+        for (String name : FACTIONS) {
+            Map<RobotPart, Integer> parts = result.getParts(name);
+            int robots = Math.min(Math.min(parts.get(RobotPart.HEAD), parts.get(RobotPart.TORSO)),
+                    Math.min(parts.get(RobotPart.HAND) / 2, parts.get(RobotPart.FEET) / 2));
+            assertEquals(robots, result.getRobots().get(name));
+        }
+    }
+
+    @Test
+    @DisplayName("Should reject a simulation without factions")
+    void constructorRejectsEmptySimulation() {
+        assertThrows(IllegalArgumentException.class, () -> new DiscreteEventSimulation(1, 1, List.of(), 1));
+    }
+
+    @Test
+    @DisplayName("Should reject factions with the same name")
+    void constructorRejectsDuplicateFactions() {
+        assertThrows(IllegalArgumentException.class,
+                () -> new DiscreteEventSimulation(1, 1, List.of("World", "Wednesday", "World"), 1));
+    }
+
+}
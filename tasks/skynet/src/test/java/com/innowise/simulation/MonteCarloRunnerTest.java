@@ -0,0 +1,99 @@
+package com.innowise.simulation;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.core.LoggerContext;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Unit tests for the MonteCarloRunner class.
+ */
+class MonteCarloRunnerTest {
+
+    private static final List<String> FACTIONS = List.of("World", "Wednesday");
+
+    @Test
+    @DisplayName("Win and draw probabilities should add up to one")
+    void runAggregatesOutcomes() {
+        MonteCarloReport report = new MonteCarloRunner(42, 1, FACTIONS, 100).run(2_000);
+
+        double total = report.getWinProbability("World").getEstimate()
+                + report.getWinProbability("Wednesday").getEstimate()
+                + report.getDrawProbability().getEstimate();
+        assertEquals(2_000, report.getRuns());
+        assertEquals(1.0, total, 1e-9);
+        for (String faction : FACTIONS) {
+            ConfidenceInterval win = report.getWinProbability(faction);
+            assertTrue(win.getLower() <= win.getEstimate() && win.getEstimate() <= win.getUpper());
+            assertEquals(2_000, Arrays.stream(report.getRobotDistribution(faction)).sum());
+        }
+    }
+
+    @Test
+    @DisplayName("Symmetric factions should have overlapping win probabilities")
+    void runTreatsFactionsFairly() {
+        MonteCarloReport report = new MonteCarloRunner(7, 1, FACTIONS, 100).run(5_000);
+
+        ConfidenceInterval world = report.getWinProbability("World");
+        ConfidenceInterval wednesday = report.getWinProbability("Wednesday");
+        assertTrue(world.getLower() <= wednesday.getUpper() && wednesday.getLower() <= world.getUpper(),
+                "World " + world + " vs Wednesday " + wednesday);
+    }
+
+    @Test
+    @DisplayName("The same batch seed should produce the same report")
+    void runIsReproducible() {
+        MonteCarloRunner runner = new MonteCarloRunner(3, 1, FACTIONS, 50);
+
+        MonteCarloReport first = runner.run(500);
+        MonteCarloReport second = runner.run(500);
+
+        assertEquals(first.toString(), second.toString());
+        assertEquals(runner.simulate(17), runner.simulate(17));
+    }
+
+    @Test
+    @DisplayName("Should reject an unknown faction")
+    void reportRejectsUnknownFaction() {
+        MonteCarloReport report = new MonteCarloRunner(1, 1, FACTIONS, 10).run(10);
+
+        assertThrows(IllegalArgumentException.class, () -> report.getWinProbability("Skynet"));
+    }
+
+    @Test
+    @DisplayName("Runs should not log per-day messages at the default log level")
+    void runIsQuiet() {
+        PrintStream originalOut = System.out;
+        ByteArrayOutputStream outContent = new ByteArrayOutputStream();
+        System.setOut(new PrintStream(outContent));
+
+        try {
+            new MonteCarloRunner(5, 1, FACTIONS, 10).run(20);
+            LoggerContext context = (LoggerContext) LogManager.getContext(false);
+            context.stop();
+            context.start();
+        } finally {
+            System.setOut(originalOut);
+        }
+
+        assertTrue(LogManager.getRootLogger().isInfoEnabled());
+        assertEquals("", outContent.toString());
+    }
+
+    @Test
+    @DisplayName("Should reject factions with the same name")
+    void constructorRejectsDuplicateFactions() {
+        assertThrows(IllegalArgumentException.class,
+                () -> new MonteCarloRunner(1, 1, List.of("World", "World"), 10));
+    }
+
+}
@@ -0,0 +1,85 @@
+package com.innowise.simulation;
+
+import com.innowise.service.PhaseSynchronizer;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Unit tests for the PhaserScheduler class.
+ */
+class PhaserSchedulerTest {
+
+    @Test
+    @DisplayName("Participants are spread over leaves of limited size")
+    void registerSpreadsOverLeaves() {
+        PhaserScheduler scheduler = new PhaserScheduler(4);
+
+        for (int i = 0; i < 10; i++) {
+            scheduler.register();
+        }
+
+        assertEquals(10, scheduler.getRegisteredParties());
+        assertEquals(3, scheduler.getLeafCount());
+    }
+
+    @Test
+    @DisplayName("No participant starts a phase before all participants have finished the previous one")
+    void awaitAdvanceKeepsParticipantsInStep() throws InterruptedException {
+        int participants = 500;
+        int phases = 20;
+        PhaserScheduler scheduler = new PhaserScheduler(16);
+        AtomicIntegerArray arrivals = new AtomicIntegerArray(phases);
+        List<Boolean> violations = new ArrayList<>();
+
+        List<Thread> threads = new ArrayList<>();
+        for (int i = 0; i < participants; i++) {
+            PhaseSynchronizer synchronizer = scheduler.register();
+            threads.add(new Thread(() -> {
+                try {
+                    for (int phase = 0; phase < phases; phase++) {
+                        if (phase > 0 && arrivals.get(phase - 1) != participants) {
+                            synchronized (violations) {
+                                violations.add(true);
+                            }
+                        }
+                        arrivals.incrementAndGet(phase);
+                        synchronizer.awaitAdvance();
+                    }
+                } catch (Exception e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    synchronizer.leave();
+                }
+            }));
+        }
+        threads.forEach(Thread::start);
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        assertTrue(violations.isEmpty());
+        assertTrue(scheduler.isTerminated());
+    }
+
+    @Test
+    @DisplayName("A participant that leaves no longer holds the others back")
+    void leaveReleasesOtherParticipants() throws Exception {
+        PhaserScheduler scheduler = new PhaserScheduler();
+        PhaseSynchronizer staying = scheduler.register();
+        PhaseSynchronizer leaving = scheduler.register();
+
+        leaving.leave();
+        staying.awaitAdvance();
+
+        assertEquals(1, scheduler.getPhase());
+        assertEquals(1, scheduler.getRegisteredParties());
+    }
+
+}
@@ -0,0 +1,124 @@
+package com.innowise.simulation;
+
+import com.innowise.model.RobotPart;
+import com.innowise.service.EventCounters;
+import com.innowise.service.Faction;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.apache.logging.log4j.Level;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.core.LoggerContext;
+import org.apache.logging.log4j.core.config.Configurator;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Scaling tests for the RobotWarSimulator class on virtual threads.
+ */
+class RobotWarSimulatorScalingTest {
+
+    private Level originalLevel;
+
+    @BeforeEach
+    void setUp() {
+        originalLevel = LogManager.getRootLogger().getLevel();
+        Configurator.setRootLevel(Level.WARN);
+    }
+
+    @AfterEach
+    void tearDown() {
+        Configurator.setRootLevel(originalLevel);
+    }
+
+    /**
+     * Runs 100 000 factions on virtual threads and checks that every faction collects on every day
+     * and that every produced part ends up with exactly one faction. With a thousand factions
+     * per factory, each storage is emptied every night.
+     */
+    @Test
+    void testRunSimulationWithHundredThousandFactions() {
+        List<String> names = IntStream.range(0, 100_000).mapToObj(i -> "Faction-" + i).toList();
+        EventCounters counters = new EventCounters();
+
+        List<Faction> factions = RobotWarSimulator.runSimulation(100, names, 3, ExecutionMode.VIRTUAL, counters);
+
+        assertEquals(names, factions.stream().map(Faction::getName).toList());
+        assertEquals(100L * 3, counters.getProductionDays());
+        assertEquals(100_000L * 3, counters.getCollections());
+        Map<RobotPart, Long> held = new EnumMap<>(RobotPart.class);
+        for (Faction faction : factions) {
+            faction.getCollectedParts().forEach((part, count) -> held.merge(part, (long) count, Long::sum));
+        }
+        for (RobotPart part : RobotPart.getRobotParts()) {
+            assertEquals(counters.getProducedParts().get(part), counters.getCollectedParts().get(part), part.name());
+            assertEquals(counters.getCollectedParts().get(part), held.get(part), part.name());
+        }
+    }
+
+    /**
+     * Records JFR pinning events while a simulation runs on virtual threads with per-day logging
+     * enabled and checks that no virtual thread was pinned to its carrier.
+     * <p>
+     * The event only reports parking inside a monitor. A virtual thread blocked on the monitor of
+     * a synchronized console appender holds its carrier without an event, so the test also checks
+     * that the console is written by the async appender's platform thread only.
+     */
+    @Test
+    void testRunSimulationDoesNotPinCarrierThreads() throws Exception {
+        Configurator.setRootLevel(Level.INFO);
+        List<String> names = IntStream.range(0, 2_000).mapToObj(i -> "Faction-" + i).toList();
+        Path file = Files.createTempFile("skynet-pinning", ".jfr");
+        LongAdder written = new LongAdder();
+        LongAdder writtenOnVirtualThreads = new LongAdder();
+        PrintStream originalOut = System.out;
+        System.setOut(new PrintStream(new OutputStream() {
+            @Override
+            public void write(int b) {
+                write(new byte[] {(byte) b}, 0, 1);
+            }
+
+            @Override
+            public void write(byte[] bytes, int offset, int length) {
+                written.add(length);
+                if (Thread.currentThread().isVirtual()) {
+                    writtenOnVirtualThreads.add(length);
+                }
+            }
+        }));
+        try (Recording recording = new Recording()) {
+            recording.enable("jdk.VirtualThreadPinned").withThreshold(Duration.ZERO);
+            recording.start();
+            RobotWarSimulator.runSimulation(10, names, 5, ExecutionMode.VIRTUAL);
+            recording.stop();
+            recording.dump(file);
+
+            List<RecordedEvent> pinned = RecordingFile.readAllEvents(file);
+            assertTrue(pinned.isEmpty(), "Pinned virtual threads: " + pinned);
+        } finally {
+            LoggerContext context = (LoggerContext) LogManager.getContext(false);
+            context.stop();
+            context.start();
+            System.setOut(originalOut);
+            Files.deleteIfExists(file);
+        }
+        assertTrue(written.sum() > 0, "Per-day messages should have been logged.");
+        assertEquals(0, writtenOnVirtualThreads.sum(), "Bytes written to the console on virtual threads");
+    }
+
+}
@@ -1,11 +1,23 @@
 package com.innowise.simulation;
 
+import com.innowise.model.RobotPart;
+import com.innowise.service.Faction;
+import com.innowise.service.Factory;
+import com.innowise.service.SimulationEventListener;
+import com.innowise.service.StealTopology;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.core.LoggerContext;
+import org.apache.logging.log4j.core.config.Configuration;
 import org.junit.jupiter.api.Test;
 
 import java.io.ByteArrayOutputStream;
 import java.io.PrintStream;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.IntStream;
 
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class RobotWarSimulatorTest {
@@ -23,6 +35,7 @@ class RobotWarSimulatorTest {
         try {
             assertDoesNotThrow(RobotWarSimulator::startSimulation,
                     "The main simulation method should not throw any exceptions.");
+            drainLog();
 
             String output = outContent.toString();
             assertTrue(output.contains("Simulation finished!"), "The simulation output should indicate that it finished.");
@@ -32,4 +45,89 @@ class RobotWarSimulatorTest {
         }
     }
 
-}
\ No newline at end of file
+    /**
+     * Checks that every per-day message is printed before the final results,
+     * even though messages are written by a background thread.
+     */
+    @Test
+    void testStartSimulationPrintsDaysBeforeResults() {
+        PrintStream originalOut = System.out;
+        ByteArrayOutputStream outContent = new ByteArrayOutputStream();
+        System.setOut(new PrintStream(outContent));
+
+        try {
+            RobotWarSimulator.startSimulation();
+            drainLog();
+
+            String output = outContent.toString();
+            int finished = output.indexOf("Simulation finished!");
+            int verdict = output.indexOf("FINAL VERDICT");
+            assertTrue(output.contains("--- Day 100 ---"), "The output should contain the last day.");
+            assertTrue(output.lastIndexOf("--- Day ") < finished, "A day was printed after the results.");
+            assertTrue(output.lastIndexOf("[FACTORY]") < finished, "A factory report was printed after the results.");
+            assertTrue(output.lastIndexOf("parts") < verdict, "A faction report was printed after the verdict.");
+            assertTrue(output.indexOf("--- Stats for Faction") > finished, "Faction stats should follow the results header.");
+        } finally {
+            System.setOut(originalOut);
+        }
+    }
+
+    /**
+     * Checks that per-day messages and final results share the same appenders,
+     * so no result can overtake a queued per-day message.
+     */
+    @Test
+    void testSimulationLoggersShareAppenders() {
+        Configuration configuration = ((LoggerContext) LogManager.getContext(false)).getConfiguration();
+
+        Set<String> results = configuration.getLoggerConfig(RobotWarSimulator.class.getName()).getAppenders().keySet();
+        for (String name : List.of(Factory.class.getName(), Faction.class.getName())) {
+            assertEquals(results, configuration.getLoggerConfig(name).getAppenders().keySet(), name);
+        }
+    }
+
+    /**
+     * Runs many factions against several factories and checks that no faction
+     * collects more than it may carry over the simulated days.
+     */
+    @Test
+    void testRunSimulationWithManyFactionsAndFactories() {
+        List<String> names = IntStream.range(0, 200).mapToObj(i -> "Faction-" + i).toList();
+
+        List<Faction> factions = RobotWarSimulator.runSimulation(4, names, 3);
+
+        assertEquals(names, factions.stream().map(Faction::getName).toList());
+        for (Faction faction : factions) {
+            int collected = 0;
+            for (RobotPart part : RobotPart.getRobotParts()) {
+                collected += faction.getCollectedParts().get(part);
+            }
+            assertTrue(collected <= 3 * 5, "Faction collected " + collected + " parts");
+        }
+    }
+
+    /**
+     * Runs two factions against many factories. Stealing from all of them supplies
+     * both factions with a full load every day, far more than their home factories produce.
+     */
+    @Test
+    void testRunSimulationStealingFromAllFactories() {
+        List<Faction> factions = RobotWarSimulator.runSimulation(16, List.of("World", "Wednesday"), 10,
+                ExecutionMode.PLATFORM, StealTopology.ALL, SimulationEventListener.NONE);
+
+        for (Faction faction : factions) {
+            int collected = faction.getCollectedParts().values().stream().mapToInt(Integer::intValue).sum();
+            assertEquals(10 * 5, collected, faction.getName());
+        }
+    }
+
+    /**
+     * Stops and restarts the logger context, which writes out every queued message.
+     */
+    private static void drainLog() {
+        LoggerContext context = (LoggerContext) LogManager.getContext(false);
+        context.stop();
+        context.start();
+    }
+
+}